@@ -0,0 +1,37 @@
+package com.talentiq.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Workers draining the email outbox. Each runs a dispatch loop; extra wake-ups beyond the queue are
+ * dropped, since a running worker or the scheduled poll picks up the entries anyway.
+ */
+@Configuration
+public class EmailOutboxConfig {
+
+    @Value("${email.outbox.workers:2}")
+    private int workers;
+
+    @Bean(name = "emailOutboxExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor emailOutboxExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers), threadFactory, new ThreadPoolExecutor.DiscardPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.talentiq.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker pool for MX lookups, so a slow resolver ties up these threads rather than request threads.
+ * Bounded: when it is full, registrations skip the lookup (see EmailValidationService).
+ */
+@Configuration
+public class EmailValidationConfig {
+
+    @Value("${email.validation.dns-threads:4}")
+    private int threads;
+
+    @Value("${email.validation.dns-queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean(name = "dnsLookupExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor dnsLookupExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "dns-lookup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
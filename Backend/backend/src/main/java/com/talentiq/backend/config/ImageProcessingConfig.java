@@ -0,0 +1,42 @@
+package com.talentiq.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker pool for profile picture thumbnails.
+ * Small and bounded: when the queue is full new jobs are rejected and the
+ * original picture keeps being served until the next upload.
+ */
+@Configuration
+public class ImageProcessingConfig {
+
+    @Value("${image.processing.threads:2}")
+    private int threads;
+
+    @Value("${image.processing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean(name = "imageProcessingExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor imageProcessingExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "image-processing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
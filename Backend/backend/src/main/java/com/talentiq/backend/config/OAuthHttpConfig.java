@@ -0,0 +1,27 @@
+package com.talentiq.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Shared HTTP client for OAuth provider APIs. The JDK client pools connections and keeps them alive,
+ * so repeated logins reuse the TLS connection instead of opening a new one per call.
+ */
+@Configuration
+public class OAuthHttpConfig {
+
+    @Value("${oauth.http.connect-timeout-ms:3000}")
+    private long connectTimeoutMillis;
+
+    @Bean(name = "oauthHttpClient")
+    public HttpClient oauthHttpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.talentiq.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker pool for bulk resume imports.
+ * Parsing is CPU bound, so the pool is sized to the cores unless overridden;
+ * callers bound the number of queued entries themselves (see BulkResumeImportService).
+ */
+@Configuration
+public class ResumeImportConfig {
+
+    @Value("${resume.import.parse-concurrency:0}")
+    private int parseConcurrency;
+
+    @Bean(name = "resumeParseExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor resumeParseExecutor() {
+        int threads = parseConcurrency > 0 ? parseConcurrency : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "resume-parse-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
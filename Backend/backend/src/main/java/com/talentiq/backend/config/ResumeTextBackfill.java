@@ -0,0 +1,73 @@
+package com.talentiq.backend.config;
+
+import com.talentiq.backend.model.CompressedTextConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves resume text from the legacy resumes.extracted_text column into the
+ * compressed resume_text side table. Runs at startup, in small batches, and is a
+ * no-op once the legacy column is empty (or was never created).
+ */
+@Component
+public class ResumeTextBackfill implements CommandLineRunner {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int PREVIEW_LENGTH = 200;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Override
+    public void run(String... args) {
+        if (!legacyColumnExists()) {
+            return;
+        }
+
+        int moved = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, extracted_text FROM resumes WHERE extracted_text IS NOT NULL ORDER BY id LIMIT ?",
+                    BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> inserts = new ArrayList<>(rows.size());
+            List<Object[]> updates = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                Long id = ((Number) row.get("id")).longValue();
+                String text = (String) row.get("extracted_text");
+                inserts.add(new Object[]{id, converter.convertToDatabaseColumn(text), text.length()});
+                updates.add(new Object[]{text.substring(0, Math.min(PREVIEW_LENGTH, text.length())), id});
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO resume_text (resume_id, content, original_length) VALUES (?, ?, ?) ON CONFLICT (resume_id) DO NOTHING",
+                    inserts);
+            jdbcTemplate.batchUpdate(
+                    "UPDATE resumes SET text_preview = ?, extracted_text = NULL WHERE id = ?",
+                    updates);
+            moved += rows.size();
+        }
+
+        if (moved > 0) {
+            System.out.println("✅ Moved extracted text of " + moved + " resumes to resume_text");
+        }
+    }
+
+    private boolean legacyColumnExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = 'resumes' AND column_name = 'extracted_text'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.talentiq.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. the storage outbox dispatcher)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
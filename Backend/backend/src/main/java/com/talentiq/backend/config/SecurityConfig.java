@@ -1,9 +1,14 @@
 package com.talentiq.backend.config;
 
+import com.talentiq.backend.security.BoundedPasswordEncoder;
 import com.talentiq.backend.security.JwtAuthenticationFilter;
+import com.talentiq.backend.security.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -11,13 +16,14 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
@@ -29,12 +35,29 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Autowired
     private CorsConfigurationSource corsConfigurationSource;
 
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    @Autowired
+    @Qualifier("passwordHashingExecutor")
+    private ThreadPoolExecutor passwordHashingExecutor;
+
+    // Raising this rehashes each user's password at their next login
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.max-wait-ms:10000}")
+    private long passwordMaxWaitMillis;
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(bcryptStrength, passwordHashingExecutor, passwordMaxWaitMillis, 2);
     }
 
     @Bean
@@ -42,6 +65,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
@@ -73,7 +97,9 @@ public class SecurityConfig {
                                 "/api/auth/verify-otp",
                                 "/api/auth/resend-otp",
                                 "/api/auth/forgot-password",
-                                "/api/auth/reset-password"
+                                "/api/auth/reset-password",
+                                "/api/auth/refresh",
+                                "/api/auth/logout"
                         ).permitAll()
 
                         // OAuth endpoints
@@ -82,8 +108,8 @@ public class SecurityConfig {
                         // Test endpoints (remove in production if not needed)
                         .requestMatchers("/api/test/**").permitAll()
 
-                        // Public profile pictures
-                        .requestMatchers("/api/user/profile-picture/**").permitAll()
+                        // Public profile pictures (read-only; uploads and deletes require authentication)
+                        .requestMatchers(HttpMethod.GET, "/api/user/profile-picture/**").permitAll()
 
                         // Health check endpoints (for Render/monitoring)
                         .requestMatchers("/actuator/health", "/health", "/api/health").permitAll()
@@ -108,8 +134,11 @@ public class SecurityConfig {
                         // Matching system - accessible to job seekers, recruiters, and admins
                         .requestMatchers("/api/match/**").hasAnyRole("JOB_SEEKER", "RECRUITER", "ADMIN")
 
+                        // Local storage file URLs - access is checked by the URL signature
+                        .requestMatchers("/api/files/**").permitAll()
+
                         // File uploads (AWS S3) - authenticated users only
-                        .requestMatchers("/api/upload/**", "/api/files/**").authenticated()
+                        .requestMatchers("/api/upload/**").authenticated()
 
                         // User profile management (requires authentication)
                         .requestMatchers("/api/user/**").authenticated()
@@ -126,6 +155,8 @@ public class SecurityConfig {
 
         // Add JWT filter before UsernamePasswordAuthenticationFilter
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // Throttle expensive endpoints before any token work
+        http.addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -3,11 +3,16 @@ package com.talentiq.backend.controller;
 import com.talentiq.backend.dto.AdminStatsResponse;
 import com.talentiq.backend.dto.JobResponse;
 import com.talentiq.backend.dto.PagedResponse;
+import com.talentiq.backend.dto.PasswordHashingStats;
+import com.talentiq.backend.dto.StorageGcStatus;
 import com.talentiq.backend.dto.UpdateRoleRequest;
 import com.talentiq.backend.dto.UserManagementResponse;
+import com.talentiq.backend.security.BoundedPasswordEncoder;
 import com.talentiq.backend.service.AdminService;
+import com.talentiq.backend.service.StorageGarbageCollector;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +28,40 @@ public class AdminController {
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private StorageGarbageCollector storageGarbageCollector;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    // Progress of the orphaned storage sweep
+    @GetMapping("/storage/gc")
+    public ResponseEntity<StorageGcStatus> getStorageGcStatus() {
+        return ResponseEntity.ok(storageGarbageCollector.getStatus());
+    }
+
+    // Start an orphaned storage sweep now (dryRun only counts orphans)
+    @PostMapping("/storage/gc")
+    public ResponseEntity<StorageGcStatus> startStorageGc(@RequestParam(defaultValue = "true") boolean dryRun) {
+        if (!storageGarbageCollector.start(dryRun)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(storageGarbageCollector.getStatus());
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(storageGarbageCollector.getStatus());
+    }
+
+    // Stop the running sweep after the current page
+    @PostMapping("/storage/gc/stop")
+    public ResponseEntity<StorageGcStatus> stopStorageGc() {
+        storageGarbageCollector.requestStop();
+        return ResponseEntity.ok(storageGarbageCollector.getStatus());
+    }
+
+    // Load and latency of the password hashing pool
+    @GetMapping("/password-hashing")
+    public ResponseEntity<PasswordHashingStats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.getStats());
+    }
+
     // Get all users with pagination
     @GetMapping("/users")
     public ResponseEntity<PagedResponse<UserManagementResponse>> getAllUsers(
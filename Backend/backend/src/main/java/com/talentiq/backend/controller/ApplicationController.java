@@ -5,6 +5,8 @@ import com.talentiq.backend.dto.ApplicationResponse;
 import com.talentiq.backend.dto.JobStatsResponse;
 import com.talentiq.backend.model.Application;
 import com.talentiq.backend.model.User;
+import com.talentiq.backend.security.AuthenticatedUser;
+import com.talentiq.backend.security.CurrentUser;
 import com.talentiq.backend.service.ApplicationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,7 +30,7 @@ public class ApplicationController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<ApplicationResponse> createApplication(
             @Valid @RequestBody ApplicationRequest request,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return ResponseEntity.ok(applicationService.createApplication(request, user));
     }
 
@@ -36,8 +38,8 @@ public class ApplicationController {
     @GetMapping("/my-applications")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<List<ApplicationResponse>> getMyApplications(
-            @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(applicationService.getUserApplications(user));
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(applicationService.getUserApplications(user.getId()));
     }
 
     // Recruiter views applications for a specific job
@@ -45,16 +47,19 @@ public class ApplicationController {
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<List<ApplicationResponse>> getApplicationsForJob(
             @PathVariable Long jobId,
-            @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(applicationService.getApplicationsForJob(jobId, user));
+            @RequestParam(required = false) Integer minYears,
+            @RequestParam(required = false) String skill,
+            @RequestParam(defaultValue = "false") boolean sortByFit,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(applicationService.getApplicationsForJob(jobId, user.getId(), minYears, skill, sortByFit));
     }
 
     // Recruiter views all applications across all their jobs
     @GetMapping("/recruiter/all")
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<List<ApplicationResponse>> getAllRecruiterApplications(
-            @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(applicationService.getAllRecruiterApplications(user));
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(applicationService.getAllRecruiterApplications(user.getId()));
     }
 
     // Recruiter updates application status
@@ -64,7 +69,7 @@ public class ApplicationController {
             @PathVariable Long id,
             @RequestParam Application.ApplicationStatus status,
             @RequestParam(required = false) String notes,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return ResponseEntity.ok(applicationService.updateApplicationStatus(id, status, notes, user));
     }
 
@@ -73,7 +78,7 @@ public class ApplicationController {
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<JobStatsResponse> getJobStats(
             @PathVariable Long jobId,
-            @AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(applicationService.getJobStats(jobId, user));
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(applicationService.getJobStats(jobId, user.getId()));
     }
 }
\ No newline at end of file
@@ -2,6 +2,10 @@ package com.talentiq.backend.controller;
 
 import com.talentiq.backend.dto.*;
 import com.talentiq.backend.model.User;
+import com.talentiq.backend.security.AuthenticatedUser;
+import com.talentiq.backend.security.CurrentUser;
+import com.talentiq.backend.security.RateLimitPolicy;
+import com.talentiq.backend.security.RateLimiter;
 import com.talentiq.backend.service.AuthService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,11 +24,16 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    // Per-account limits are checked here, before the transactional service takes a pooled connection
+    @Autowired
+    private RateLimiter rateLimiter;
+
     /**
      * Register new user (sends OTP)
      */
     @PostMapping("/register")
     public ResponseEntity<Map<String, String>> register(@Valid @RequestBody RegisterRequest request) {
+        rateLimiter.check(RateLimitPolicy.REGISTER_ACCOUNT, request.getEmail().toLowerCase());
         return ResponseEntity.ok(authService.register(request));
     }
 
@@ -33,6 +42,7 @@ public class AuthController {
      */
     @PostMapping("/verify-otp")
     public ResponseEntity<AuthResponse> verifyOtp(@Valid @RequestBody VerifyOtpRequest request) {
+        rateLimiter.check(RateLimitPolicy.VERIFY_OTP_ACCOUNT, request.getEmail().toLowerCase());
         return ResponseEntity.ok(authService.verifyOtp(request));
     }
 
@@ -41,6 +51,7 @@ public class AuthController {
      */
     @PostMapping("/resend-otp")
     public ResponseEntity<Map<String, String>> resendOtp(@Valid @RequestBody ResendOtpRequest request) {
+        rateLimiter.check(RateLimitPolicy.RESEND_OTP_ACCOUNT, request.getEmail().toLowerCase());
         return ResponseEntity.ok(authService.resendOtp(request));
     }
 
@@ -49,9 +60,28 @@ public class AuthController {
      */
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+        rateLimiter.check(RateLimitPolicy.LOGIN_ACCOUNT, request.getEmail().toLowerCase());
         return ResponseEntity.ok(authService.login(request));
     }
 
+    /**
+     * Exchange a refresh token for a new access token (the refresh token is rotated)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    /**
+     * Logout: revoke the refresh token and the current access token
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestBody(required = false) RefreshTokenRequest request,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(authService.logout(request, user));
+    }
+
     /**
      * Check if OAuth user exists (for login/register flow)
      */
@@ -81,6 +111,7 @@ public class AuthController {
      */
     @PostMapping("/forgot-password")
     public ResponseEntity<Map<String, String>> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
+        rateLimiter.check(RateLimitPolicy.FORGOT_PASSWORD_ACCOUNT, request.getEmail().toLowerCase());
         return ResponseEntity.ok(authService.forgotPassword(request));
     }
 
@@ -98,7 +129,7 @@ public class AuthController {
     @PostMapping("/change-password")
     public ResponseEntity<Map<String, String>> changePassword(
             @Valid @RequestBody ChangePasswordRequest request,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return ResponseEntity.ok(authService.changePassword(request, user));
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.talentiq.backend.controller;
+
+import com.talentiq.backend.storage.LocalStorageBackend;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serves and receives files for the local storage backend.
+ * Access is controlled by the signed URLs LocalStorageBackend hands out, not by the JWT,
+ * so these URLs work from img tags and direct browser uploads just like S3 presigned URLs.
+ */
+@RestController
+@RequestMapping("/api/files")
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class FileController {
+
+    @Autowired
+    private LocalStorageBackend localStorageBackend;
+
+    @RequestMapping(value = "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void getFile(@RequestParam(required = false) Long expires,
+                        @RequestParam(required = false) String signature,
+                        HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        String key = keyFromRequest(request);
+
+        if (!localStorageBackend.isPubliclyReadable(key)
+                && !localStorageBackend.verifyDownload(key, expires, signature)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+
+        localStorageBackend.serve(key, request, response);
+    }
+
+    @PutMapping("/**")
+    public ResponseEntity<Map<String, String>> putFile(@RequestParam(required = false) Long expires,
+                                                       @RequestParam(required = false) String signature,
+                                                       HttpServletRequest request) {
+        String key = keyFromRequest(request);
+        Map<String, String> body = new HashMap<>();
+
+        if (!localStorageBackend.verifyUpload(key, request.getContentType(), request.getContentLengthLong(), expires, signature)) {
+            body.put("error", "Invalid or expired upload URL");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
+        }
+
+        try {
+            localStorageBackend.receiveUpload(key, request.getInputStream(), request.getContentLengthLong());
+            return ResponseEntity.ok().build();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Direct upload failed for " + key + ": " + e.getMessage());
+            body.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(body);
+        }
+    }
+
+    private String keyFromRequest(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String key = path.substring(path.indexOf(LocalStorageBackend.FILES_PATH) + LocalStorageBackend.FILES_PATH.length());
+        return URLDecoder.decode(key, StandardCharsets.UTF_8);
+    }
+}
@@ -4,13 +4,16 @@ import com.talentiq.backend.dto.JobRequest;
 import com.talentiq.backend.dto.JobResponse;
 import com.talentiq.backend.dto.PagedResponse;
 import com.talentiq.backend.model.User;
+import com.talentiq.backend.security.CurrentUser;
 import com.talentiq.backend.service.JobService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -19,13 +22,16 @@ import java.util.List;
 
 public class JobController {
 
+    // Browsers keep the copy but revalidate it every time; a match costs one small query and a 304
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private JobService jobService;
 
     @PostMapping
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<JobResponse> createJob(@Valid @RequestBody JobRequest request,
-                                                 @AuthenticationPrincipal User user) {
+                                                 @CurrentUser User user) {
         return ResponseEntity.ok(jobService.createJob(request, user));
     }
 
@@ -41,27 +47,43 @@ public class JobController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection) {
-        return ResponseEntity.ok(jobService.getAllJobsPaginated(page, size, sortBy, sortDirection));
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            WebRequest webRequest) {
+        String eTag = jobService.getJobListETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(eTag).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(eTag)
+                .body(jobService.getAllJobsPaginated(page, size, sortBy, sortDirection));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id) {
-        return ResponseEntity.ok(jobService.getJobResponseById(id));
+    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = jobService.getJobETag(id);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).eTag(eTag).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(REVALIDATE);
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        return response.body(jobService.getJobResponseById(id));
     }
 
     @PutMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<JobResponse> updateJob(@PathVariable Long id,
                                                  @Valid @RequestBody JobRequest request,
-                                                 @AuthenticationPrincipal User user) {
+                                                 @CurrentUser User user) {
         return ResponseEntity.ok(jobService.updateJob(id, request, user));
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<Void> deleteJob(@PathVariable Long id,
-                                          @AuthenticationPrincipal User user) {
+                                          @CurrentUser User user) {
         jobService.deleteJob(id, user);
         return ResponseEntity.ok().build();
     }
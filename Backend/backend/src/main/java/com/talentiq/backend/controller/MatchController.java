@@ -1,8 +1,11 @@
 package com.talentiq.backend.controller;
 
+import com.talentiq.backend.dto.JobRecommendation;
 import com.talentiq.backend.dto.MatchRequest;
 import com.talentiq.backend.dto.MatchResponse;
 import com.talentiq.backend.model.User;
+import com.talentiq.backend.security.AuthenticatedUser;
+import com.talentiq.backend.security.CurrentUser;
 import com.talentiq.backend.service.MatchService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,7 +28,7 @@ public class MatchController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<MatchResponse> saveMatch(
             @Valid @RequestBody MatchRequest request,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return ResponseEntity.ok(matchService.saveMatch(request, user));
     }
 
@@ -34,15 +37,25 @@ public class MatchController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<MatchResponse> saveMatchAlt(
             @Valid @RequestBody MatchRequest request,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return ResponseEntity.ok(matchService.saveMatch(request, user));
     }
 
     // Get all saved jobs for the current user
     @GetMapping("/user")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
-    public ResponseEntity<List<MatchResponse>> getUserMatches(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(matchService.getUserMatches(user));
+    public ResponseEntity<List<MatchResponse>> getUserMatches(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(matchService.getUserMatches(user.getId()));
+    }
+
+    // Jobs that best fit one of the current user's resumes
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<List<JobRecommendation>> getRecommendations(
+            @RequestParam Long resumeId,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(matchService.recommendJobs(resumeId, user.getId(), limit));
     }
 
     // Delete a saved job
@@ -50,7 +63,7 @@ public class MatchController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<Void> deleteMatch(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         matchService.deleteMatch(id, user);
         return ResponseEntity.ok().build();
     }
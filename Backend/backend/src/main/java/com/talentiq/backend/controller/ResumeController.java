@@ -1,9 +1,19 @@
 package com.talentiq.backend.controller;
 
+import com.talentiq.backend.dto.BulkResumeUploadResponse;
 import com.talentiq.backend.dto.ResumeResponse;
-import com.talentiq.backend.model.Resume;
+import com.talentiq.backend.dto.UploadCompleteRequest;
+import com.talentiq.backend.dto.UploadUrlRequest;
+import com.talentiq.backend.dto.UploadUrlResponse;
 import com.talentiq.backend.model.User;
+import com.talentiq.backend.security.AuthenticatedUser;
+import com.talentiq.backend.security.CurrentUser;
+import com.talentiq.backend.security.RateLimitPolicy;
+import com.talentiq.backend.security.RateLimiter;
+import com.talentiq.backend.service.BulkResumeImportService;
 import com.talentiq.backend.service.ResumeService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -11,6 +21,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,20 +33,56 @@ public class ResumeController {
     @Autowired
     private ResumeService resumeService;
 
+    @Autowired
+    private BulkResumeImportService bulkResumeImportService;
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
     // Upload resume with automatic text extraction
     @PostMapping("/upload")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<ResumeResponse> uploadResume(
             @RequestParam("file") MultipartFile file,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
+        rateLimiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, user.getId());
         return ResponseEntity.ok(resumeService.uploadResume(file, user));
     }
 
+    // Get a presigned URL to upload a resume directly to S3
+    @PostMapping("/upload-url")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<UploadUrlResponse> createUploadUrl(
+            @Valid @RequestBody UploadUrlRequest request,
+            @CurrentUser User user) {
+        return ResponseEntity.ok(resumeService.createDirectUploadUrl(request, user));
+    }
+
+    // Confirm a direct upload; the resume is parsed and saved now
+    @PostMapping("/upload-complete")
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<ResumeResponse> completeUpload(
+            @Valid @RequestBody UploadCompleteRequest request,
+            @CurrentUser User user) {
+        rateLimiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, user.getId());
+        return ResponseEntity.ok(resumeService.completeDirectUpload(request, user));
+    }
+
+    // Bulk upload: request body is a ZIP of resumes, unpacked while it streams in
+    @PostMapping(value = "/bulk-upload", consumes = {"application/zip", "application/x-zip-compressed", "application/octet-stream"})
+    @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
+    public ResponseEntity<BulkResumeUploadResponse> bulkUploadResumes(
+            HttpServletRequest request,
+            @CurrentUser User user) throws IOException {
+        rateLimiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, user.getId());
+        return ResponseEntity.ok(bulkResumeImportService.importZip(request.getInputStream(), user));
+    }
+
     // Get user's resumes
     @GetMapping
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
-    public ResponseEntity<List<ResumeResponse>> getUserResumes(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(resumeService.getUserResumes(user));
+    public ResponseEntity<List<ResumeResponse>> getUserResumes(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(resumeService.getUserResumes(user.getId()));
     }
 
     // Get extracted text from a specific resume
@@ -43,9 +90,8 @@ public class ResumeController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<Map<String, String>> getExtractedText(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
-        Resume resume = resumeService.getResumeById(id, user);
-        String extractedText = resume.getExtractedText();
+            @CurrentUser User user) {
+        String extractedText = resumeService.getExtractedText(id, user);
 
         Map<String, String> response = new HashMap<>();
         response.put("resumeId", id.toString());
@@ -58,11 +104,11 @@ public class ResumeController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<Map<String, String>> getResumeUrl(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         String s3Url = resumeService.getResumeFileUrl(id, user);
         Map<String, String> response = new HashMap<>();
         response.put("url", s3Url);
-        response.put("message", "Resume is now served directly from S3");
+        response.put("message", "Presigned S3 URL, valid for a limited time");
         return ResponseEntity.ok(response);
     }
 
@@ -71,7 +117,7 @@ public class ResumeController {
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<Map<String, String>> getResumeUrlForRecruiter(
             @PathVariable Long id,
-            @AuthenticationPrincipal User recruiter) {
+            @CurrentUser User recruiter) {
         System.out.println("🔍 ResumeController - Recruiter requesting resume URL:");
         System.out.println("   Resume ID: " + id);
         System.out.println("   Recruiter ID: " + recruiter.getId());
@@ -82,7 +128,7 @@ public class ResumeController {
         Map<String, String> response = new HashMap<>();
         response.put("url", s3Url);
         response.put("filename", filename);
-        response.put("message", "Resume is now served directly from S3");
+        response.put("message", "Presigned S3 URL, valid for a limited time");
         return ResponseEntity.ok(response);
     }
 
@@ -90,7 +136,7 @@ public class ResumeController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<Void> deleteResume(@PathVariable Long id,
-                                             @AuthenticationPrincipal User user) {
+                                             @CurrentUser User user) {
         resumeService.deleteResume(id, user);
         return ResponseEntity.ok().build();
     }
@@ -103,7 +149,7 @@ public class ResumeController {
     @PreAuthorize("hasAuthority('ROLE_JOB_SEEKER')")
     public ResponseEntity<Map<String, String>> downloadResumeFile(
             @PathVariable Long id,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         String s3Url = resumeService.getResumeFileUrl(id, user);
         Map<String, String> response = new HashMap<>();
         response.put("url", s3Url);
@@ -116,7 +162,7 @@ public class ResumeController {
     @PreAuthorize("hasAuthority('ROLE_RECRUITER')")
     public ResponseEntity<Map<String, String>> downloadResumeFileForRecruiter(
             @PathVariable Long id,
-            @AuthenticationPrincipal User recruiter) {
+            @CurrentUser User recruiter) {
         String s3Url = resumeService.getResumeFileUrlForRecruiter(id, recruiter);
         String filename = resumeService.getResumeFilenameForRecruiter(id, recruiter);
 
@@ -3,13 +3,19 @@ package com.talentiq.backend.controller;
 import com.talentiq.backend.dto.ChangePasswordRequest;
 import com.talentiq.backend.dto.ProfileResponse;
 import com.talentiq.backend.dto.UpdateProfileRequest;
+import com.talentiq.backend.dto.UploadCompleteRequest;
+import com.talentiq.backend.dto.UploadUrlRequest;
 import com.talentiq.backend.model.User;
 import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.security.AuthenticatedUser;
+import com.talentiq.backend.security.CurrentUser;
 import com.talentiq.backend.service.UserService;
+import com.talentiq.backend.storage.LocalStorageBackend;
+import com.talentiq.backend.storage.StorageBackend;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,11 +23,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -36,17 +41,20 @@ public class UserController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private StorageBackend storageBackend;
+
     // Get current user profile
     @GetMapping("/profile")
-    public ResponseEntity<ProfileResponse> getCurrentUserProfile(@AuthenticationPrincipal User user) {
-        return ResponseEntity.ok(userService.getCurrentUserProfile(user));
+    public ResponseEntity<ProfileResponse> getCurrentUserProfile(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(userService.getCurrentUserProfile(user.getId()));
     }
 
     // Update user profile
     @PutMapping("/profile")
     public ResponseEntity<ProfileResponse> updateProfile(
             @Valid @RequestBody UpdateProfileRequest request,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         return ResponseEntity.ok(userService.updateProfile(request, user));
     }
 
@@ -54,10 +62,9 @@ public class UserController {
     @PutMapping("/password")
     public ResponseEntity<Map<String, String>> changePassword(
             @Valid @RequestBody ChangePasswordRequest request,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         try {
-            userService.changePassword(request, user);
-            Map<String, String> response = new HashMap<>();
+            Map<String, String> response = new HashMap<>(userService.changePassword(request, user));
             response.put("message", "Password changed successfully");
             return ResponseEntity.ok(response);
         } catch (RuntimeException e) {
@@ -71,7 +78,7 @@ public class UserController {
     @PostMapping("/profile-picture")
     public ResponseEntity<?> uploadProfilePicture(
             @RequestParam("file") MultipartFile file,
-            @AuthenticationPrincipal User user) {
+            @CurrentUser User user) {
         try {
             ProfileResponse response = userService.uploadProfilePicture(file, user);
             return ResponseEntity.ok(response);
@@ -82,56 +89,74 @@ public class UserController {
         }
     }
 
+    // Get a presigned URL to upload a profile picture directly to S3
+    @PostMapping("/profile-picture/upload-url")
+    public ResponseEntity<?> createProfilePictureUploadUrl(
+            @Valid @RequestBody UploadUrlRequest request,
+            @CurrentUser User user) {
+        try {
+            return ResponseEntity.ok(userService.createProfilePictureUploadUrl(request, user));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
+    // Confirm a direct profile picture upload
+    @PostMapping("/profile-picture/upload-complete")
+    public ResponseEntity<?> completeProfilePictureUpload(
+            @Valid @RequestBody UploadCompleteRequest request,
+            @CurrentUser User user) {
+        try {
+            return ResponseEntity.ok(userService.completeProfilePictureUpload(request, user));
+        } catch (RuntimeException e) {
+            Map<String, String> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+    }
+
     // Get profile picture (public access for any user to view profile pictures)
     // This endpoint is used by recruiters to view applicant profile pictures
     @GetMapping("/profile-picture/{userId}")
-    public ResponseEntity<Resource> getProfilePicture(@PathVariable Long userId) {
-        try {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+    public void getProfilePicture(@PathVariable Long userId,
+                                  HttpServletRequest request,
+                                  HttpServletResponse response) throws IOException {
+        // Cheap check first: a cached copy costs one column lookup and a 304
+        String eTag = userService.getProfilePictureETag(userId);
+        if (eTag == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            return;
+        }
 
-            if (user.getProfilePicturePath() == null) {
-                return ResponseEntity.notFound().build();
-            }
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || user.getProfilePicturePath() == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
 
-            Path filePath = Paths.get(user.getProfilePicturePath());
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = Files.probeContentType(filePath);
-                if (contentType == null) {
-                    // Fallback content type detection based on filename
-                    String filename = resource.getFilename();
-                    if (filename != null) {
-                        if (filename.toLowerCase().endsWith(".png")) {
-                            contentType = "image/png";
-                        } else if (filename.toLowerCase().endsWith(".jpg") || filename.toLowerCase().endsWith(".jpeg")) {
-                            contentType = "image/jpeg";
-                        } else if (filename.toLowerCase().endsWith(".gif")) {
-                            contentType = "image/gif";
-                        } else {
-                            contentType = "application/octet-stream";
-                        }
-                    } else {
-                        contentType = "application/octet-stream";
-                    }
-                }
-
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
+        // Local files are streamed straight from disk; anything else is fetched from its own URL
+        if (storageBackend instanceof LocalStorageBackend) {
+            LocalStorageBackend localStorage = (LocalStorageBackend) storageBackend;
+            String key = localStorage.keyOf(user.getProfilePicturePath());
+            if (key == null) {
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
             }
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+            localStorage.serve(key, request, response);
+        } else {
+            response.sendRedirect(user.getProfilePicturePath());
         }
     }
 
     // Delete profile picture
     @DeleteMapping("/profile-picture")
-    public ResponseEntity<Map<String, String>> deleteProfilePicture(@AuthenticationPrincipal User user) {
+    public ResponseEntity<Map<String, String>> deleteProfilePicture(@CurrentUser User user) {
         userService.deleteProfilePicture(user);
         Map<String, String> response = new HashMap<>();
         response.put("message", "Profile picture deleted successfully");
@@ -143,7 +168,7 @@ public class UserController {
      * This endpoint allows authenticated users to permanently delete their account
      */
     @DeleteMapping("/account")
-    public ResponseEntity<Map<String, String>> deleteAccount(@AuthenticationPrincipal User user) {
+    public ResponseEntity<Map<String, String>> deleteAccount(@CurrentUser User user) {
         try {
             userService.deleteUserAccount(user.getId());
             Map<String, String> response = new HashMap<>();
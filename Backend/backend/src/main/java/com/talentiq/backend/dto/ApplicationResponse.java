@@ -2,6 +2,7 @@ package com.talentiq.backend.dto;
 
 import com.talentiq.backend.model.Application;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public class ApplicationResponse {
 
@@ -13,6 +14,7 @@ public class ApplicationResponse {
     private String userName;
     private String userEmail;
     private String userProfilePicturePath;
+    private Map<String, String> userProfilePictureUrls;  // sm / md / lg thumbnails
     private String userPhone;
     private String userLocation;
     private String userBio;
@@ -23,6 +25,10 @@ public class ApplicationResponse {
     private LocalDateTime appliedAt;
     private LocalDateTime reviewedAt;
     private String recruiterNotes;
+    // Structured resume fields (see ResumeFieldExtractor) and their fit with the job
+    private Integer resumeYearsOfExperience;
+    private String resumeSkills;
+    private Integer fitScore;
 
     public ApplicationResponse() {
     }
@@ -174,6 +180,14 @@ public class ApplicationResponse {
         this.userProfilePicturePath = userProfilePicturePath;
     }
 
+    public Map<String, String> getUserProfilePictureUrls() {
+        return userProfilePictureUrls;
+    }
+
+    public void setUserProfilePictureUrls(Map<String, String> userProfilePictureUrls) {
+        this.userProfilePictureUrls = userProfilePictureUrls;
+    }
+
     public String getUserPhone() {
         return userPhone;
     }
@@ -197,4 +211,28 @@ public class ApplicationResponse {
     public void setUserBio(String userBio) {
         this.userBio = userBio;
     }
+
+    public Integer getResumeYearsOfExperience() {
+        return resumeYearsOfExperience;
+    }
+
+    public void setResumeYearsOfExperience(Integer resumeYearsOfExperience) {
+        this.resumeYearsOfExperience = resumeYearsOfExperience;
+    }
+
+    public String getResumeSkills() {
+        return resumeSkills;
+    }
+
+    public void setResumeSkills(String resumeSkills) {
+        this.resumeSkills = resumeSkills;
+    }
+
+    public Integer getFitScore() {
+        return fitScore;
+    }
+
+    public void setFitScore(Integer fitScore) {
+        this.fitScore = fitScore;
+    }
 }
\ No newline at end of file
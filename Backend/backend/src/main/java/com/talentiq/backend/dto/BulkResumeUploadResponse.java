@@ -0,0 +1,120 @@
+package com.talentiq.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkResumeUploadResponse {
+    private int totalFiles;
+    private int imported;
+    private int failed;
+    private long elapsedMs;
+    private List<FileResult> results = new ArrayList<>();
+
+    public BulkResumeUploadResponse() {
+    }
+
+    public void addResult(FileResult result) {
+        results.add(result);
+        totalFiles++;
+        if (result.getResumeId() != null) {
+            imported++;
+        } else {
+            failed++;
+        }
+    }
+
+    // Getters and Setters
+    public int getTotalFiles() {
+        return totalFiles;
+    }
+
+    public void setTotalFiles(int totalFiles) {
+        this.totalFiles = totalFiles;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public List<FileResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<FileResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Outcome for a single entry of the uploaded archive
+     */
+    public static class FileResult {
+        private String filename;
+        private Long resumeId;
+        private String error;
+
+        public FileResult() {
+        }
+
+        public static FileResult success(String filename, Long resumeId) {
+            FileResult result = new FileResult();
+            result.filename = filename;
+            result.resumeId = resumeId;
+            return result;
+        }
+
+        public static FileResult failure(String filename, String error) {
+            FileResult result = new FileResult();
+            result.filename = filename;
+            result.error = error;
+            return result;
+        }
+
+        public String getFilename() {
+            return filename;
+        }
+
+        public void setFilename(String filename) {
+            this.filename = filename;
+        }
+
+        public Long getResumeId() {
+            return resumeId;
+        }
+
+        public void setResumeId(Long resumeId) {
+            this.resumeId = resumeId;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+
+        public boolean isSuccess() {
+            return resumeId != null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.talentiq.backend.dto;
+
+import java.util.List;
+
+public class JobRecommendation {
+
+    private Long jobId;
+    private String jobTitle;
+    private String jobCompany;
+    private String experienceLevel;
+    private int score;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+
+    public JobRecommendation() {
+    }
+
+    public JobRecommendation(Long jobId, String jobTitle, String jobCompany, String experienceLevel, int score,
+                             List<String> matchedSkills, List<String> missingSkills) {
+        this.jobId = jobId;
+        this.jobTitle = jobTitle;
+        this.jobCompany = jobCompany;
+        this.experienceLevel = experienceLevel;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+        this.missingSkills = missingSkills;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getJobCompany() {
+        return jobCompany;
+    }
+
+    public void setJobCompany(String jobCompany) {
+        this.jobCompany = jobCompany;
+    }
+
+    public String getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(String experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+
+    public List<String> getMissingSkills() {
+        return missingSkills;
+    }
+
+    public void setMissingSkills(List<String> missingSkills) {
+        this.missingSkills = missingSkills;
+    }
+}
@@ -10,7 +10,7 @@ public class MatchRequest {
     @NotNull(message = "Job ID is required")
     private Long jobId;
 
-    @NotNull(message = "Match score is required")
+    // Optional: defaults to the structured fit score (see ResumeJobScorer)
     private Double matchScore;
 
     private String analysisResult;
@@ -1,6 +1,7 @@
 package com.talentiq.backend.dto;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public class ProfileResponse {
 
@@ -11,6 +12,7 @@ public class ProfileResponse {
     private String authProvider;  // NEW: Added to expose auth provider to frontend
     private String profilePicturePath;
     private String profilePictureUrl;
+    private Map<String, String> profilePictureUrls;  // sm / md / lg thumbnails
     private String phone;
     private String location;
     private String bio;
@@ -96,6 +98,14 @@ public class ProfileResponse {
         this.profilePictureUrl = profilePictureUrl;
     }
 
+    public Map<String, String> getProfilePictureUrls() {
+        return profilePictureUrls;
+    }
+
+    public void setProfilePictureUrls(Map<String, String> profilePictureUrls) {
+        this.profilePictureUrls = profilePictureUrls;
+    }
+
     public String getPhone() {
         return phone;
     }
@@ -1,6 +1,7 @@
 package com.talentiq.backend.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class ResumeResponse {
     private Long id;
@@ -11,6 +12,10 @@ public class ResumeResponse {
     private LocalDateTime uploadedAt;
     private Long userId;
     private String extractedTextPreview; // First 200 characters
+    private Integer yearsOfExperience;
+    private List<String> skills;
+    private List<String> jobTitles;
+    private List<String> sections;
 
     public ResumeResponse() {
     }
@@ -90,4 +95,36 @@ public class ResumeResponse {
     public void setExtractedTextPreview(String extractedTextPreview) {
         this.extractedTextPreview = extractedTextPreview;
     }
+
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public List<String> getJobTitles() {
+        return jobTitles;
+    }
+
+    public void setJobTitles(List<String> jobTitles) {
+        this.jobTitles = jobTitles;
+    }
+
+    public List<String> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<String> sections) {
+        this.sections = sections;
+    }
 }
\ No newline at end of file
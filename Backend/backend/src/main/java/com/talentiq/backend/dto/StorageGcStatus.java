@@ -0,0 +1,140 @@
+package com.talentiq.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the orphaned storage sweep (current run, or the last one if idle)
+ */
+public class StorageGcStatus {
+
+    private String phase;
+    private boolean running;
+    private boolean dryRun;
+    private String currentPrefix;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long referencesIndexed;
+    private long filterBytes;
+    private long objectsScanned;
+    private long objectsTooRecent;
+    private long orphansFound;
+    private long orphansDeleted;
+    private long deleteFailures;
+    private String message;
+
+    public StorageGcStatus() {
+    }
+
+    // Getters and Setters
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public String getCurrentPrefix() {
+        return currentPrefix;
+    }
+
+    public void setCurrentPrefix(String currentPrefix) {
+        this.currentPrefix = currentPrefix;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public long getReferencesIndexed() {
+        return referencesIndexed;
+    }
+
+    public void setReferencesIndexed(long referencesIndexed) {
+        this.referencesIndexed = referencesIndexed;
+    }
+
+    public long getFilterBytes() {
+        return filterBytes;
+    }
+
+    public void setFilterBytes(long filterBytes) {
+        this.filterBytes = filterBytes;
+    }
+
+    public long getObjectsScanned() {
+        return objectsScanned;
+    }
+
+    public void setObjectsScanned(long objectsScanned) {
+        this.objectsScanned = objectsScanned;
+    }
+
+    public long getObjectsTooRecent() {
+        return objectsTooRecent;
+    }
+
+    public void setObjectsTooRecent(long objectsTooRecent) {
+        this.objectsTooRecent = objectsTooRecent;
+    }
+
+    public long getOrphansFound() {
+        return orphansFound;
+    }
+
+    public void setOrphansFound(long orphansFound) {
+        this.orphansFound = orphansFound;
+    }
+
+    public long getOrphansDeleted() {
+        return orphansDeleted;
+    }
+
+    public void setOrphansDeleted(long orphansDeleted) {
+        this.orphansDeleted = orphansDeleted;
+    }
+
+    public long getDeleteFailures() {
+        return deleteFailures;
+    }
+
+    public void setDeleteFailures(long deleteFailures) {
+        this.deleteFailures = deleteFailures;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
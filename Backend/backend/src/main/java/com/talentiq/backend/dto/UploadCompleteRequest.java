@@ -0,0 +1,31 @@
+package com.talentiq.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class UploadCompleteRequest {
+
+    @NotBlank(message = "Upload key is required")
+    private String key;
+
+    private String filename; // Original filename, shown in the UI
+
+    public UploadCompleteRequest() {
+    }
+
+    // Getters and Setters
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getFilename() {
+        return filename;
+    }
+
+    public void setFilename(String filename) {
+        this.filename = filename;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.talentiq.backend.dto;
+
+import java.util.Map;
+
+public class UploadUrlResponse {
+    private String uploadUrl;
+    private String key;
+    private String method;
+    private Map<String, String> headers; // Headers the client must send with the upload
+    private long expiresInSeconds;
+
+    public UploadUrlResponse() {
+    }
+
+    public UploadUrlResponse(String uploadUrl, String key, String method,
+                             Map<String, String> headers, long expiresInSeconds) {
+        this.uploadUrl = uploadUrl;
+        this.key = key;
+        this.method = method;
+        this.headers = headers;
+        this.expiresInSeconds = expiresInSeconds;
+    }
+
+    // Getters and Setters
+    public String getUploadUrl() {
+        return uploadUrl;
+    }
+
+    public void setUploadUrl(String uploadUrl) {
+        this.uploadUrl = uploadUrl;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public long getExpiresInSeconds() {
+        return expiresInSeconds;
+    }
+
+    public void setExpiresInSeconds(long expiresInSeconds) {
+        this.expiresInSeconds = expiresInSeconds;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.talentiq.backend.email;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One message template sent to several recipients. Subject and content contain substitution tags
+ * (e.g. "-name-") that are replaced per recipient, so the batch maps onto one SendGrid request
+ * with one personalization per recipient.
+ */
+public class EmailBatch {
+
+    private final String subject;
+    private final String textContent;
+    private final String htmlContent;
+    private final List<EmailRecipient> recipients;
+
+    public EmailBatch(String subject, String textContent, String htmlContent, List<EmailRecipient> recipients) {
+        this.subject = subject;
+        this.textContent = textContent;
+        this.htmlContent = htmlContent;
+        this.recipients = recipients;
+    }
+
+    /**
+     * Apply a recipient's substitutions to a template locally
+     */
+    public static String substitute(String template, Map<String, String> substitutions) {
+        String result = template;
+        for (Map.Entry<String, String> entry : substitutions.entrySet()) {
+            result = result.replace(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getTextContent() {
+        return textContent;
+    }
+
+    public String getHtmlContent() {
+        return htmlContent;
+    }
+
+    public List<EmailRecipient> getRecipients() {
+        return recipients;
+    }
+}
@@ -0,0 +1,25 @@
+package com.talentiq.backend.email;
+
+/**
+ * The mail provider answered a send request with an error status.
+ * A 4xx rejection is permanent (the same request fails again, usually because of one bad recipient);
+ * authentication, timeout and rate limit answers are not, nor are 5xx errors.
+ */
+public class EmailDeliveryException extends RuntimeException {
+
+    private final int statusCode;
+
+    public EmailDeliveryException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isPermanent() {
+        return statusCode >= 400 && statusCode < 500
+                && statusCode != 401 && statusCode != 403 && statusCode != 408 && statusCode != 429;
+    }
+}
@@ -0,0 +1,22 @@
+package com.talentiq.backend.email;
+
+import java.util.Map;
+
+public class EmailRecipient {
+
+    private final String email;
+    private final Map<String, String> substitutions;
+
+    public EmailRecipient(String email, Map<String, String> substitutions) {
+        this.email = email;
+        this.substitutions = substitutions;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Map<String, String> getSubstitutions() {
+        return substitutions;
+    }
+}
@@ -0,0 +1,15 @@
+package com.talentiq.backend.email;
+
+/**
+ * Delivers outgoing email. Selected with email.transport: "sendgrid" (default) or "log" (prints messages
+ * instead of sending them; for local development and tests).
+ */
+public interface EmailTransport {
+
+    /**
+     * Send one message to every recipient of the batch, applying each recipient's substitutions.
+     * Throws EmailDeliveryException if the provider rejected the batch, and any other exception if it
+     * could not be reached; the batch is then retried (see EmailOutboxService).
+     */
+    void send(EmailBatch batch) throws Exception;
+}
@@ -0,0 +1,25 @@
+package com.talentiq.backend.email;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local fake transport: prints every message instead of sending it
+ */
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "log")
+public class LoggingEmailTransport implements EmailTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingEmailTransport.class);
+
+    @Override
+    public void send(EmailBatch batch) {
+        for (EmailRecipient recipient : batch.getRecipients()) {
+            logger.info("📧 [LOG TRANSPORT] To: {}\nSubject: {}\n{}", recipient.getEmail(),
+                    EmailBatch.substitute(batch.getSubject(), recipient.getSubstitutions()),
+                    EmailBatch.substitute(batch.getTextContent(), recipient.getSubstitutions()));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.talentiq.backend.email;
+
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Content;
+import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Sends a batch as a single SendGrid v3 mail/send request, one personalization (recipient plus
+ * substitutions) per recipient. One client is shared by all sends.
+ */
+@Component
+@ConditionalOnProperty(name = "email.transport", havingValue = "sendgrid", matchIfMissing = true)
+public class SendGridEmailTransport implements EmailTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(SendGridEmailTransport.class);
+
+    @Value("${sendgrid.api-key:}")
+    private String sendgridApiKey;
+
+    @Value("${sendgrid.from-email}")
+    private String fromEmail;
+
+    @Value("${sendgrid.from-name:TalentIQ}")
+    private String fromName;
+
+    private SendGrid sendGrid;
+
+    @PostConstruct
+    public void init() {
+        if (sendgridApiKey != null && !sendgridApiKey.trim().isEmpty()) {
+            sendGrid = new SendGrid(sendgridApiKey);
+        }
+    }
+
+    @Override
+    public void send(EmailBatch batch) throws Exception {
+        // Check if SendGrid API key is configured
+        if (sendGrid == null) {
+            logger.warn("⚠️  SendGrid API key not configured. Email not sent.");
+            for (EmailRecipient recipient : batch.getRecipients()) {
+                logger.info("📧 [TEST MODE] Email would be sent to: {}", recipient.getEmail());
+                logger.info("Subject: {}", EmailBatch.substitute(batch.getSubject(), recipient.getSubstitutions()));
+                logger.info("Content:\n{}", EmailBatch.substitute(batch.getTextContent(), recipient.getSubstitutions()));
+            }
+            return;
+        }
+
+        Mail mail = new Mail();
+        mail.setFrom(new Email(fromEmail, fromName));
+        mail.setSubject(batch.getSubject());
+        mail.addContent(new Content("text/html", batch.getHtmlContent()));
+        for (EmailRecipient recipient : batch.getRecipients()) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(recipient.getEmail()));
+            for (Map.Entry<String, String> substitution : recipient.getSubstitutions().entrySet()) {
+                personalization.addSubstitution(substitution.getKey(), substitution.getValue());
+            }
+            mail.addPersonalization(personalization);
+        }
+
+        Request request = new Request();
+        request.setMethod(Method.POST);
+        request.setEndpoint("mail/send");
+        request.setBody(mail.build());
+
+        Response response = sendGrid.api(request);
+        if (response.getStatusCode() < 200 || response.getStatusCode() >= 300) {
+            throw new EmailDeliveryException(response.getStatusCode(),
+                    "SendGrid returned " + response.getStatusCode() + ": " + response.getBody());
+        }
+        logger.info("✅ Email sent successfully to {} recipient(s)", batch.getRecipients().size());
+    }
+}
@@ -0,0 +1,17 @@
+package com.talentiq.backend.exception;
+
+/**
+ * The server is saturated (or the client over its limit); answered with 429 and Retry-After
+ */
+public class TooManyRequestsException extends RuntimeException {
+    private long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
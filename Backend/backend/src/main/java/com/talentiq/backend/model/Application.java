@@ -1,5 +1,6 @@
 package com.talentiq.backend.model;
 
+import com.talentiq.backend.service.JobListChangeListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -7,6 +8,7 @@ import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(JobListChangeListener.class)
 @Table(name = "applications")
 public class Application {
 
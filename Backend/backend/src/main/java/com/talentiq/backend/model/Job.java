@@ -1,5 +1,6 @@
 package com.talentiq.backend.model;
 
+import com.talentiq.backend.service.JobListChangeListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -9,7 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@EntityListeners(JobListChangeListener.class)
+@Table(name = "jobs", indexes = {
+        // Recommendations read the newest jobs first
+        @Index(name = "idx_jobs_created_at", columnList = "created_at, id")
+})
 public class Job {
 
     @Id
@@ -53,6 +58,11 @@ public class Job {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; also part of the job's HTTP ETag. The default fills existing rows.
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
     public Job() {
     }
 
@@ -163,4 +173,8 @@ public class Job {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
\ No newline at end of file
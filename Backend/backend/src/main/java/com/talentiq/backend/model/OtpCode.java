@@ -0,0 +1,49 @@
+package com.talentiq.backend.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A pending one-time code for JdbcOtpStore (otp.store=jdbc), shared by every node.
+ * Only the hash of the code is stored. The store reads and writes the table with plain SQL;
+ * the entity is here so the schema is managed like every other table.
+ */
+@Entity
+@Table(name = "otp_codes", indexes = {
+        @Index(name = "idx_otp_codes_expires", columnList = "expires_at")
+})
+public class OtpCode {
+
+    @Id
+    @Column(name = "otp_key", length = 255)
+    private String key;
+
+    @Column(name = "code_hash", nullable = false, length = 64)
+    private String codeHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    public OtpCode() {
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getCodeHash() {
+        return codeHash;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
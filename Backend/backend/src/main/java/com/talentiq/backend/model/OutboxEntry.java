@@ -0,0 +1,21 @@
+package com.talentiq.backend.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of a transactional outbox table, as claimed and retried by OutboxProcessor
+ */
+public interface OutboxEntry {
+
+    Long getId();
+
+    Integer getAttempts();
+
+    void setAttempts(Integer attempts);
+
+    void setNextAttemptAt(LocalDateTime nextAttemptAt);
+
+    String getLastError();
+
+    void setLastError(String lastError);
+}
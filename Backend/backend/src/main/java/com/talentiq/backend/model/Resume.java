@@ -33,8 +33,32 @@ public class Resume {
     @Column(name = "mime_type")
     private String mimeType;
 
-    @Column(columnDefinition = "TEXT")
-    private String extractedText;
+    // Full text lives in the resume_text side table (see ResumeText); only the preview is kept here
+    @Column(name = "text_preview", length = 200)
+    private String textPreview;
+
+    // Structured fields extracted at upload time (see ResumeFieldExtractor)
+    @Column(name = "years_of_experience")
+    private Integer yearsOfExperience;
+
+    @Column(name = "extracted_skills", columnDefinition = "TEXT")
+    private String skills; // Comma-separated, same format as Job.skillsRequired
+
+    @Column(name = "extracted_titles", columnDefinition = "TEXT")
+    private String jobTitles; // One title per line
+
+    @Column(name = "contact_email")
+    private String contactEmail;
+
+    @Column(name = "contact_phone")
+    private String contactPhone;
+
+    @Column(name = "detected_sections")
+    private String detectedSections; // Comma-separated section names
+
+    // ResumeFieldExtractor.VERSION the fields above came from; null for resumes uploaded before extraction existed
+    @Column(name = "fields_version")
+    private Integer fieldsVersion;
 
     // Applications using this resume - cascade delete when resume is deleted
     @OneToMany(mappedBy = "resume", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
@@ -104,12 +128,68 @@ public class Resume {
         this.mimeType = mimeType;
     }
 
-    public String getExtractedText() {
-        return extractedText;
+    public String getTextPreview() {
+        return textPreview;
+    }
+
+    public void setTextPreview(String textPreview) {
+        this.textPreview = textPreview;
+    }
+
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+    }
+
+    public String getJobTitles() {
+        return jobTitles;
+    }
+
+    public void setJobTitles(String jobTitles) {
+        this.jobTitles = jobTitles;
+    }
+
+    public String getContactEmail() {
+        return contactEmail;
+    }
+
+    public void setContactEmail(String contactEmail) {
+        this.contactEmail = contactEmail;
+    }
+
+    public String getContactPhone() {
+        return contactPhone;
+    }
+
+    public void setContactPhone(String contactPhone) {
+        this.contactPhone = contactPhone;
+    }
+
+    public String getDetectedSections() {
+        return detectedSections;
+    }
+
+    public void setDetectedSections(String detectedSections) {
+        this.detectedSections = detectedSections;
+    }
+
+    public Integer getFieldsVersion() {
+        return fieldsVersion;
     }
 
-    public void setExtractedText(String extractedText) {
-        this.extractedText = extractedText;
+    public void setFieldsVersion(Integer fieldsVersion) {
+        this.fieldsVersion = fieldsVersion;
     }
 
     public List<Application> getApplications() {
@@ -0,0 +1,74 @@
+package com.talentiq.backend.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Full extracted text of a resume, kept out of the resumes table so listings
+ * and application fetches never load it. Only read by /api/resumes/{id}/text.
+ */
+@Entity
+@Table(name = "resume_text")
+public class ResumeText {
+
+    @Id
+    @Column(name = "resume_id")
+    private Long resumeId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Resume resume;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", columnDefinition = "BYTEA")
+    private String content;
+
+    @Column(name = "original_length")
+    private Integer originalLength;
+
+    public ResumeText() {
+    }
+
+    public ResumeText(Resume resume, String content) {
+        this.resume = resume;
+        this.content = content;
+        this.originalLength = content != null ? content.length() : 0;
+    }
+
+    // Getters and Setters
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Resume getResume() {
+        return resume;
+    }
+
+    public void setResume(Resume resume) {
+        this.resume = resume;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+        this.originalLength = content != null ? content.length() : 0;
+    }
+
+    public Integer getOriginalLength() {
+        return originalLength;
+    }
+
+    public void setOriginalLength(Integer originalLength) {
+        this.originalLength = originalLength;
+    }
+}
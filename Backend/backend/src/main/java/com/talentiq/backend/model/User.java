@@ -1,5 +1,6 @@
 package com.talentiq.backend.model;
 
+import com.talentiq.backend.service.JobListChangeListener;
 import jakarta.persistence.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
@@ -13,6 +14,7 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@EntityListeners(JobListChangeListener.class)
 @Table(name = "users")
 public class User implements UserDetails {
 
@@ -36,6 +38,10 @@ public class User implements UserDetails {
     @Column
     private String profilePicturePath;
 
+    // True once the sm/md/lg thumbnails of the current profile picture exist
+    @Column
+    private Boolean profilePictureVariantsReady;
+
     @Column
     private String phone;
 
@@ -78,6 +84,10 @@ public class User implements UserDetails {
     @Column
     private Integer failedLoginAttempts = 0;
 
+    // Carried in every JWT; bumping it revokes all tokens issued before (see TokenVersionStore)
+    @Column(nullable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int tokenVersion;
+
     @Column
     private LocalDateTime lastLoginAt;
 
@@ -184,6 +194,14 @@ public class User implements UserDetails {
         this.profilePicturePath = profilePicturePath;
     }
 
+    public Boolean getProfilePictureVariantsReady() {
+        return profilePictureVariantsReady;
+    }
+
+    public void setProfilePictureVariantsReady(Boolean profilePictureVariantsReady) {
+        this.profilePictureVariantsReady = profilePictureVariantsReady;
+    }
+
     public String getPhone() {
         return phone;
     }
@@ -281,6 +299,14 @@ public class User implements UserDetails {
         this.accountLocked = accountLocked;
     }
 
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
+
     public Integer getFailedLoginAttempts() {
         return failedLoginAttempts;
     }
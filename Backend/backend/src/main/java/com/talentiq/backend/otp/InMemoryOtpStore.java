@@ -0,0 +1,148 @@
+package com.talentiq.backend.otp;
+
+import com.talentiq.backend.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single-node OTP store. Entries are also filed in a hashed timing wheel by expiry: every tick
+ * drops whatever expired in the current slot, so abandoned codes disappear without anyone asking
+ * for them, at O(expiring entries) per tick instead of a scan of the whole map.
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final int WHEEL_SLOTS = 128;
+
+    private static final class Entry {
+        private final String key;
+        private final byte[] codeHash;
+        private final long expiresAtMillis;
+        private int attempts; // Only changed inside ConcurrentHashMap.compute for this key
+
+        private Entry(String key, byte[] codeHash, long expiresAtMillis) {
+            this.key = key;
+            this.codeHash = codeHash;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    @Value("${otp.store.max-entries:100000}")
+    private int maxEntries;
+
+    @Value("${otp.store.tick-ms:5000}")
+    private long tickMillis;
+
+    // Only touched by the scheduler thread
+    private long lastTick = -1;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final ConcurrentLinkedQueue<Entry>[] wheel = new ConcurrentLinkedQueue[WHEEL_SLOTS];
+
+    {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    @Override
+    public void put(String key, String codeHash, LocalDateTime expiresAt) {
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            throw new TooManyRequestsException("Too many pending verifications, please try again later", 60);
+        }
+
+        Entry entry = new Entry(key, codeHash.getBytes(StandardCharsets.US_ASCII),
+                expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        entries.put(key, entry);
+        schedule(entry);
+    }
+
+    @Override
+    public Result verify(String key, String codeHash, int maxAttempts) {
+        byte[] presented = codeHash.getBytes(StandardCharsets.US_ASCII);
+        long now = System.currentTimeMillis();
+        Result[] result = {Result.INVALID};
+
+        entries.computeIfPresent(key, (k, entry) -> {
+            if (entry.expiresAtMillis <= now || entry.attempts >= maxAttempts) {
+                return null;
+            }
+            entry.attempts++;
+            if (MessageDigest.isEqual(entry.codeHash, presented)) {
+                result[0] = Result.MATCH;
+                return null;
+            }
+            result[0] = Result.MISMATCH;
+            return entry.attempts >= maxAttempts ? null : entry;
+        });
+        return result[0];
+    }
+
+    @Override
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Advance the wheel to the current slot (catching up on any a late tick skipped)
+     * and drop the entries that expired in the slots passed
+     */
+    @Scheduled(fixedRateString = "${otp.store.tick-ms:5000}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / tickMillis;
+        long firstTick = lastTick < 0 ? currentTick : Math.max(lastTick + 1, currentTick - WHEEL_SLOTS + 1);
+
+        int expired = 0;
+        for (long t = firstTick; t <= currentTick; t++) {
+            expired += expireSlot(wheel[(int) Math.floorMod(t, (long) WHEEL_SLOTS)], now);
+        }
+        lastTick = currentTick;
+
+        if (expired > 0) {
+            System.out.println("🧹 Expired " + expired + " unused OTP codes");
+        }
+    }
+
+    private int expireSlot(ConcurrentLinkedQueue<Entry> slot, long now) {
+        int expired = 0;
+        for (int i = slot.size(); i > 0; i--) {
+            Entry entry = slot.poll();
+            if (entry == null) {
+                break;
+            }
+            if (entries.get(entry.key) != entry) {
+                continue; // Already used, replaced or removed
+            }
+            if (entry.expiresAtMillis <= now) {
+                if (entries.remove(entry.key, entry)) {
+                    expired++;
+                }
+            } else {
+                schedule(entry); // Due in a later turn of the wheel
+            }
+        }
+        return expired;
+    }
+
+    private void schedule(Entry entry) {
+        // Filed one tick late so the entry has expired by the time its slot comes round
+        wheel[slotOf(entry.expiresAtMillis + tickMillis)].offer(entry);
+    }
+
+    private int slotOf(long millis) {
+        return (int) Math.floorMod(millis / tickMillis, (long) WHEEL_SLOTS);
+    }
+}
@@ -0,0 +1,103 @@
+package com.talentiq.backend.otp;
+
+import com.talentiq.backend.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OTP store in the otp_codes table, so a code sent by one node can be verified on another.
+ * Every operation is a single statement: attempts are counted by the UPDATE that reads the hash,
+ * and a match is consumed by a DELETE that only one request can win. verify() commits in its own
+ * transaction, so a caller that rolls back after a wrong code still leaves the attempt counted.
+ */
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "jdbc")
+public class JdbcOtpStore implements OtpStore {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${otp.store.max-entries:100000}")
+    private int maxEntries;
+
+    private TransactionTemplate requiresNew;
+
+    @PostConstruct
+    public void initialize() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void put(String key, String codeHash, LocalDateTime expiresAt) {
+        Long pending = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM otp_codes", Long.class);
+        if (pending != null && pending >= maxEntries) {
+            throw new TooManyRequestsException("Too many pending verifications, please try again later", 60);
+        }
+
+        jdbcTemplate.update("INSERT INTO otp_codes (otp_key, code_hash, expires_at, attempts) VALUES (?, ?, ?, 0) "
+                        + "ON CONFLICT (otp_key) DO UPDATE SET code_hash = EXCLUDED.code_hash, "
+                        + "expires_at = EXCLUDED.expires_at, attempts = 0",
+                key, codeHash, Timestamp.valueOf(expiresAt));
+    }
+
+    @Override
+    public Result verify(String key, String codeHash, int maxAttempts) {
+        // AuthService.verifyOtp throws (and rolls back) on a wrong code; the attempt must survive that
+        return requiresNew.execute(status -> countAndCompare(key, codeHash, maxAttempts));
+    }
+
+    private Result countAndCompare(String key, String codeHash, int maxAttempts) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> stored = jdbcTemplate.queryForList(
+                "UPDATE otp_codes SET attempts = attempts + 1 "
+                        + "WHERE otp_key = ? AND expires_at > ? AND attempts < ? RETURNING code_hash",
+                String.class, key, now, maxAttempts);
+
+        if (stored.isEmpty()) {
+            // Expired or out of attempts: clear it now rather than waiting for the cleanup
+            jdbcTemplate.update("DELETE FROM otp_codes WHERE otp_key = ?", key);
+            return Result.INVALID;
+        }
+
+        if (MessageDigest.isEqual(stored.get(0).getBytes(StandardCharsets.US_ASCII),
+                codeHash.getBytes(StandardCharsets.US_ASCII))) {
+            int consumed = jdbcTemplate.update("DELETE FROM otp_codes WHERE otp_key = ? AND code_hash = ?", key, codeHash);
+            return consumed == 1 ? Result.MATCH : Result.INVALID;
+        }
+
+        jdbcTemplate.update("DELETE FROM otp_codes WHERE otp_key = ? AND attempts >= ?", key, maxAttempts);
+        return Result.MISMATCH;
+    }
+
+    @Override
+    public void remove(String key) {
+        jdbcTemplate.update("DELETE FROM otp_codes WHERE otp_key = ?", key);
+    }
+
+    @Scheduled(fixedDelayString = "${otp.store.cleanup-interval-ms:60000}")
+    public void deleteExpired() {
+        int expired = jdbcTemplate.update("DELETE FROM otp_codes WHERE expires_at <= ?",
+                Timestamp.valueOf(LocalDateTime.now()));
+        if (expired > 0) {
+            System.out.println("🧹 Expired " + expired + " unused OTP codes");
+        }
+    }
+}
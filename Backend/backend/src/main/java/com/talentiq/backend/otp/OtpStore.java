@@ -0,0 +1,32 @@
+package com.talentiq.backend.otp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Where pending one-time codes live until they are used or expire.
+ * Implementations keep only a hash of each code, count attempts atomically, expire entries on
+ * their own and cap how many they hold. Selected by otp.store: memory (default) or jdbc (shared by all nodes).
+ */
+public interface OtpStore {
+
+    enum Result {
+        MATCH,
+        MISMATCH,
+        // Unknown, expired, or out of attempts; the code is gone either way
+        INVALID
+    }
+
+    /**
+     * Store or replace the code for a key (resets its attempts).
+     * Throws TooManyRequestsException when the store is full.
+     */
+    void put(String key, String codeHash, LocalDateTime expiresAt);
+
+    /**
+     * Count one attempt and compare. A match consumes the code, so it verifies at most once
+     * even under concurrent requests; the attempt that reaches maxAttempts removes it.
+     */
+    Result verify(String key, String codeHash, int maxAttempts);
+
+    void remove(String key);
+}
@@ -0,0 +1,29 @@
+package com.talentiq.backend.repository;
+
+import com.talentiq.backend.model.EmailOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxEntry, Long> {
+
+    // SKIP LOCKED lets the workers (and other instances) claim disjoint batches
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutboxEntry> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailOutboxEntry.Status status);
+
+    // Dead letters from before their codes and reset tokens were cleared on giving up
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutboxEntry e SET e.substitutions = '{}' WHERE e.status = :status AND e.substitutions <> '{}'")
+    int clearSubstitutions(@Param("status") EmailOutboxEntry.Status status);
+}
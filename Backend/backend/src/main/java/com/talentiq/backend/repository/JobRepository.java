@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,50 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j JOIN FETCH j.recruiter WHERE j.recruiter.id = :recruiterId")
     List<Job> findByRecruiterIdWithRecruiter(@Param("recruiterId") Long recruiterId);
 
+    // ========== CACHE VALIDATORS (ETags without loading entities) ==========
+
+    interface JobVersion {
+        Long getVersion();
+        LocalDateTime getUpdatedAt();
+        LocalDateTime getRecruiterUpdatedAt();
+        Long getApplicationCount();
+    }
+
+    interface JobListVersion {
+        Long getJobCount();
+        Long getVersionSum();
+        LocalDateTime getUpdatedAt();
+        LocalDateTime getRecruiterUpdatedAt();
+        Long getApplicationCount();
+    }
+
+    // Everything a JobResponse is built from: the job, its recruiter's name and its application count
+    @Query("SELECT j.version AS version, j.updatedAt AS updatedAt, r.updatedAt AS recruiterUpdatedAt, " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.job.id = j.id) AS applicationCount " +
+            "FROM Job j JOIN j.recruiter r WHERE j.id = :id")
+    Optional<JobVersion> findVersionById(@Param("id") Long id);
+
+    // Changes whenever any job is created, edited or deleted, or gains or loses an application
+    @Query("SELECT COUNT(j) AS jobCount, COALESCE(SUM(j.version), 0) AS versionSum, MAX(j.updatedAt) AS updatedAt, " +
+            "(SELECT MAX(u.updatedAt) FROM User u WHERE u.role = com.talentiq.backend.model.Role.RECRUITER) AS recruiterUpdatedAt, " +
+            "(SELECT COUNT(a) FROM Application a) AS applicationCount " +
+            "FROM Job j")
+    JobListVersion findListVersion();
+
+    // ========== RECOMMENDATIONS (scored columns only, no descriptions) ==========
+
+    interface JobScoringFields {
+        Long getId();
+        String getTitle();
+        String getCompany();
+        String getExperienceLevel();
+        String getSkillsRequired();
+    }
+
+    @Query("SELECT j.id AS id, j.title AS title, j.company AS company, j.experienceLevel AS experienceLevel, " +
+            "j.skillsRequired AS skillsRequired FROM Job j")
+    List<JobScoringFields> findScoringFields(Pageable pageable);
+
     // ========== EXISTING METHODS ==========
 
     List<Job> findByRecruiterId(Long recruiterId);
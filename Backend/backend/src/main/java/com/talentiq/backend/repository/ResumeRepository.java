@@ -2,9 +2,13 @@ package com.talentiq.backend.repository;
 
 import com.talentiq.backend.model.Resume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
@@ -12,4 +16,10 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     List<Resume> findByUserId(Long userId);
 
     List<Resume> findByUserIdOrderByUploadedAtDesc(Long userId);
+
+    Optional<Resume> findByFilePath(String filePath);
+
+    // Which of these locations are still referenced (storage GC recheck)
+    @Query("SELECT r.filePath FROM Resume r WHERE r.filePath IN :paths")
+    List<String> findExistingFilePaths(@Param("paths") Collection<String> paths);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.talentiq.backend.repository;
+
+import com.talentiq.backend.model.ResumeText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, Long> {
+}
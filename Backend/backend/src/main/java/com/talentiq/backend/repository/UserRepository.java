@@ -3,8 +3,13 @@ package com.talentiq.backend.repository;
 import com.talentiq.backend.model.Role;
 import com.talentiq.backend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +20,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Count methods for admin statistics
     long countByRole(Role role);
+
+    // Which of these locations are still referenced (storage GC recheck)
+    @Query("SELECT u.profilePicturePath FROM User u WHERE u.profilePicturePath IN :paths")
+    List<String> findExistingProfilePicturePaths(@Param("paths") Collection<String> paths);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTokenVersionById(@Param("userId") Long userId);
+
+    @Query("SELECT u.profilePicturePath FROM User u WHERE u.id = :userId")
+    Optional<String> findProfilePicturePathById(@Param("userId") Long userId);
+
+    // Only flags the picture the variants were made from; a newer upload keeps its own state
+    @Modifying
+    @Query("UPDATE User u SET u.profilePictureVariantsReady = true WHERE u.id = :userId AND u.profilePicturePath = :path")
+    int markProfilePictureVariantsReady(@Param("userId") Long userId, @Param("path") String path);
+
+    // Login bookkeeping: single-column updates instead of saving the whole entity
+
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = COALESCE(u.failedLoginAttempts, 0) + 1 WHERE u.id = :userId")
+    int incrementFailedLoginAttempts(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = 0 WHERE u.id = :userId AND u.failedLoginAttempts <> 0")
+    int resetFailedLoginAttempts(@Param("userId") Long userId);
+
+    // Locks and revokes all tokens in one statement; returns 1 only for the attempt that actually locked
+    @Modifying
+    @Query("UPDATE User u SET u.accountLocked = true, u.tokenVersion = u.tokenVersion + 1 " +
+            "WHERE u.id = :userId AND u.accountLocked = false AND u.failedLoginAttempts >= :maxAttempts")
+    int lockIfTooManyFailedAttempts(@Param("userId") Long userId, @Param("maxAttempts") int maxAttempts);
 }
\ No newline at end of file
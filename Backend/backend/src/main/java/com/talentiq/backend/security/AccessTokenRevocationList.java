@@ -0,0 +1,97 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.RevokedAccessToken;
+import com.talentiq.backend.repository.RevokedAccessTokenRepository;
+import com.talentiq.backend.service.StringBloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Access tokens revoked before they expire (logout), checked on every request.
+ * Lookups go through an immutable snapshot: a Bloom filter answers "not revoked" for almost every
+ * token without allocating, and only filter hits are confirmed against the exact set. Revocations are
+ * stored in the database and the snapshot is reloaded periodically, so other instances pick them up.
+ * Entries are dropped once the token would have expired anyway, which keeps the set small.
+ */
+@Component
+public class AccessTokenRevocationList {
+
+    private static final class Snapshot {
+        private final StringBloomFilter filter;
+        private final Map<String, LocalDateTime> revoked;
+
+        private Snapshot(Map<String, LocalDateTime> revoked) {
+            this.filter = new StringBloomFilter(revoked.size() * 2L);
+            this.revoked = revoked;
+            for (String tokenId : revoked.keySet()) {
+                filter.add(tokenId);
+            }
+        }
+    }
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap());
+
+    public boolean isRevoked(String tokenId) {
+        Snapshot current = snapshot;
+        return current.filter.mightContain(tokenId) && current.revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revoke one access token until its expiry
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        LocalDateTime expiry = LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault());
+        revokedAccessTokenRepository.save(new RevokedAccessToken(tokenId, expiry));
+        publish(Collections.singletonMap(tokenId, expiry));
+    }
+
+    /**
+     * Pick up revocations made on other instances and purge expired ones
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.reload-interval-ms:15000}")
+    public void reload() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, LocalDateTime> stored = new HashMap<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                revokedAccessTokenRepository.deleteExpired(now);
+                for (RevokedAccessToken token : revokedAccessTokenRepository.findByExpiresAtAfter(now)) {
+                    stored.put(token.getTokenId(), token.getExpiresAt());
+                }
+            });
+            publish(stored);
+        } catch (Exception e) {
+            System.err.println("⚠️ Could not reload revoked access tokens: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Merge entries into a new snapshot, keeping local revocations and dropping expired ones
+     */
+    private synchronized void publish(Map<String, LocalDateTime> added) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, LocalDateTime> revoked = new HashMap<>(snapshot.revoked);
+        revoked.putAll(added);
+        revoked.values().removeIf(expiry -> expiry.isBefore(now));
+        snapshot = new Snapshot(revoked);
+    }
+}
@@ -0,0 +1,75 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.Role;
+import com.talentiq.backend.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal built from JWT claims alone. Enough for role checks and for
+ * endpoints that only need the caller's id; use @CurrentUser to get the full User.
+ */
+public class AuthenticatedUser {
+
+    private final Long id;
+    private final String email;
+    private final Role role;
+    private final int tokenVersion;
+    private final String tokenId;
+    private final Instant tokenExpiresAt;
+
+    public AuthenticatedUser(Long id, String email, Role role, int tokenVersion,
+                             String tokenId, Instant tokenExpiresAt) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.tokenId = tokenId;
+        this.tokenExpiresAt = tokenExpiresAt;
+    }
+
+    public static AuthenticatedUser of(User user, VerifiedToken token) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getTokenVersion(),
+                token.getTokenId(), token.getExpiresAt());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    /**
+     * jti of the access token this request was authenticated with (null for older tokens)
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getTokenExpiresAt() {
+        return tokenExpiresAt;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,127 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.dto.PasswordHashingStats;
+import com.talentiq.backend.exception.TooManyRequestsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt run on the dedicated password hashing pool instead of the calling request thread.
+ * At most pool-size hashes burn CPU at once; when the queue is full the call fails immediately
+ * with a 429 instead of piling up behind other logins and starving every other endpoint.
+ * upgradeEncoding() reports hashes made with a lower cost, so logins rehash them (see CustomUserDetailsService).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final long retryAfterSeconds;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public BoundedPasswordEncoder(int strength, ThreadPoolExecutor executor, long maxWaitMillis, long retryAfterSeconds) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.executor = executor;
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStats getStats() {
+        PasswordHashingStats stats = new PasswordHashingStats();
+        long count = completed.sum();
+        stats.setStrength(strength);
+        stats.setPoolSize(executor.getMaximumPoolSize());
+        stats.setActiveThreads(executor.getActiveCount());
+        stats.setQueueDepth(executor.getQueue().size());
+        stats.setQueueCapacity(executor.getQueue().size() + executor.getQueue().remainingCapacity());
+        stats.setCompleted(count);
+        stats.setRejected(rejected.sum());
+        stats.setTimedOut(timedOut.sum());
+        stats.setAverageHashMillis(count > 0 ? hashNanos.sum() / 1e6 / count : 0);
+        stats.setMaxHashMillis(maxHashNanos.get() / 1e6);
+        stats.setAverageWaitMillis(count > 0 ? waitNanos.sum() / 1e6 / count : 0);
+        stats.setMaxWaitMillis(maxWaitNanos.get() / 1e6);
+        return stats;
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                waitNanos.add(start - submitted);
+                maxWaitNanos.accumulateAndGet(start - submitted, Math::max);
+                try {
+                    return hashing.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            // A cancelled task keeps its queue slot until a worker reaches it; free it for the next login
+            executor.remove((Runnable) future);
+            timedOut.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private TooManyRequestsException busy() {
+        return new TooManyRequestsException("Server is busy, please try again shortly", retryAfterSeconds);
+    }
+}
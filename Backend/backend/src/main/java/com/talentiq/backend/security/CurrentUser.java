@@ -0,0 +1,21 @@
+package com.talentiq.backend.security;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the full User entity of the caller, loaded (through UserPrincipalCache) only for
+ * handlers that declare it. Handlers that only need the id or role should take
+ * {@code @AuthenticationPrincipal AuthenticatedUser} instead.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@AuthenticationPrincipal(expression = "@currentUserResolver.resolve(#this)")
+public @interface CurrentUser {
+}
@@ -0,0 +1,36 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns the request principal into the full User entity (used by @CurrentUser)
+ */
+@Component("currentUserResolver")
+public class CurrentUserResolver {
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    public User resolve(Object principal) {
+        if (principal instanceof User) {
+            return (User) principal;
+        }
+        if (!(principal instanceof AuthenticatedUser)) {
+            return null;
+        }
+
+        AuthenticatedUser authenticated = (AuthenticatedUser) principal;
+        UserDetails details = userPrincipalCache.get(authenticated.getEmail(), userDetailsService::loadUserByUsername);
+        if (details instanceof User && ((User) details).getId().equals(authenticated.getId())) {
+            return (User) details;
+        }
+        return null;
+    }
+}
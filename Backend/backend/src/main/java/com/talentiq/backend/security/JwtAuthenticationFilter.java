@@ -1,5 +1,6 @@
 package com.talentiq.backend.security;
 
+import com.talentiq.backend.model.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,6 +26,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenVersionStore tokenVersionStore;
+
+    @Autowired
+    private AccessTokenRevocationList accessTokenRevocationList;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -32,12 +42,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
+            // One verify-and-parse per request (or a cache hit)
+            VerifiedToken token = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+            AuthenticatedUser principal = token != null ? authenticate(token) : null;
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -49,6 +59,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Build the principal from the token's claims; only the (cached) token version is checked
+     * against the database. Tokens issued before the claims existed fall back to loading the user.
+     */
+    private AuthenticatedUser authenticate(VerifiedToken token) {
+        if (token.getTokenId() != null && accessTokenRevocationList.isRevoked(token.getTokenId())) {
+            return null; // Logged out
+        }
+
+        if (token.hasIdentityClaims()) {
+            if (tokenVersionStore.current(token.getUserId()) != token.getTokenVersion()) {
+                return null; // Revoked, or the user no longer exists
+            }
+            return new AuthenticatedUser(token.getUserId(), token.getSubject(), token.getRole(), token.getTokenVersion(),
+                    token.getTokenId(), token.getExpiresAt());
+        }
+
+        UserDetails userDetails = userPrincipalCache.get(token.getSubject(), userDetailsService::loadUserByUsername);
+        if (!(userDetails instanceof User)) {
+            return null;
+        }
+        User user = (User) userDetails;
+        if (user.getTokenVersion() != 0) {
+            return null; // Revoked since the legacy token was issued
+        }
+        return AuthenticatedUser.of(user, token);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
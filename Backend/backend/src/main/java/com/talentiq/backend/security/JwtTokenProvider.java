@@ -1,7 +1,11 @@
 package com.talentiq.backend.security;
 
+import com.talentiq.backend.model.Role;
+import com.talentiq.backend.model.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,53 +13,115 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    // Claims that let the filter authorize a request without loading the user
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_TOKEN_VERSION = "tv";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    // Built once; both are immutable and thread-safe
+    private SecretKey signingKey;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        if (userDetails instanceof User) {
+            return generateToken((User) userDetails);
+        }
+
+        return build(Jwts.builder().subject(userDetails.getUsername()));
+    }
+
+    /**
+     * Token carrying the user's id, role and current token version
+     */
+    public String generateToken(User user) {
+        return build(Jwts.builder()
+                .subject(user.getEmail())
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion()));
+    }
+
+    private String build(JwtBuilder builder) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
-                .subject(userDetails.getUsername())
+        return builder
+                .id(UUID.randomUUID().toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
-    }
+    /**
+     * Verify signature and expiry and return the claims, or null if the token is not valid.
+     * Tokens seen recently are answered from the cache without parsing.
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
 
-    public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Number userId = claims.get(CLAIM_USER_ID, Number.class);
+            Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.getId(),
+                    userId != null ? userId.longValue() : null,
+                    role != null ? Role.valueOf(role) : null,
+                    tokenVersion != null ? tokenVersion.intValue() : null,
+                    toInstant(claims.getIssuedAt()),
+                    toInstant(claims.getExpiration()));
+            verifiedTokenCache.put(token, verified);
+            return verified;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+    }
+
+    public String getUsernameFromToken(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            throw new JwtException("Invalid JWT token");
         }
+        return verified.getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
 }
\ No newline at end of file
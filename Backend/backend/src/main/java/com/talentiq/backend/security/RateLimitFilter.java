@@ -0,0 +1,103 @@
+package com.talentiq.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Per-IP limits on the endpoints that trigger expensive work (BCrypt, MX lookups, emails, Tika),
+ * checked before authentication so abusive traffic is turned away before it costs anything.
+ * Per-account limits are checked by the services.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    // Only behind a proxy that appends the client address (e.g. Render); otherwise the header is client-controlled
+    @Value("${rate-limit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitPolicy policy = policyFor(request);
+        if (policy != null) {
+            long retryAfter = rateLimiter.acquire(policy, clientAddress(request));
+            if (retryAfter > 0) {
+                reject(response, retryAfter);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitPolicy policyFor(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+
+        switch (pathOf(request)) {
+            case "/api/auth/login":
+                return RateLimitPolicy.LOGIN_IP;
+            case "/api/auth/register":
+                return RateLimitPolicy.REGISTER_IP;
+            case "/api/auth/verify-otp":
+                return RateLimitPolicy.VERIFY_OTP_IP;
+            case "/api/auth/resend-otp":
+                return RateLimitPolicy.RESEND_OTP_IP;
+            case "/api/auth/forgot-password":
+                return RateLimitPolicy.FORGOT_PASSWORD_IP;
+            case "/api/resumes/upload":
+            case "/api/resumes/upload-complete":
+            case "/api/resumes/bulk-upload":
+                return RateLimitPolicy.RESUME_UPLOAD_IP;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * The path as the dispatcher will route it: decoded, normalized and without ;params.
+     * The raw request URI is not, so /api/auth/%6Cogin would slip past the rules.
+     */
+    private static String pathOf(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (request.getPathInfo() != null) {
+            path += request.getPathInfo();
+        }
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private String clientAddress(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                // The last entry is the one our proxy added; earlier ones can be forged
+                return forwarded.substring(forwarded.lastIndexOf(',') + 1).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfter) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests, please try again later\","
+                + "\"message\":\"Too many requests, please try again later\"}");
+    }
+}
@@ -0,0 +1,44 @@
+package com.talentiq.backend.security;
+
+/**
+ * Token-bucket limits for expensive endpoints: up to {capacity} requests at once, refilled at
+ * {capacity} per {period}. IP policies are enforced by RateLimitFilter, account policies by the
+ * services once the request body names the account. Override with
+ * rate-limit.{property}.capacity / rate-limit.{property}.period-seconds.
+ */
+public enum RateLimitPolicy {
+    LOGIN_IP("login-ip", 30, 60),
+    LOGIN_ACCOUNT("login-account", 10, 300),
+    REGISTER_IP("register-ip", 10, 3600),
+    REGISTER_ACCOUNT("register-account", 3, 600),
+    VERIFY_OTP_IP("verify-otp-ip", 30, 600),
+    VERIFY_OTP_ACCOUNT("verify-otp-account", 10, 600),
+    RESEND_OTP_IP("resend-otp-ip", 10, 600),
+    RESEND_OTP_ACCOUNT("resend-otp-account", 3, 600),
+    FORGOT_PASSWORD_IP("forgot-password-ip", 10, 600),
+    FORGOT_PASSWORD_ACCOUNT("forgot-password-account", 3, 600),
+    RESUME_UPLOAD_IP("resume-upload-ip", 30, 600),
+    RESUME_UPLOAD_ACCOUNT("resume-upload-account", 20, 600);
+
+    private final String property;
+    private final int defaultCapacity;
+    private final long defaultPeriodSeconds;
+
+    RateLimitPolicy(String property, int defaultCapacity, long defaultPeriodSeconds) {
+        this.property = property;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultPeriodSeconds = defaultPeriodSeconds;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public long getDefaultPeriodSeconds() {
+        return defaultPeriodSeconds;
+    }
+}
@@ -0,0 +1,170 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token buckets keyed by (policy, key), in a fixed amount of memory and without allocating per call.
+ * Buckets live in primitive arrays split across lock stripes, so concurrent requests rarely contend.
+ * A bucket is found by a 64-bit hash of policy and key with a few linear probes; when all probed
+ * slots are taken, the one idle longest is reused (it has usually refilled completely anyway).
+ */
+@Component
+public class RateLimiter {
+
+    private static final int STRIPE_BITS = 6;
+    private static final int PROBES = 8;
+
+    private static final class Stripe {
+        private final long[] keys;
+        private final long[] refilledAt;
+        private final double[] tokens;
+
+        private Stripe(int buckets) {
+            keys = new long[buckets];
+            refilledAt = new long[buckets];
+            tokens = new double[buckets];
+        }
+    }
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // Rounded up to a power of two; 64 stripes x 2048 buckets is ~3MB
+    @Value("${rate-limit.buckets-per-stripe:2048}")
+    private int bucketsPerStripe;
+
+    private Stripe[] stripes;
+
+    private double[] capacity;
+
+    private double[] tokensPerNano;
+
+    @PostConstruct
+    public void init() {
+        RateLimitPolicy[] policies = RateLimitPolicy.values();
+        capacity = new double[policies.length];
+        tokensPerNano = new double[policies.length];
+        for (RateLimitPolicy policy : policies) {
+            int max = environment.getProperty("rate-limit." + policy.getProperty() + ".capacity",
+                    Integer.class, policy.getDefaultCapacity());
+            long period = environment.getProperty("rate-limit." + policy.getProperty() + ".period-seconds",
+                    Long.class, policy.getDefaultPeriodSeconds());
+            capacity[policy.ordinal()] = max;
+            tokensPerNano[policy.ordinal()] = max / (period * 1e9);
+        }
+
+        int buckets = Integer.highestOneBit(Math.max(bucketsPerStripe - 1, 1)) << 1;
+        stripes = new Stripe[1 << STRIPE_BITS];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(buckets);
+        }
+    }
+
+    /**
+     * Take one token; returns 0 if allowed, otherwise the seconds until a token is available
+     */
+    public long acquire(RateLimitPolicy policy, String key) {
+        if (!enabled || key == null) {
+            return 0;
+        }
+        return take(policy, hash(policy, key));
+    }
+
+    public long acquire(RateLimitPolicy policy, long key) {
+        if (!enabled) {
+            return 0;
+        }
+        return take(policy, mix(key * 31 + policy.ordinal() + 1));
+    }
+
+    /**
+     * Take one token or throw TooManyRequestsException (answered with 429)
+     */
+    public void check(RateLimitPolicy policy, String key) {
+        long retryAfter = acquire(policy, key);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many requests, please try again later", retryAfter);
+        }
+    }
+
+    public void check(RateLimitPolicy policy, long key) {
+        long retryAfter = acquire(policy, key);
+        if (retryAfter > 0) {
+            throw new TooManyRequestsException("Too many requests, please try again later", retryAfter);
+        }
+    }
+
+    private long take(RateLimitPolicy policy, long hash) {
+        if (hash == 0) {
+            hash = 1; // 0 marks an empty slot
+        }
+        int p = policy.ordinal();
+        long now = System.nanoTime();
+        Stripe stripe = stripes[(int) (hash >>> (64 - STRIPE_BITS))];
+
+        synchronized (stripe) {
+            int mask = stripe.keys.length - 1;
+            int start = (int) hash & mask;
+            int slot = -1;
+            int victim = start;
+            for (int i = 0; i < PROBES; i++) {
+                int index = (start + i) & mask;
+                long key = stripe.keys[index];
+                if (key == hash) {
+                    slot = index;
+                    break;
+                }
+                if (stripe.keys[victim] != 0 && (key == 0 || stripe.refilledAt[index] - stripe.refilledAt[victim] < 0)) {
+                    victim = index;
+                }
+            }
+
+            double tokens;
+            if (slot < 0) {
+                slot = victim;
+                stripe.keys[slot] = hash;
+                tokens = capacity[p];
+            } else {
+                tokens = Math.min(capacity[p], stripe.tokens[slot] + (now - stripe.refilledAt[slot]) * tokensPerNano[p]);
+            }
+            stripe.refilledAt[slot] = now;
+
+            if (tokens >= 1) {
+                stripe.tokens[slot] = tokens - 1;
+                return 0;
+            }
+            stripe.tokens[slot] = tokens;
+            return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano[p] / 1e9));
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over the policy and the key's chars (read in place), with a final mix
+     */
+    private static long hash(RateLimitPolicy policy, String key) {
+        long hash = 0xcbf29ce484222325L ^ (policy.ordinal() + 1);
+        hash *= 0x100000001b3L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
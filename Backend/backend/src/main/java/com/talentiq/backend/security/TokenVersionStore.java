@@ -0,0 +1,96 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current token version per user id, so revocation can be checked without loading the user.
+ * Each entry is one packed long (version in the high 32 bits, load time in seconds in the low 32 bits).
+ * Entries are reloaded after a short TTL, which bounds how long another instance accepts revoked tokens.
+ */
+@Component
+public class TokenVersionStore {
+
+    private static final int MISSING = -1;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${security.token-version.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${security.token-version.max-size:100000}")
+    private int maxSize;
+
+    private final long epochNanos = System.nanoTime();
+
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Current version of a user's tokens, or -1 if the user no longer exists
+     */
+    public int current(Long userId) {
+        int now = nowSeconds();
+        Long packed = versions.get(userId);
+        if (packed != null && now - (int) (long) packed < ttlSeconds) {
+            return (int) (packed >> 32);
+        }
+
+        int version = userRepository.findTokenVersionById(userId).orElse(MISSING);
+        put(userId, version, now);
+        return version;
+    }
+
+    /**
+     * Invalidate every token issued to the user so far. Bumps the entity (the caller saves it);
+     * the local map follows once the transaction commits.
+     */
+    public void revoke(User user) {
+        int version = user.getTokenVersion() + 1;
+        user.setTokenVersion(version);
+        Long userId = user.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(userId, version, nowSeconds());
+                }
+            });
+        } else {
+            put(userId, version, nowSeconds());
+        }
+    }
+
+    /**
+     * Forget a user (e.g. after deletion); the next check reloads from the database
+     */
+    public void forget(Long userId) {
+        versions.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    versions.remove(userId);
+                }
+            });
+        }
+    }
+
+    private void put(Long userId, int version, int loadedAt) {
+        if (versions.size() >= maxSize) {
+            versions.clear();
+        }
+        versions.put(userId, ((long) version << 32) | (loadedAt & 0xFFFFFFFFL));
+    }
+
+    private int nowSeconds() {
+        return (int) ((System.nanoTime() - epochNanos) / 1_000_000_000L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Authenticated principals by email, so the JWT filter does not hit the database on every request.
+ * Entries live for a short TTL, which also bounds staleness across instances; code that changes
+ * anything the principal carries (role, lock, verification, profile) must evict the user.
+ * Cached principals are shared between requests and must be treated as read-only.
+ * Password logins never use this cache.
+ */
+@Component
+public class UserPrincipalCache {
+
+    @Value("${security.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(email);
+        if (entry != null && now - entry.loadedAt < ttlSeconds * 1_000_000_000L) {
+            return entry.principal;
+        }
+
+        UserDetails principal = loader.apply(email);
+        if (maxSize > 0) {
+            if (entries.size() >= maxSize) {
+                evictExpired(now);
+            }
+            entries.put(email, new Entry(principal, now));
+        }
+        return principal;
+    }
+
+    /**
+     * Drop a user now and again after the current transaction commits,
+     * so a concurrent request cannot re-cache the pre-commit state
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        entries.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    entries.remove(email);
+                }
+            });
+        }
+    }
+
+    public void evict(User user) {
+        if (user != null) {
+            evict(user.getEmail());
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evictExpired(long now) {
+        long ttlNanos = ttlSeconds * 1_000_000_000L;
+        entries.values().removeIf(entry -> now - entry.loadedAt >= ttlNanos);
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final UserDetails principal;
+        private final long loadedAt;
+
+        private Entry(UserDetails principal, long loadedAt) {
+            this.principal = principal;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
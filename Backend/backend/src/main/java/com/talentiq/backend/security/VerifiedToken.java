@@ -0,0 +1,73 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.Role;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked.
+ * tokenId, userId, role and tokenVersion are null for tokens issued before they were added.
+ */
+public class VerifiedToken {
+
+    private final String subject;
+    private final String tokenId;
+    private final Long userId;
+    private final Role role;
+    private final Integer tokenVersion;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String subject, String tokenId, Long userId, Role role, Integer tokenVersion,
+                         Instant issuedAt, Instant expiresAt) {
+        this.subject = subject;
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * The jti claim, used to revoke a single token (null for older tokens)
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public Integer getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Whether the token carries everything needed to authorize without loading the user
+     */
+    public boolean hasIdentityClaims() {
+        return userId != null && role != null && tokenVersion != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,65 @@
+package com.talentiq.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recently verified tokens, keyed by the SHA-256 of the token so no bearer credential is kept,
+ * and valid until the token itself expires. Bounded: when full, expired entries are dropped first
+ * and the whole cache is cleared if that is not enough (misses only cost a normal verification).
+ */
+@Component
+public class VerifiedTokenCache {
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<ByteBuffer, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    public VerifiedToken get(String token) {
+        ByteBuffer key = hash(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified != null && verified.isExpired(Instant.now())) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(hash(token), verified);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evict() {
+        Instant now = Instant.now();
+        entries.values().removeIf(verified -> verified.isExpired(now));
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -16,6 +16,8 @@ import com.talentiq.backend.repository.JobRepository;
 import com.talentiq.backend.repository.MatchRepository;
 import com.talentiq.backend.repository.ResumeRepository;
 import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.security.TokenVersionStore;
+import com.talentiq.backend.security.UserPrincipalCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +26,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +41,21 @@ public class AdminService {
     @Autowired
     private JobRepository jobRepository;
 
+    @Autowired
+    private StorageOutboxService storageOutboxService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenVersionStore tokenVersionStore;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private ProfilePictureVariantService profilePictureVariantService;
+
     @Autowired
     private ResumeRepository resumeRepository;
 
@@ -114,7 +132,10 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
         user.setRole(request.getRole());
+        // The role is a token claim: old tokens must not keep the old role
+        tokenVersionStore.revoke(user);
         user = userRepository.save(user);
+        userPrincipalCache.evict(user);
 
         return convertToUserResponse(user);
     }
@@ -133,6 +154,14 @@ public class AdminService {
         // Clean up related data before deleting user
         // 1. Delete user's resumes
         List<Resume> userResumes = resumeRepository.findByUserId(userId);
+
+        // The user's files are deleted in batches after commit; failures are retried by the outbox
+        List<String> fileUrls = new ArrayList<>(profilePictureVariantService.filesOf(user.getProfilePicturePath()));
+        for (Resume resume : userResumes) {
+            fileUrls.add(resume.getFilePath());
+        }
+        storageOutboxService.enqueueDeletes(fileUrls);
+
         resumeRepository.deleteAll(userResumes);
 
         // 2. Delete applications by this user
@@ -153,6 +182,9 @@ public class AdminService {
 
         // 4. Now safe to delete the user
         userRepository.delete(user);
+        userPrincipalCache.evict(user);
+        tokenVersionStore.forget(userId);
+        refreshTokenService.deleteForUser(userId);
     }
 
     // FIXED: Get all jobs (admin view) with pagination - NOW USES findAllWithRecruiter
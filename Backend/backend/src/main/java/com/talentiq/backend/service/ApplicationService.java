@@ -15,10 +15,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ApplicationService {
@@ -32,6 +34,9 @@ public class ApplicationService {
     @Autowired
     private ResumeRepository resumeRepository;
 
+    @Autowired
+    private ProfilePictureVariantService profilePictureVariantService;
+
     @Transactional
     public ApplicationResponse createApplication(ApplicationRequest request, User user) {
         // Verify job exists
@@ -71,30 +76,43 @@ public class ApplicationService {
         return convertToResponse(application);
     }
 
-    public List<ApplicationResponse> getApplicationsForJob(Long jobId, User recruiter) {
+    /**
+     * Applications for a job, optionally filtered and ranked on the applicants' structured resume fields
+     * @param minYears only resumes with at least this many years of experience
+     * @param skill only resumes listing this skill
+     * @param sortByFit best fit first instead of newest first
+     */
+    public List<ApplicationResponse> getApplicationsForJob(Long jobId, Long recruiterId, Integer minYears,
+                                                           String skill, boolean sortByFit) {
         // Verify job exists and belongs to recruiter
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
 
-        if (!job.getRecruiter().getId().equals(recruiter.getId())) {
+        if (!job.getRecruiter().getId().equals(recruiterId)) {
             throw new RuntimeException("You don't have permission to view applications for this job");
         }
 
         List<Application> applications = applicationRepository.findByJobId(jobId);
-        return applications.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        Stream<ApplicationResponse> responses = applications.stream()
+                .filter(application -> minYears == null || (application.getResume().getYearsOfExperience() != null
+                        && application.getResume().getYearsOfExperience() >= minYears))
+                .filter(application -> ResumeJobScorer.hasSkill(application.getResume().getSkills(), skill))
+                .map(this::convertToResponse);
+        if (sortByFit) {
+            responses = responses.sorted(Comparator.comparing(ApplicationResponse::getFitScore).reversed());
+        }
+        return responses.collect(Collectors.toList());
     }
 
-    public List<ApplicationResponse> getUserApplications(User user) {
-        List<Application> applications = applicationRepository.findByUserIdOrderByAppliedAtDesc(user.getId());
+    public List<ApplicationResponse> getUserApplications(Long userId) {
+        List<Application> applications = applicationRepository.findByUserIdOrderByAppliedAtDesc(userId);
         return applications.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
-    public List<ApplicationResponse> getAllRecruiterApplications(User recruiter) {
-        List<Application> applications = applicationRepository.findByRecruiterId(recruiter.getId());
+    public List<ApplicationResponse> getAllRecruiterApplications(Long recruiterId) {
+        List<Application> applications = applicationRepository.findByRecruiterId(recruiterId);
         return applications.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
@@ -124,12 +142,12 @@ public class ApplicationService {
         return convertToResponse(application);
     }
 
-    public JobStatsResponse getJobStats(Long jobId, User recruiter) {
+    public JobStatsResponse getJobStats(Long jobId, Long recruiterId) {
         // Verify job exists and belongs to recruiter
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
 
-        if (!job.getRecruiter().getId().equals(recruiter.getId())) {
+        if (!job.getRecruiter().getId().equals(recruiterId)) {
             throw new RuntimeException("You don't have permission to view stats for this job");
         }
 
@@ -172,7 +190,7 @@ public class ApplicationService {
 
     private ApplicationResponse convertToResponse(Application application) {
         User applicant = application.getUser();
-        return new ApplicationResponse(
+        ApplicationResponse response = new ApplicationResponse(
                 application.getId(),
                 application.getJob().getId(),
                 application.getJob().getTitle(),
@@ -192,5 +210,11 @@ public class ApplicationService {
                 application.getReviewedAt(),
                 application.getRecruiterNotes()
         );
+        response.setUserProfilePictureUrls(profilePictureVariantService.urlsFor(
+                applicant.getProfilePicturePath(), applicant.getProfilePictureVariantsReady()));
+        response.setResumeYearsOfExperience(application.getResume().getYearsOfExperience());
+        response.setResumeSkills(application.getResume().getSkills());
+        response.setFitScore(ResumeJobScorer.score(application.getResume(), application.getJob()));
+        return response;
     }
 }
\ No newline at end of file
@@ -4,7 +4,11 @@ import com.talentiq.backend.dto.*;
 import com.talentiq.backend.model.AuthProvider;
 import com.talentiq.backend.model.User;
 import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.security.AccessTokenRevocationList;
+import com.talentiq.backend.security.AuthenticatedUser;
 import com.talentiq.backend.security.JwtTokenProvider;
+import com.talentiq.backend.security.TokenVersionStore;
+import com.talentiq.backend.security.UserPrincipalCache;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -52,6 +56,21 @@ public class AuthService {
     @Autowired
     private OAuthService oAuthService;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenVersionStore tokenVersionStore;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    @Autowired
+    private LoginActivityRecorder loginActivityRecorder;
+
     private static final int MAX_FAILED_ATTEMPTS = 5;
 
     /**
@@ -116,6 +135,7 @@ public class AuthService {
         // Verify email
         user.setEmailVerified(true);
         userRepository.save(user);
+        userPrincipalCache.evict(user);
 
         // Send welcome email
         emailService.sendWelcomeEmail(user.getEmail(), user.getFullName());
@@ -127,7 +147,7 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = tokenProvider.generateToken(authentication);
 
-        return new AuthResponse(jwt, user.getId(), user.getEmail(), user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+        return authResponse(user, jwt);
     }
 
     /**
@@ -154,7 +174,8 @@ public class AuthService {
     /**
      * Login with email/password
      */
-    @Transactional
+    // The failed-attempt updates must survive the exceptions that report them
+    @Transactional(noRollbackFor = {BadCredentialsException.class, LockedException.class})
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
@@ -182,26 +203,27 @@ public class AuthService {
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
 
-            // Reset failed attempts on successful login
-            user.setFailedLoginAttempts(0);
-            user.setLastLoginAt(LocalDateTime.now());
-            userRepository.save(user);
+            // Reset failed attempts on successful login; the login time is written behind
+            if (user.getFailedLoginAttempts() != null && user.getFailedLoginAttempts() > 0) {
+                userRepository.resetFailedLoginAttempts(user.getId());
+            }
+            loginActivityRecorder.recordLogin(user.getId());
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
             String jwt = tokenProvider.generateToken(authentication);
 
-            return new AuthResponse(jwt, user.getId(), user.getEmail(), user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+            return authResponse(user, jwt);
         } catch (BadCredentialsException e) {
-            // Increment failed attempts
-            user.setFailedLoginAttempts(user.getFailedLoginAttempts() + 1);
+            // Increment failed attempts (atomic, so concurrent attempts can't overwrite each other)
+            userRepository.incrementFailedLoginAttempts(user.getId());
 
-            if (user.getFailedLoginAttempts() >= MAX_FAILED_ATTEMPTS) {
-                user.setAccountLocked(true);
-                userRepository.save(user);
+            if (userRepository.lockIfTooManyFailedAttempts(user.getId(), MAX_FAILED_ATTEMPTS) > 0) {
+                // The lock bumped the token version in the database; reload it on the next check
+                tokenVersionStore.forget(user.getId());
+                userPrincipalCache.evict(user);
                 throw new LockedException("Account locked due to too many failed attempts");
             }
 
-            userRepository.save(user);
             throw new BadCredentialsException("Invalid email or password");
         }
     }
@@ -248,8 +270,7 @@ public class AuthService {
                 throw new RuntimeException("Email already registered with " + user.getAuthProvider().name());
             }
 
-            user.setLastLoginAt(LocalDateTime.now());
-            userRepository.save(user);
+            loginActivityRecorder.recordLogin(user.getId());
         }
 
         // Generate JWT
@@ -259,7 +280,7 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = tokenProvider.generateToken(authentication);
 
-        return new AuthResponse(jwt, user.getId(), user.getEmail(), user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+        return authResponse(user, jwt);
     }
 
     /**
@@ -344,7 +365,7 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = tokenProvider.generateToken(authentication);
 
-        return new AuthResponse(jwt, user.getId(), user.getEmail(), user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+        return authResponse(user, jwt);
     }
 
     /**
@@ -373,8 +394,7 @@ public class AuthService {
         }
 
         // Update last login
-        user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        loginActivityRecorder.recordLogin(user.getId());
 
         // Generate JWT
         Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -383,7 +403,7 @@ public class AuthService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = tokenProvider.generateToken(authentication);
 
-        return new AuthResponse(jwt, user.getId(), user.getEmail(), user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+        return authResponse(user, jwt);
     }
 
     /**
@@ -439,7 +459,10 @@ public class AuthService {
             user.setFailedLoginAttempts(0);
         }
 
+        // Sign out every existing session
+        tokenVersionStore.revoke(user);
         userRepository.save(user);
+        userPrincipalCache.evict(user);
 
         Map<String, String> response = new HashMap<>();
         response.put("message", "Password reset successfully");
@@ -452,7 +475,11 @@ public class AuthService {
      * FIXED: Block OAuth users from changing passwords
      */
     @Transactional
-    public Map<String, String> changePassword(ChangePasswordRequest request, User user) {
+    public Map<String, String> changePassword(ChangePasswordRequest request, User principal) {
+        // Work on a fresh copy: the principal may be shared through UserPrincipalCache
+        User user = userRepository.findById(principal.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
         // Block OAuth users from changing passwords
         if (user.getAuthProvider() != AuthProvider.LOCAL) {
             throw new IllegalStateException("Password cannot be changed for " + user.getAuthProvider().name() + " accounts");
@@ -465,12 +492,51 @@ public class AuthService {
 
         // Update password
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        // Sign out other sessions; the caller continues with the new token
+        tokenVersionStore.revoke(user);
         userRepository.save(user);
+        userPrincipalCache.evict(user);
 
         Map<String, String> response = new HashMap<>();
         response.put("message", "Password changed successfully");
+        response.put("token", tokenProvider.generateToken(user));
+        response.put("refreshToken", refreshTokenService.issue(user));
 
         return response;
     }
 
+    /**
+     * Exchange a refresh token for a new access token and a new refresh token
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        User user = rotation.getUser();
+
+        AuthResponse response = new AuthResponse(tokenProvider.generateToken(user), user.getId(), user.getEmail(),
+                user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+        response.setRefreshToken(rotation.getRefreshToken());
+        return response;
+    }
+
+    /**
+     * Logout: revoke the refresh token's family and, if the request was authenticated, the access token
+     */
+    public Map<String, String> logout(RefreshTokenRequest request, AuthenticatedUser principal) {
+        if (request != null && request.getRefreshToken() != null) {
+            refreshTokenService.revoke(request.getRefreshToken());
+        }
+        if (principal != null) {
+            accessTokenRevocationList.revoke(principal.getTokenId(), principal.getTokenExpiresAt());
+        }
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "Logged out successfully");
+        return response;
+    }
+
+    private AuthResponse authResponse(User user, String jwt) {
+        AuthResponse response = new AuthResponse(jwt, user.getId(), user.getEmail(), user.getFullName(), user.getRole().name(), user.getAuthProvider().name());
+        response.setRefreshToken(refreshTokenService.issue(user));
+        return response;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,472 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.dto.BulkResumeUploadResponse;
+import com.talentiq.backend.dto.BulkResumeUploadResponse.FileResult;
+import com.talentiq.backend.model.CompressedTextConverter;
+import com.talentiq.backend.model.Resume;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.storage.StorageBackend;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Bulk resume import from a ZIP archive.
+ * Entries are unpacked one at a time as the request body streams in, parsed and uploaded
+ * on the resumeParseExecutor pool, and inserted with batched JDBC statements.
+ * Reading pauses while the pool is saturated, so at most maxInFlight entries are on disk at once.
+ * Object storage has no multi-object PUT, so uploads are one request per file, run concurrently
+ * by the workers; cleanup of files that never got a row uses the batched delete.
+ */
+@Service
+public class BulkResumeImportService {
+
+    private static final long MAX_ENTRY_SIZE = 10 * 1024 * 1024; // Same limit as single upload
+    private static final int INSERT_BATCH_SIZE = 20;
+
+    private static final String INSERT_RESUME = "INSERT INTO resumes (user_id, filename, file_path, file_size, mime_type, "
+            + "text_preview, years_of_experience, extracted_skills, extracted_titles, contact_email, contact_phone, "
+            + "detected_sections, fields_version, uploaded_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TEXT = "INSERT INTO resume_text (resume_id, content, original_length) VALUES (?, ?, ?)";
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("resumeParseExecutor")
+    private ThreadPoolExecutor resumeParseExecutor;
+
+    @Value("${resume.import.max-files:500}")
+    private int maxFiles;
+
+    private final CompressedTextConverter textConverter = new CompressedTextConverter();
+
+    /**
+     * Import every supported resume in a ZIP archive for the given user
+     */
+    public BulkResumeUploadResponse importZip(InputStream body, User user) {
+        long start = System.currentTimeMillis();
+        int maxInFlight = resumeParseExecutor.getMaximumPoolSize() * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicBoolean aborted = new AtomicBoolean();
+
+        List<Slot> slots = new ArrayList<>();
+        List<Slot> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+
+        System.out.println("📦 Bulk resume import started for user " + user.getId());
+
+        try {
+            int drained = readArchive(body, user, inFlight, aborted, slots, batch);
+
+            // Wait for the remaining entries and insert whatever is left
+            drain(slots, drained, batch, user, true);
+            flush(batch, user);
+        } catch (RuntimeException e) {
+            abort(slots, batch, aborted);
+            throw e;
+        }
+
+        BulkResumeUploadResponse response = new BulkResumeUploadResponse();
+        for (Slot slot : slots) {
+            response.addResult(slot.result);
+        }
+        response.setElapsedMs(System.currentTimeMillis() - start);
+
+        System.out.println("✅ Bulk import finished: " + response.getImported() + " imported, "
+                + response.getFailed() + " failed in " + response.getElapsedMs() + " ms");
+        return response;
+    }
+
+    /**
+     * Unpack the archive, handing each supported entry to the parse pool and draining finished
+     * entries as it goes. Returns the index of the first slot not yet drained.
+     */
+    private int readArchive(InputStream body, User user, Semaphore inFlight, AtomicBoolean aborted,
+                            List<Slot> slots, List<Slot> batch) {
+        int drained = 0;
+        int files = 0;
+
+        try (ZipInputStream zip = new ZipInputStream(body)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String filename = baseName(entry.getName());
+                if (entry.isDirectory() || filename.isEmpty() || filename.startsWith(".")
+                        || entry.getName().startsWith("__MACOSX/")) {
+                    continue;
+                }
+
+                if (++files > maxFiles) {
+                    slots.add(Slot.done(FileResult.failure(filename, "Archive exceeds the limit of " + maxFiles + " files")));
+                    break;
+                }
+
+                String contentType = contentTypeFor(filename);
+                if (contentType == null) {
+                    slots.add(Slot.done(FileResult.failure(filename, "Only PDF, DOCX, DOC, and TXT files are allowed")));
+                    continue;
+                }
+
+                // Backpressure: stop reading the upload until a worker frees a slot
+                inFlight.acquire();
+                Path temp = spool(zip, filename);
+                if (temp == null) {
+                    inFlight.release();
+                    slots.add(Slot.done(FileResult.failure(filename, "File size exceeds maximum limit of 10MB")));
+                    continue;
+                }
+
+                Future<PreparedResume> future;
+                try {
+                    future = resumeParseExecutor.submit(() -> {
+                        try {
+                            return prepare(temp, filename, contentType, aborted);
+                        } finally {
+                            Files.deleteIfExists(temp);
+                            inFlight.release();
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    Files.deleteIfExists(temp);
+                    inFlight.release();
+                    throw e;
+                }
+                slots.add(Slot.pending(filename, temp, future));
+
+                drained = drain(slots, drained, batch, user, false);
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Bulk import stopped, archive could not be read: " + e.getMessage());
+            slots.add(Slot.done(FileResult.failure("(archive)", "Failed to read ZIP archive: " + e.getMessage())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Bulk import interrupted", e);
+        }
+        return drained;
+    }
+
+    /**
+     * Stop an import that failed part way: unstarted entries are pulled from the pool, running
+     * ones are waited for, and every upload that has no row yet is deleted.
+     * Batches already inserted stay imported.
+     */
+    private void abort(List<Slot> slots, List<Slot> batch, AtomicBoolean aborted) {
+        aborted.set(true);
+        boolean interrupted = Thread.interrupted(); // Waiting below must not be cut short
+
+        List<String> orphaned = new ArrayList<>();
+        for (Slot slot : batch) {
+            orphaned.add(slot.prepared.resume.getFilePath());
+        }
+
+        for (Slot slot : slots) {
+            if (slot.future == null) {
+                continue;
+            }
+            if (slot.future instanceof Runnable task && resumeParseExecutor.remove(task)) {
+                // Never started, so its finally block won't run
+                try {
+                    Files.deleteIfExists(slot.temp);
+                } catch (IOException e) {
+                    System.err.println("⚠️ Could not delete temp file " + slot.temp + ": " + e.getMessage());
+                }
+                continue;
+            }
+            PreparedResume prepared = awaitQuietly(slot.future);
+            if (prepared != null) {
+                orphaned.add(prepared.resume.getFilePath());
+            }
+        }
+
+        if (!orphaned.isEmpty()) {
+            storageBackend.deleteFiles(orphaned);
+        }
+        System.err.println("❌ Bulk import aborted; removed " + orphaned.size() + " uploaded files without a row");
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Result of a worker once it has finished, or null if it failed
+     */
+    private static PreparedResume awaitQuietly(Future<PreparedResume> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    return null;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Parse and upload one entry (runs on the parse pool)
+     */
+    private PreparedResume prepare(Path temp, String filename, String contentType, AtomicBoolean aborted)
+            throws IOException {
+        ResumeParserService.ParsedResume parsed = resumeParserService.parse(temp.toString());
+
+        Resume resume = new Resume();
+        resume.setFilename(filename);
+        resume.setFileSize(Files.size(temp));
+        resume.setMimeType(contentType);
+        resume.setTextPreview(ResumeService.buildPreview(parsed.getText()));
+        ResumeService.applyExtractedFields(resume, parsed.getFields());
+
+        // Upload last so a file that fails to parse (or belongs to an aborted import) never reaches S3
+        if (aborted.get()) {
+            throw new IllegalStateException("Import aborted");
+        }
+        resume.setFilePath(storageBackend.uploadFile(temp, filename, contentType, "resumes"));
+        return new PreparedResume(resume, parsed.getText());
+    }
+
+    /**
+     * Move finished entries (in archive order) into the insert batch, flushing full batches.
+     * Returns the index of the first slot not yet drained.
+     */
+    private int drain(List<Slot> slots, int from, List<Slot> batch, User user, boolean wait) {
+        int i = from;
+        while (i < slots.size()) {
+            Slot slot = slots.get(i);
+            if (slot.future != null) {
+                if (!wait && !slot.future.isDone()) {
+                    break;
+                }
+                try {
+                    slot.prepared = slot.future.get();
+                    batch.add(slot);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    slot.result = FileResult.failure(slot.filename, cause.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Bulk import interrupted", e);
+                }
+                slot.future = null;
+            }
+            i++;
+
+            if (batch.size() >= INSERT_BATCH_SIZE) {
+                flush(batch, user);
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Insert a batch of resumes and their text in one transaction.
+     * Resumes use IDENTITY ids, which disables Hibernate insert batching, so this goes through JDBC.
+     */
+    private void flush(List<Slot> batch, User user) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+                jdbcTemplate.batchUpdate(
+                        con -> con.prepareStatement(INSERT_RESUME, new String[]{"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Resume resume = batch.get(i).prepared.resume;
+                                ps.setLong(1, user.getId());
+                                ps.setString(2, resume.getFilename());
+                                ps.setString(3, resume.getFilePath());
+                                ps.setLong(4, resume.getFileSize());
+                                ps.setString(5, resume.getMimeType());
+                                ps.setString(6, resume.getTextPreview());
+                                ps.setObject(7, resume.getYearsOfExperience(), Types.INTEGER);
+                                ps.setString(8, resume.getSkills());
+                                ps.setString(9, resume.getJobTitles());
+                                ps.setString(10, resume.getContactEmail());
+                                ps.setString(11, resume.getContactPhone());
+                                ps.setString(12, resume.getDetectedSections());
+                                ps.setObject(13, resume.getFieldsVersion(), Types.INTEGER);
+                                ps.setTimestamp(14, now);
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return batch.size();
+                            }
+                        },
+                        keyHolder);
+
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                List<Object[]> texts = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    Slot slot = batch.get(i);
+                    Long id = ((Number) keys.get(i).get("id")).longValue();
+                    slot.prepared.resume.setId(id);
+                    String text = slot.prepared.text;
+                    texts.add(new Object[]{id, textConverter.convertToDatabaseColumn(text), text.length()});
+                }
+                jdbcTemplate.batchUpdate(INSERT_TEXT, texts);
+            });
+
+            for (Slot slot : batch) {
+                slot.result = FileResult.success(slot.filename, slot.prepared.resume.getId());
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ Failed to save " + batch.size() + " imported resumes: " + e.getMessage());
+            List<String> uploaded = new ArrayList<>(batch.size());
+            for (Slot slot : batch) {
+                uploaded.add(slot.prepared.resume.getFilePath());
+                slot.result = FileResult.failure(slot.filename, "Failed to save resume");
+            }
+            storageBackend.deleteFiles(uploaded);
+        }
+
+        for (Slot slot : batch) {
+            slot.prepared = null; // Release the parsed text as soon as it is stored
+        }
+        batch.clear();
+    }
+
+    /**
+     * Copy the current entry to a temp file, or return null if it is over the size limit
+     */
+    private Path spool(ZipInputStream zip, String filename) throws IOException {
+        Path temp = Files.createTempFile("bulk_resume_", tempSuffix(filename));
+        byte[] buffer = new byte[8192];
+        long written = 0;
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            int read;
+            while ((read = zip.read(buffer)) != -1) {
+                written += read;
+                if (written > MAX_ENTRY_SIZE) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (written > MAX_ENTRY_SIZE) {
+            Files.deleteIfExists(temp);
+            return null;
+        }
+        return temp;
+    }
+
+    private String contentTypeFor(String filename) {
+        if (!resumeParserService.isSupportedFormat(filename)) {
+            return null;
+        }
+        String lower = filename.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".pdf")) {
+            return "application/pdf";
+        } else if (lower.endsWith(".docx")) {
+            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        } else if (lower.endsWith(".doc")) {
+            return "application/msword";
+        }
+        return "text/plain";
+    }
+
+    /**
+     * Only the extension (Tika uses it as a hint): entry names can be longer than the filesystem
+     * allows for a file name, or contain characters it rejects
+     */
+    private static String tempSuffix(String filename) {
+        int dot = filename.lastIndexOf('.');
+        String extension = dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+        return extension.matches("[a-z0-9]{1,10}") ? "." + extension : ".tmp";
+    }
+
+    private static String baseName(String entryName) {
+        int slash = Math.max(entryName.lastIndexOf('/'), entryName.lastIndexOf('\\'));
+        return entryName.substring(slash + 1).trim();
+    }
+
+    private static class PreparedResume {
+        private final Resume resume;
+        private final String text;
+
+        PreparedResume(Resume resume, String text) {
+            this.resume = resume;
+            this.text = text;
+        }
+    }
+
+    /**
+     * One archive entry, kept in archive order for the response
+     */
+    private static class Slot {
+        private String filename;
+        private Path temp;
+        private Future<PreparedResume> future;
+        private PreparedResume prepared;
+        private FileResult result;
+
+        static Slot pending(String filename, Path temp, Future<PreparedResume> future) {
+            Slot slot = new Slot();
+            slot.filename = filename;
+            slot.temp = temp;
+            slot.future = future;
+            return slot;
+        }
+
+        static Slot done(FileResult result) {
+            Slot slot = new Slot();
+            slot.filename = result.getFilename();
+            slot.result = result;
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.talentiq.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Strong HTTP entity tags built from the values a response is derived from
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(String prefix, Object... parts) {
+        StringBuilder source = new StringBuilder(prefix);
+        for (Object part : parts) {
+            source.append('|').append(part);
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + prefix + "-" + HexFormat.of().formatHex(digest, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.talentiq.backend.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.talentiq.backend.email.EmailBatch;
+import com.talentiq.backend.email.EmailDeliveryException;
+import com.talentiq.backend.email.EmailRecipient;
+import com.talentiq.backend.email.EmailTransport;
+import com.talentiq.backend.model.EmailOutboxEntry;
+import com.talentiq.backend.repository.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Transactional outbox for email.
+ * Callers record the email in their own transaction and return; nothing talks to the mail provider until
+ * it commits, and requests never wait on it. Workers claim due entries, send entries with the same
+ * template as one request (one personalization per recipient), retry failures with backoff, and mark
+ * entries DEAD after max-attempts (see OutboxProcessor). A batch the provider rejects (4xx) is resent
+ * one recipient at a time, so only the recipients that are themselves rejected are marked DEAD.
+ */
+@Service
+public class EmailOutboxService extends OutboxProcessor<EmailOutboxEntry> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String NO_SUBSTITUTIONS = "{}";
+
+    private static final TypeReference<Map<String, String>> SUBSTITUTIONS_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private EmailTransport emailTransport;
+
+    @Autowired
+    @Qualifier("emailOutboxExecutor")
+    private ThreadPoolExecutor emailOutboxExecutor;
+
+    // SendGrid accepts at most 1000 personalizations per request
+    @Value("${email.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${email.outbox.max-backoff-seconds:900}")
+    private long maxBackoffSeconds;
+
+    // Templates carrying short-lived codes, and the backoff cap that applies to them instead
+    @Value("${email.outbox.urgent-templates:otp,password-reset}")
+    private Set<String> urgentTemplates;
+
+    @Value("${email.outbox.urgent-max-backoff-seconds:60}")
+    private long urgentMaxBackoffSeconds;
+
+    // Claimed rows are hidden from other workers for this long, in case this instance dies mid-batch
+    @Value("${email.outbox.lease-seconds:120}")
+    private long leaseSeconds;
+
+    /**
+     * Record an email to send once the current transaction commits.
+     * Subject and contents may contain tags that are replaced with the recipient's substitutions.
+     */
+    public void enqueue(String template, String toEmail, String subject, String textContent, String htmlContent,
+                        Map<String, String> substitutions) {
+        String json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsString(substitutions);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to queue email: " + e.getMessage());
+        }
+        emailOutboxRepository.save(new EmailOutboxEntry(template, toEmail, subject, textContent, htmlContent, json));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void clearDeadLetterSubstitutions() {
+        int cleared = emailOutboxRepository.clearSubstitutions(EmailOutboxEntry.Status.DEAD);
+        if (cleared > 0) {
+            System.out.println("✅ Cleared codes from " + cleared + " dead email outbox entries");
+        }
+    }
+
+    public long countDeadLetters() {
+        return emailOutboxRepository.countByStatus(EmailOutboxEntry.Status.DEAD);
+    }
+
+    /**
+     * Also picks up retries and anything left over by a crash
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:10000}",
+            initialDelayString = "${email.outbox.initial-delay-ms:10000}")
+    public void wakeUp() {
+        emailOutboxExecutor.execute(this::dispatch);
+    }
+
+    private void dispatch() {
+        try {
+            drain();
+        } catch (Exception e) {
+            System.err.println("❌ Email outbox dispatch failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    protected List<EmailOutboxEntry> lockDue(LocalDateTime now, int limit) {
+        return emailOutboxRepository.lockDue(now, limit);
+    }
+
+    @Override
+    protected EmailOutboxRepository repository() {
+        return emailOutboxRepository;
+    }
+
+    @Override
+    protected void process(List<EmailOutboxEntry> batch, Outcome<EmailOutboxEntry> outcome) {
+        // Entries rendered from the same template (same subject and contents) go out as one request
+        Map<String, List<EmailOutboxEntry>> groups = new LinkedHashMap<>();
+        for (EmailOutboxEntry entry : batch) {
+            String key = entry.getTemplate() + '\0' + entry.getSubject() + '\0' + entry.getHtmlContent();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+
+        for (List<EmailOutboxEntry> group : groups.values()) {
+            EmailOutboxEntry first = group.get(0);
+            try {
+                send(group);
+                for (EmailOutboxEntry entry : group) {
+                    outcome.done(entry);
+                }
+            } catch (EmailDeliveryException e) {
+                if (!e.isPermanent()) {
+                    retryGroup(group, outcome, e);
+                } else if (group.size() == 1) {
+                    System.err.println("⚠️ '" + first.getTemplate() + "' email to " + first.getToEmail() + " rejected: " + e.getMessage());
+                    outcome.failed(first, e.getMessage());
+                } else {
+                    // One bad recipient rejects the whole request; find it by sending the group one by one
+                    System.err.println("⚠️ Batch of " + group.size() + " '" + first.getTemplate()
+                            + "' emails rejected, resending individually: " + e.getMessage());
+                    sendIndividually(group, outcome);
+                }
+            } catch (Exception e) {
+                retryGroup(group, outcome, e);
+            }
+        }
+    }
+
+    private void sendIndividually(List<EmailOutboxEntry> group, Outcome<EmailOutboxEntry> outcome) {
+        for (EmailOutboxEntry entry : group) {
+            try {
+                send(Collections.singletonList(entry));
+                outcome.done(entry);
+            } catch (EmailDeliveryException e) {
+                if (e.isPermanent()) {
+                    System.err.println("⚠️ '" + entry.getTemplate() + "' email to " + entry.getToEmail() + " rejected: " + e.getMessage());
+                    outcome.failed(entry, e.getMessage());
+                } else {
+                    outcome.retry(entry, e.getMessage());
+                }
+            } catch (Exception e) {
+                outcome.retry(entry, e.getMessage());
+            }
+        }
+    }
+
+    private void retryGroup(List<EmailOutboxEntry> group, Outcome<EmailOutboxEntry> outcome, Exception e) {
+        System.err.println("⚠️ Failed to send " + group.size() + " '" + group.get(0).getTemplate() + "' email(s): " + e.getMessage());
+        for (EmailOutboxEntry entry : group) {
+            outcome.retry(entry, e.getMessage());
+        }
+    }
+
+    /**
+     * One request for entries sharing a template
+     */
+    private void send(List<EmailOutboxEntry> entries) throws Exception {
+        EmailOutboxEntry first = entries.get(0);
+        List<EmailRecipient> recipients = new ArrayList<>(entries.size());
+        for (EmailOutboxEntry entry : entries) {
+            recipients.add(new EmailRecipient(entry.getToEmail(),
+                    OBJECT_MAPPER.readValue(entry.getSubstitutions(), SUBSTITUTIONS_TYPE)));
+        }
+        emailTransport.send(new EmailBatch(first.getSubject(), first.getTextContent(), first.getHtmlContent(), recipients));
+    }
+
+    @Override
+    protected void giveUp(EmailOutboxEntry entry) {
+        System.err.println("❌ Giving up on '" + entry.getTemplate() + "' email to " + entry.getToEmail()
+                + " after " + entry.getAttempts() + " attempts (" + entry.getLastError() + ")");
+        entry.setStatus(EmailOutboxEntry.Status.DEAD);
+        // The substitutions hold the OTP or reset token; a dead letter keeps only what is needed to inspect it
+        entry.setSubstitutions(NO_SUBSTITUTIONS);
+        emailOutboxRepository.save(entry);
+    }
+
+    @Override
+    protected int batchSize() {
+        return batchSize;
+    }
+
+    @Override
+    protected int maxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    protected long leaseSeconds() {
+        return leaseSeconds;
+    }
+
+    @Override
+    protected long baseBackoffSeconds() {
+        return baseBackoffSeconds;
+    }
+
+    /**
+     * Codes in urgent emails expire (the OTP after 10 minutes), so their retries stay well within that
+     */
+    @Override
+    protected long maxBackoffSeconds(EmailOutboxEntry entry) {
+        if (urgentTemplates.contains(entry.getTemplate())) {
+            return Math.min(maxBackoffSeconds, urgentMaxBackoffSeconds);
+        }
+        return maxBackoffSeconds;
+    }
+}
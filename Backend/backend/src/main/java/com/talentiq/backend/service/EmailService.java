@@ -1,30 +1,29 @@
 package com.talentiq.backend.service;
 
-import com.sendgrid.*;
-import com.sendgrid.helpers.mail.Mail;
-import com.sendgrid.helpers.mail.objects.Content;
-import com.sendgrid.helpers.mail.objects.Email;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
 public class EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
 
-    @Value("${sendgrid.api-key:}")
-    private String sendgridApiKey;
+    // Messages are rendered once per template with these tags; the outbox fills them in per recipient
+    private static final String NAME_TAG = "-name-";
+    private static final String CODE_TAG = "-code-";
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
 
     @Value("${sendgrid.from-email}")
     private String fromEmail;
 
-    @Value("${sendgrid.from-name:TalentIQ}")
-    private String fromName;
-
     @Value("${app.frontend-url}")
     private String frontendUrl;
 
@@ -33,7 +32,7 @@ public class EmailService {
      */
     public void sendOtpEmail(String toEmail, String otp, String fullName) {
         String subject = "TalentIQ - Email Verification Code";
-        String htmlContent = buildOtpEmailHtml(fullName, otp);
+        String htmlContent = buildOtpEmailHtml(NAME_TAG, CODE_TAG);
         String textContent = String.format(
                 "Hello %s,\n\n" +
                         "Thank you for registering with TalentIQ!\n\n" +
@@ -42,19 +41,19 @@ public class EmailService {
                         "If you didn't request this code, please ignore this email.\n\n" +
                         "Best regards,\n" +
                         "The TalentIQ Team",
-                fullName, otp
+                NAME_TAG, CODE_TAG
         );
 
-        sendEmail(toEmail, subject, textContent, htmlContent);
+        sendEmail("otp", toEmail, subject, textContent, htmlContent, substitutions(fullName, otp));
     }
 
     /**
      * Send password reset email with dynamic frontend URL
      */
     public void sendPasswordResetEmail(String toEmail, String resetToken, String fullName) {
-        String resetUrl = frontendUrl + "/reset-password?token=" + resetToken;
+        String resetUrl = frontendUrl + "/reset-password?token=" + CODE_TAG;
         String subject = "TalentIQ - Password Reset Request";
-        String htmlContent = buildPasswordResetEmailHtml(fullName, resetUrl);
+        String htmlContent = buildPasswordResetEmailHtml(NAME_TAG, resetUrl);
         String textContent = String.format(
                 "Hello %s,\n\n" +
                         "We received a request to reset your password.\n\n" +
@@ -63,10 +62,10 @@ public class EmailService {
                         "If you didn't request a password reset, please ignore this email.\n\n" +
                         "Best regards,\n" +
                         "The TalentIQ Team",
-                fullName, resetUrl
+                NAME_TAG, resetUrl
         );
 
-        sendEmail(toEmail, subject, textContent, htmlContent);
+        sendEmail("password-reset", toEmail, subject, textContent, htmlContent, substitutions(fullName, resetToken));
     }
 
     /**
@@ -74,26 +73,26 @@ public class EmailService {
      */
     public void sendWelcomeEmail(String toEmail, String fullName) {
         String subject = "Welcome to TalentIQ!";
-        String htmlContent = buildWelcomeEmailHtml(fullName);
+        String htmlContent = buildWelcomeEmailHtml(NAME_TAG);
         String textContent = String.format(
                 "Hello %s,\n\n" +
                         "Welcome to TalentIQ! Your email has been successfully verified.\n\n" +
                         "You can now log in and start using our platform at: %s/login\n\n" +
                         "Best regards,\n" +
                         "The TalentIQ Team",
-                fullName, frontendUrl
+                NAME_TAG, frontendUrl
         );
 
-        sendEmail(toEmail, subject, textContent, htmlContent);
+        sendEmail("welcome", toEmail, subject, textContent, htmlContent, substitutions(fullName, null));
     }
 
     /**
      * Send email verification link (alternative to OTP)
      */
     public void sendVerificationEmail(String toEmail, String verificationToken, String fullName) {
-        String verificationUrl = frontendUrl + "/verify-email?token=" + verificationToken;
+        String verificationUrl = frontendUrl + "/verify-email?token=" + CODE_TAG;
         String subject = "TalentIQ - Verify Your Email Address";
-        String htmlContent = buildVerificationEmailHtml(fullName, verificationUrl);
+        String htmlContent = buildVerificationEmailHtml(NAME_TAG, verificationUrl);
         String textContent = String.format(
                 "Hello %s,\n\n" +
                         "Thank you for registering with TalentIQ!\n\n" +
@@ -102,10 +101,10 @@ public class EmailService {
                         "If you didn't create an account, please ignore this email.\n\n" +
                         "Best regards,\n" +
                         "The TalentIQ Team",
-                fullName, verificationUrl
+                NAME_TAG, verificationUrl
         );
 
-        sendEmail(toEmail, subject, textContent, htmlContent);
+        sendEmail("verification", toEmail, subject, textContent, htmlContent, substitutions(fullName, verificationToken));
     }
 
     /**
@@ -113,66 +112,35 @@ public class EmailService {
      */
     public void sendPasswordChangeConfirmationEmail(String toEmail, String fullName) {
         String subject = "TalentIQ - Password Changed Successfully";
-        String htmlContent = buildPasswordChangeConfirmationHtml(fullName);
+        String htmlContent = buildPasswordChangeConfirmationHtml(NAME_TAG);
         String textContent = String.format(
                 "Hello %s,\n\n" +
                         "Your TalentIQ password has been changed successfully.\n\n" +
                         "If you didn't make this change, please contact us immediately at: %s\n\n" +
                         "Best regards,\n" +
                         "The TalentIQ Team",
-                fullName, fromEmail
+                NAME_TAG, fromEmail
         );
 
-        sendEmail(toEmail, subject, textContent, htmlContent);
+        sendEmail("password-changed", toEmail, subject, textContent, htmlContent, substitutions(fullName, null));
     }
 
     /**
-     * Core method to send email using SendGrid Web API
+     * Queue an email in the outbox; it is sent after the caller's transaction commits (see EmailOutboxService)
      */
-    private void sendEmail(String toEmail, String subject, String textContent, String htmlContent) {
-        // Check if SendGrid API key is configured
-        if (sendgridApiKey == null || sendgridApiKey.trim().isEmpty()) {
-            logger.warn("⚠️  SendGrid API key not configured. Email not sent.");
-            logger.info("📧 [TEST MODE] Email would be sent to: {}", toEmail);
-            logger.info("Subject: {}", subject);
-            logger.info("Content:\n{}", textContent);
-            return;
-        }
-
-        try {
-            // Create email objects
-            Email from = new Email(fromEmail, fromName);
-            Email to = new Email(toEmail);
-            Content content = new Content("text/html", htmlContent);
-
-            // Build mail object
-            Mail mail = new Mail(from, subject, to, content);
-
-            // Create SendGrid client
-            SendGrid sg = new SendGrid(sendgridApiKey);
-            Request request = new Request();
-
-            // Set request parameters
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-
-            // Send email
-            Response response = sg.api(request);
-
-            // Log response
-            if (response.getStatusCode() >= 200 && response.getStatusCode() < 300) {
-                logger.info("✅ Email sent successfully to: {}", toEmail);
-                logger.debug("SendGrid Response Code: {}", response.getStatusCode());
-            } else {
-                logger.error("❌ Failed to send email. Status Code: {}", response.getStatusCode());
-                logger.error("Response Body: {}", response.getBody());
-            }
+    private void sendEmail(String template, String toEmail, String subject, String textContent, String htmlContent,
+                           Map<String, String> substitutions) {
+        emailOutboxService.enqueue(template, toEmail, subject, textContent, htmlContent, substitutions);
+        logger.debug("📧 Email '{}' queued for: {}", template, toEmail);
+    }
 
-        } catch (IOException ex) {
-            logger.error("❌ Error sending email to {}: {}", toEmail, ex.getMessage(), ex);
-            throw new RuntimeException("Failed to send email: " + ex.getMessage());
+    private static Map<String, String> substitutions(String fullName, String code) {
+        Map<String, String> substitutions = new HashMap<>();
+        substitutions.put(NAME_TAG, fullName != null ? fullName : "");
+        if (code != null) {
+            substitutions.put(CODE_TAG, code);
         }
+        return substitutions;
     }
 
     /**
@@ -1,18 +1,91 @@
 package com.talentiq.backend.service;
 
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.naming.Context;
+import javax.naming.NameNotFoundException;
 import javax.naming.NamingException;
 import javax.naming.directory.Attribute;
 import javax.naming.directory.Attributes;
 import javax.naming.directory.DirContext;
 import javax.naming.directory.InitialDirContext;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class EmailValidationService {
 
+    /**
+     * Cached answer for a domain; valid answers are kept longer than invalid ones
+     */
+    private static final class CachedResult {
+        private final boolean valid;
+        private final long expiresAt;
+
+        private CachedResult(boolean valid, long expiresAt) {
+            this.valid = valid;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Autowired
+    @Qualifier("dnsLookupExecutor")
+    private ThreadPoolExecutor dnsLookupExecutor;
+
+    // Large providers never need a lookup
+    @Value("${email.validation.trusted-domains:gmail.com,googlemail.com,outlook.com,hotmail.com,live.com,msn.com,yahoo.com,icloud.com,me.com,aol.com,proton.me,protonmail.com,gmx.com,zoho.com}")
+    private String trustedDomainList;
+
+    @Value("${email.validation.timeout-ms:2000}")
+    private long timeoutMillis;
+
+    @Value("${email.validation.positive-ttl-seconds:3600}")
+    private long positiveTtlSeconds;
+
+    @Value("${email.validation.negative-ttl-seconds:300}")
+    private long negativeTtlSeconds;
+
+    @Value("${email.validation.cache-max-size:10000}")
+    private int cacheMaxSize;
+
+    // What to answer when the resolver is slow or failing: accept (don't block sign-ups on DNS trouble) or reject
+    @Value("${email.validation.fail-open:true}")
+    private boolean failOpen;
+
+    // Resolver to query, e.g. dns://127.0.0.1:5353 for a local stub; empty uses the system resolvers
+    @Value("${email.validation.dns-server:}")
+    private String dnsServer;
+
+    private Set<String> trustedDomains;
+
+    private final ConcurrentHashMap<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+    // One lookup per domain at a time; concurrent registrations wait on the same future
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        trustedDomains = new HashSet<>();
+        for (String domain : trustedDomainList.split(",")) {
+            if (!domain.isBlank()) {
+                trustedDomains.add(domain.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
     /**
      * Validates if an email domain has valid MX records
      * @param email The email address to validate
@@ -23,15 +96,69 @@ public class EmailValidationService {
             return false;
         }
 
-        String domain = email.substring(email.indexOf("@") + 1);
+        String domain = email.substring(email.indexOf("@") + 1).toLowerCase(Locale.ROOT);
+        if (trustedDomains.contains(domain)) {
+            return true;
+        }
+
+        CachedResult cached = cache.get(domain);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.valid;
+        }
+
+        CompletableFuture<Boolean> lookup;
+        try {
+            lookup = inFlight.computeIfAbsent(domain,
+                    key -> CompletableFuture.supplyAsync(() -> lookup(key), dnsLookupExecutor));
+        } catch (RejectedExecutionException e) {
+            System.err.println("⚠️ MX lookup queue full, skipping check for domain: " + domain);
+            return failOpen;
+        }
+        // Registered outside computeIfAbsent: a lookup that already finished runs this at once,
+        // which must not happen while the map entry is being computed
+        lookup.whenComplete((valid, error) -> inFlight.remove(domain, lookup));
 
         try {
-            return checkMXRecords(domain);
+            Boolean valid = lookup.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            // null: the resolver failed, nothing was cached
+            return valid != null ? valid : failOpen;
+        } catch (TimeoutException e) {
+            // The lookup keeps running and caches its answer for the next registration
+            System.err.println("⚠️ MX lookup timed out for domain: " + domain);
+            return failOpen;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failOpen;
+        } catch (ExecutionException e) {
+            return failOpen;
+        }
+    }
+
+    /**
+     * Resolve and cache; returns null (and caches nothing) if the resolver itself failed
+     */
+    private Boolean lookup(String domain) {
+        boolean valid;
+        try {
+            valid = checkMXRecords(domain);
+        } catch (NameNotFoundException e) {
+            valid = false; // NXDOMAIN is a real answer
         } catch (Exception e) {
             // Log the error but don't expose internal details
             System.err.println("MX record check failed for domain: " + domain + " - " + e.getMessage());
-            return false;
+            return null;
         }
+
+        long ttl = valid ? positiveTtlSeconds : negativeTtlSeconds;
+        if (cache.size() >= cacheMaxSize) {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (cache.size() >= cacheMaxSize) {
+                cache.clear();
+            }
+        }
+        cache.put(domain, new CachedResult(valid, System.currentTimeMillis() + ttl * 1000));
+        return valid;
     }
 
     /**
@@ -40,6 +167,12 @@ public class EmailValidationService {
     private boolean checkMXRecords(String domain) throws NamingException {
         Hashtable<String, String> env = new Hashtable<>();
         env.put(Context.INITIAL_CONTEXT_FACTORY, "com.sun.jndi.dns.DnsContextFactory");
+        // Bound the lookup itself too, so a dead resolver can't hold a worker for long
+        env.put("com.sun.jndi.dns.timeout.initial", String.valueOf(Math.max(timeoutMillis / 2, 250)));
+        env.put("com.sun.jndi.dns.timeout.retries", "2");
+        if (!dnsServer.isBlank()) {
+            env.put(Context.PROVIDER_URL, dnsServer);
+        }
 
         DirContext ctx = null;
         try {
@@ -1,83 +0,0 @@
-package com.talentiq.backend.service;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
-import org.springframework.web.multipart.MultipartFile;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
-
-@Service
-public class FileStorageService {
-
-    @Value("${file.upload-dir:uploads/resumes}")
-    private String uploadDir;
-
-    /**
-     * Store uploaded file and return file path
-     */
-    public String storeFile(MultipartFile file) {
-        try {
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-                System.out.println("📁 Created upload directory: " + uploadPath.toAbsolutePath());
-            }
-
-            // Validate filename
-            String originalFilename = StringUtils.cleanPath(file.getOriginalFilename());
-            if (originalFilename.contains("..")) {
-                throw new RuntimeException("Invalid filename: " + originalFilename);
-            }
-
-            // Generate unique filename to avoid conflicts
-            String fileExtension = getFileExtension(originalFilename);
-            String uniqueFilename = UUID.randomUUID().toString() + "_" + originalFilename;
-
-            // Store file
-            Path targetLocation = uploadPath.resolve(uniqueFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
-
-            System.out.println("✅ File stored successfully: " + targetLocation.toAbsolutePath());
-
-            // Return absolute path
-            return targetLocation.toAbsolutePath().toString();
-
-        } catch (IOException ex) {
-            System.err.println("❌ Error storing file: " + ex.getMessage());
-            throw new RuntimeException("Failed to store file: " + ex.getMessage(), ex);
-        }
-    }
-
-    /**
-     * Delete file from disk
-     */
-    public void deleteFile(String filePath) {
-        try {
-            Path path = Paths.get(filePath);
-            if (Files.exists(path)) {
-                Files.delete(path);
-                System.out.println("🗑️ File deleted: " + filePath);
-            }
-        } catch (IOException ex) {
-            System.err.println("❌ Error deleting file: " + filePath);
-            ex.printStackTrace();
-        }
-    }
-
-    /**
-     * Get file extension
-     */
-    private String getFileExtension(String filename) {
-        if (filename == null || !filename.contains(".")) {
-            return "";
-        }
-        return filename.substring(filename.lastIndexOf("."));
-    }
-}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.talentiq.backend.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GooglePublicKeysManager;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * Google's published signing certificates, fetched over one shared transport and cached for as long as
+ * Google's Cache-Control header allows. A background job refreshes them shortly before they expire, so
+ * logins normally never wait for a certificate download.
+ */
+@Component
+public class GoogleCertsKeySource implements GoogleSigningKeySource {
+
+    // The keys manager itself refreshes synchronously within 5 minutes of expiry; refresh before that
+    private static final long REFRESH_AHEAD_MILLIS = 10 * 60 * 1000;
+
+    private final GooglePublicKeysManager keysManager =
+            new GooglePublicKeysManager(new NetHttpTransport(), GsonFactory.getDefaultInstance());
+
+    @Value("${google.certs.refresh-enabled:true}")
+    private boolean refreshEnabled;
+
+    @Override
+    public List<PublicKey> getPublicKeys() throws Exception {
+        return keysManager.getPublicKeys();
+    }
+
+    /**
+     * Runs at startup (warming the cache) and then periodically
+     */
+    @Scheduled(fixedDelayString = "${google.certs.refresh-check-ms:60000}")
+    public void refreshIfExpiring() {
+        if (!refreshEnabled
+                || keysManager.getExpirationTimeMilliseconds() - REFRESH_AHEAD_MILLIS > System.currentTimeMillis()) {
+            return;
+        }
+        try {
+            keysManager.refresh();
+            System.out.println("🔑 Google signing keys refreshed");
+        } catch (Exception e) {
+            // Keep the old keys; getPublicKeys() retries on demand once they expire
+            System.err.println("⚠️ Failed to refresh Google signing keys: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.talentiq.backend.service;
+
+import java.security.PublicKey;
+import java.util.List;
+
+/**
+ * Public keys Google ID tokens are checked against. The default implementation is GoogleCertsKeySource;
+ * tests can supply locally generated keys instead.
+ */
+public interface GoogleSigningKeySource {
+
+    /**
+     * Currently valid signing keys; must be cheap, it is called on every Google login
+     */
+    List<PublicKey> getPublicKeys() throws Exception;
+}
@@ -1,42 +1,62 @@
 package com.talentiq.backend.service;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.security.PublicKey;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 @Component
 public class GoogleTokenVerifier {
 
     private static final String CLIENT_ID = "660268987587-msqi26m8tb17mirljtcn5nioocbidv3k.apps.googleusercontent.com";
 
+    private static final List<String> AUDIENCE = Collections.singletonList(CLIENT_ID);
+
+    private static final List<String> ISSUERS = Arrays.asList("https://accounts.google.com", "accounts.google.com");
+
+    private static final long CLOCK_SKEW_SECONDS = 300;
+
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+
+    @Autowired
+    private GoogleSigningKeySource keySource;
+
     /**
-     * Verifies a Google ID token and returns the payload containing user info
+     * Verifies a Google ID token and returns the payload containing user info.
+     * Claims are checked first; the signature is then checked locally against the cached signing keys.
      * @param idTokenString The ID token string from Google Sign-In
      * @return GoogleIdToken.Payload containing email, name, picture, etc.
      * @throws RuntimeException if token is invalid
      */
     public GoogleIdToken.Payload verifyToken(String idTokenString) {
+        GoogleIdToken idToken;
+        try {
+            idToken = GoogleIdToken.parse(JSON_FACTORY, idTokenString);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to verify Google token: malformed token", e);
+        }
+
+        if (!idToken.verifyIssuer(ISSUERS)
+                || !idToken.verifyAudience(AUDIENCE)
+                || !idToken.verifyTime(System.currentTimeMillis(), CLOCK_SKEW_SECONDS)) {
+            throw new RuntimeException("Invalid Google ID token");
+        }
+
         try {
-            GoogleIdTokenVerifier verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(),
-                    GsonFactory.getDefaultInstance()
-            )
-                    .setAudience(Collections.singletonList(CLIENT_ID))
-                    .build();
-
-            GoogleIdToken idToken = verifier.verify(idTokenString);
-
-            if (idToken != null) {
-                return idToken.getPayload(); // contains email, name, picture, sub (user ID)
-            } else {
-                throw new RuntimeException("Invalid Google ID token");
+            for (PublicKey key : keySource.getPublicKeys()) {
+                if (idToken.verifySignature(key)) {
+                    return idToken.getPayload(); // contains email, name, picture, sub (user ID)
+                }
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to verify Google token: " + e.getMessage(), e);
         }
+        throw new RuntimeException("Invalid Google ID token");
     }
 }
\ No newline at end of file
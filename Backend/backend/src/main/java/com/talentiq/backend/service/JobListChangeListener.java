@@ -0,0 +1,30 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.model.Role;
+import com.talentiq.backend.model.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity listener on everything a job list page is built from (jobs, their applications and
+ * recruiters): any write through JPA evicts the cached list ETag
+ */
+@Component
+public class JobListChangeListener {
+
+    @Autowired
+    private JobListETagCache jobListETagCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void changed(Object entity) {
+        if (entity instanceof User user && user.getRole() != Role.RECRUITER) {
+            return;
+        }
+        jobListETagCache.evict();
+    }
+}
@@ -0,0 +1,73 @@
+package com.talentiq.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * The job list ETag, so /api/jobs/paginated does not aggregate over every job and application per request.
+ * Writes on this instance evict it (see JobListChangeListener); the TTL bounds how long a write
+ * made on another instance can go unnoticed.
+ */
+@Component
+public class JobListETagCache {
+
+    @Value("${jobs.list-etag.ttl-ms:5000}")
+    private long ttlMillis;
+
+    private volatile Entry entry;
+
+    // Bumped by every eviction; a value computed across an eviction is not cached
+    private volatile long generation;
+
+    public String get(Supplier<String> loader) {
+        Entry current = entry;
+        long now = System.nanoTime();
+        if (current != null && now - current.loadedAt < ttlMillis * 1_000_000L) {
+            return current.eTag;
+        }
+
+        long loadedGeneration = generation;
+        String eTag = loader.get();
+        synchronized (this) {
+            if (generation == loadedGeneration) {
+                entry = new Entry(eTag, now);
+            }
+        }
+        return eTag;
+    }
+
+    /**
+     * Drop the ETag now and again after the current transaction completes,
+     * so a concurrent request cannot re-cache the pre-commit state
+     */
+    public void evict() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        entry = null;
+    }
+
+    private static final class Entry {
+        private final String eTag;
+        private final long loadedAt;
+
+        private Entry(String eTag, long loadedAt) {
+            this.eTag = eTag;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
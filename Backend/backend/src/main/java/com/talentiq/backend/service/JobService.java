@@ -33,6 +33,9 @@ public class JobService {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private JobListETagCache jobListETagCache;
+
     public JobResponse createJob(JobRequest request, User recruiter) {
         Job job = new Job();
         job.setTitle(request.getTitle());
@@ -169,6 +172,28 @@ public class JobService {
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
     }
 
+    /**
+     * ETag of a single job, or null if it does not exist. One indexed query, no entity loaded.
+     */
+    public String getJobETag(Long id) {
+        return jobRepository.findVersionById(id)
+                .map(v -> ETags.of("job-" + id, v.getVersion(), v.getUpdatedAt(),
+                        v.getRecruiterUpdatedAt(), v.getApplicationCount()))
+                .orElse(null);
+    }
+
+    /**
+     * ETag shared by all job list pages; any change to any job invalidates it.
+     * The aggregate is cached (see JobListETagCache) rather than run on every list request.
+     */
+    public String getJobListETag() {
+        return jobListETagCache.get(() -> {
+            JobRepository.JobListVersion v = jobRepository.findListVersion();
+            return ETags.of("jobs", v.getJobCount(), v.getVersionSum(), v.getUpdatedAt(),
+                    v.getRecruiterUpdatedAt(), v.getApplicationCount());
+        });
+    }
+
     public JobResponse getJobResponseById(Long id) {
         Job job = getJobById(id);
         return convertToResponse(job);
@@ -0,0 +1,99 @@
+package com.talentiq.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Write-behind buffer for users' last login time. Logins only record the timestamp in memory
+ * (several logins of one user collapse into one entry); a background flush writes them in JDBC batches.
+ * Informational only: a crash loses at most one flush interval of timestamps. Security state
+ * (failed attempts, locks) is never buffered here.
+ */
+@Service
+public class LoginActivityRecorder {
+
+    private static final String UPDATE_LAST_LOGIN =
+            "UPDATE users SET last_login_at = ? WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${login-activity.batch-size:500}")
+    private int batchSize;
+
+    // Flush early on the caller's thread if this many users are waiting
+    @Value("${login-activity.max-pending:50000}")
+    private int maxPending;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public void recordLogin(Long userId) {
+        pending.merge(userId, LocalDateTime.now(), (old, now) -> now.isAfter(old) ? now : old);
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${login-activity.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            Iterator<Map.Entry<Long, LocalDateTime>> it = pending.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, LocalDateTime> entry = it.next();
+                Long userId = entry.getKey();
+                LocalDateTime loginAt = entry.getValue();
+                // Only drop the entry if no newer login replaced it meanwhile
+                if (pending.remove(userId, loginAt)) {
+                    Timestamp timestamp = Timestamp.valueOf(loginAt);
+                    batch.add(new Object[]{timestamp, userId, timestamp});
+                }
+                if (batch.size() == batchSize) {
+                    write(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN, batch);
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to write " + batch.size() + " login timestamps, will retry: " + e.getMessage());
+            for (Object[] row : batch) {
+                LocalDateTime loginAt = ((Timestamp) row[0]).toLocalDateTime();
+                pending.merge((Long) row[1], loginAt, (newer, old) -> newer.isAfter(old) ? newer : old);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -1,5 +1,6 @@
 package com.talentiq.backend.service;
 
+import com.talentiq.backend.dto.JobRecommendation;
 import com.talentiq.backend.dto.MatchRequest;
 import com.talentiq.backend.dto.MatchResponse;
 import com.talentiq.backend.model.Job;
@@ -10,15 +11,27 @@ import com.talentiq.backend.repository.JobRepository;
 import com.talentiq.backend.repository.MatchRepository;
 import com.talentiq.backend.repository.ResumeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 @Service
 public class MatchService {
 
+    private static final int JOB_PAGE_SIZE = 200;
+
+    // Only the newest jobs (rounded up to whole pages) are scored, so a request doesn't cost more as the board grows
+    @Value("${recommendations.max-scanned-jobs:2000}")
+    private int maxScannedJobs;
+
     @Autowired
     private MatchRepository matchRepository;
 
@@ -64,7 +77,10 @@ public class MatchService {
         Match match = new Match();
         match.setResume(resume);
         match.setJob(job);
-        match.setMatchScore(request.getMatchScore());
+        // Without a client-side analysis, fall back to the structured fit score
+        match.setMatchScore(request.getMatchScore() != null
+                ? request.getMatchScore()
+                : (double) ResumeJobScorer.score(resume, job));
         match.setAnalysisResult(request.getAnalysisResult());
 
         Match savedMatch = matchRepository.save(match);
@@ -77,14 +93,53 @@ public class MatchService {
      * Get all saved jobs for a user
      * FIXED: Now uses JOIN FETCH query to prevent LazyInitializationException
      */
-    public List<MatchResponse> getUserMatches(User user) {
+    public List<MatchResponse> getUserMatches(Long userId) {
         // Uses findByResumeUserIdOrderByIdDesc which now has JOIN FETCH
-        List<Match> matches = matchRepository.findByResumeUserIdOrderByIdDesc(user.getId());
+        List<Match> matches = matchRepository.findByResumeUserIdOrderByIdDesc(userId);
         return matches.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Best-fitting jobs for one of the user's resumes, scored from the structured resume fields only.
+     * The newest maxScannedJobs jobs are read page by page (scored columns only) and only the top entries are kept.
+     */
+    public List<JobRecommendation> recommendJobs(Long resumeId, Long userId, int limit) {
+        Resume resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new RuntimeException("Resume not found with id: " + resumeId));
+
+        if (!resume.getUser().getId().equals(userId)) {
+            throw new RuntimeException("You can only get recommendations for your own resumes");
+        }
+
+        int size = Math.max(1, Math.min(limit, 50));
+        PriorityQueue<JobRecommendation> top = new PriorityQueue<>(Comparator.comparingInt(JobRecommendation::getScore));
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        int pageSize = Math.min(JOB_PAGE_SIZE, Math.max(1, maxScannedJobs));
+        int scanned = 0;
+        List<JobRepository.JobScoringFields> page;
+        do {
+            page = jobRepository.findScoringFields(PageRequest.of(scanned / pageSize, pageSize, newestFirst));
+            for (JobRepository.JobScoringFields job : page) {
+                int score = ResumeJobScorer.score(resume, job.getTitle(), job.getExperienceLevel(), job.getSkillsRequired());
+                if (top.size() < size || score > top.peek().getScore()) {
+                    top.add(new JobRecommendation(job.getId(), job.getTitle(), job.getCompany(), job.getExperienceLevel(), score,
+                            ResumeJobScorer.matchedSkills(resume, job.getSkillsRequired()),
+                            ResumeJobScorer.missingSkills(resume, job.getSkillsRequired())));
+                    if (top.size() > size) {
+                        top.poll();
+                    }
+                }
+            }
+            scanned += page.size();
+        } while (page.size() == pageSize && scanned < maxScannedJobs);
+
+        List<JobRecommendation> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingInt(JobRecommendation::getScore).reversed());
+        return result;
+    }
+
     /**
      * Delete a saved job
      * FIXED: Use findByIdWithRelations to eagerly load relationships
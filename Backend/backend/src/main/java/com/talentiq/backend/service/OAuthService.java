@@ -5,19 +5,46 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
 import com.talentiq.backend.model.AuthProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class OAuthService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final String GITHUB_API = "https://api.github.com";
+
+    private static final int CACHE_MAX_SIZE = 10000;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    @Autowired
+    @Qualifier("oauthHttpClient")
+    private HttpClient httpClient;
+
+    @Value("${oauth.http.read-timeout-ms:5000}")
+    private long readTimeoutMillis;
+
+    // Long enough to cover the check-then-login round trip, short enough that a revoked token stops working soon
+    @Value("${oauth.github.cache-ttl-seconds:60}")
+    private long cacheTtlSeconds;
+
+    // Verified GitHub users by SHA-256 of the access token (raw tokens are never kept)
+    private final ConcurrentHashMap<String, CachedUserInfo> gitHubCache = new ConcurrentHashMap<>();
+
     @Autowired
     private GoogleTokenVerifier googleTokenVerifier;
 
@@ -43,53 +70,52 @@ public class OAuthService {
     }
 
     /**
-     * Verify GitHub access token by calling GitHub API
+     * Verify GitHub access token by calling GitHub API.
+     * /user and /user/emails are requested together; the emails answer is only used when /user has no email.
+     * Results are cached briefly by token hash, so checkOAuthUser followed by a login verifies once.
      */
     public OAuthUserInfo verifyGitHubToken(String token) {
-        try {
-            String url = "https://api.github.com/user";
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class
-            );
+        String tokenHash = hash(token);
+        CachedUserInfo cached = gitHubCache.get(tokenHash);
+        if (cached != null && cached.expiresAt > System.currentTimeMillis()) {
+            return cached.userInfo;
+        }
 
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+        CompletableFuture<HttpResponse<String>> userCall = gitHubGet("/user", token);
+        CompletableFuture<HttpResponse<String>> emailsCall = gitHubGet("/user/emails", token);
+        try {
+            JsonNode jsonNode = objectMapper.readTree(body(userCall.join()));
 
             // GitHub doesn't always provide email in user endpoint
-            String email = jsonNode.has("email") && !jsonNode.get("email").isNull()
-                    ? jsonNode.get("email").asText()
-                    : fetchGitHubEmail(token);
+            String email;
+            if (jsonNode.has("email") && !jsonNode.get("email").isNull()) {
+                emailsCall.cancel(true);
+                email = jsonNode.get("email").asText();
+            } else {
+                email = fetchGitHubEmail(emailsCall);
+            }
 
-            return new OAuthUserInfo(
+            OAuthUserInfo userInfo = new OAuthUserInfo(
                     jsonNode.get("id").asText(),
                     email,
-                    jsonNode.get("name") != null ? jsonNode.get("name").asText() : jsonNode.get("login").asText(),
+                    jsonNode.hasNonNull("name") ? jsonNode.get("name").asText() : jsonNode.get("login").asText(),
                     jsonNode.has("avatar_url") ? jsonNode.get("avatar_url").asText() : null,
                     AuthProvider.GITHUB
             );
+            cache(tokenHash, userInfo);
+            return userInfo;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to verify GitHub token: " + e.getMessage());
+            emailsCall.cancel(true);
+            throw new RuntimeException("Failed to verify GitHub token: " + message(e));
         }
     }
 
     /**
      * Fetch GitHub email from emails endpoint (fallback when not in user endpoint)
      */
-    private String fetchGitHubEmail(String token) {
+    private String fetchGitHubEmail(CompletableFuture<HttpResponse<String>> emailsCall) {
         try {
-            String url = "https://api.github.com/user/emails";
-            HttpHeaders headers = new HttpHeaders();
-            headers.setBearerAuth(token);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, String.class
-            );
-
-            JsonNode jsonNode = objectMapper.readTree(response.getBody());
+            JsonNode jsonNode = objectMapper.readTree(body(emailsCall.join()));
 
             // Find primary verified email
             for (JsonNode emailNode : jsonNode) {
@@ -107,7 +133,60 @@ public class OAuthService {
 
             throw new RuntimeException("No verified email found in GitHub account");
         } catch (Exception e) {
-            throw new RuntimeException("Failed to fetch GitHub email: " + e.getMessage());
+            throw new RuntimeException("Failed to fetch GitHub email: " + message(e));
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> gitHubGet(String path, String token) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(GITHUB_API + path))
+                .timeout(Duration.ofMillis(readTimeoutMillis))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "application/vnd.github+json")
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String body(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new RuntimeException("GitHub API returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private void cache(String tokenHash, OAuthUserInfo userInfo) {
+        if (gitHubCache.size() >= CACHE_MAX_SIZE) {
+            long now = System.currentTimeMillis();
+            gitHubCache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (gitHubCache.size() >= CACHE_MAX_SIZE) {
+                gitHubCache.clear();
+            }
+        }
+        gitHubCache.put(tokenHash, new CachedUserInfo(userInfo, System.currentTimeMillis() + cacheTtlSeconds * 1000));
+    }
+
+    // join() wraps failures in CompletionException; report the underlying cause
+    private static String message(Exception e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class CachedUserInfo {
+        private final OAuthUserInfo userInfo;
+        private final long expiresAt;
+
+        private CachedUserInfo(OAuthUserInfo userInfo, long expiresAt) {
+            this.userInfo = userInfo;
+            this.expiresAt = expiresAt;
         }
     }
 
@@ -1,81 +1,90 @@
 package com.talentiq.backend.service;
 
+import com.talentiq.backend.otp.OtpStore;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HexFormat;
 
 @Service
 public class OtpService {
 
-    // In-memory storage (use Redis for production)
-    private final Map<String, OtpData> otpStorage = new ConcurrentHashMap<>();
+    // Pending codes live in the configured OtpStore (otp.store=memory or jdbc)
+    @Autowired
+    private OtpStore otpStore;
+
+    @Value("${otp.hash-secret:}")
+    private String hashSecret;
+
     private static final int OTP_LENGTH = 6;
     private static final int OTP_EXPIRY_MINUTES = 10;
     private static final int MAX_ATTEMPTS = 3;
 
-    private static class OtpData {
-        String otp;
-        LocalDateTime expiry;
-        int attempts;
+    // Thread-safe; seeding a new instance per code is slow and can block on entropy
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private SecretKeySpec hashKey;
 
-        OtpData(String otp, LocalDateTime expiry) {
-            this.otp = otp;
-            this.expiry = expiry;
-            this.attempts = 0;
+    @PostConstruct
+    public void initialize() {
+        byte[] secret;
+        if (hashSecret == null || hashSecret.isBlank()) {
+            secret = new byte[32];
+            RANDOM.nextBytes(secret);
+            System.out.println("⚠️ otp.hash-secret not set; pending OTPs can only be verified by this node until it restarts");
+        } else {
+            secret = hashSecret.getBytes(StandardCharsets.UTF_8);
         }
+        hashKey = new SecretKeySpec(secret, "HmacSHA256");
     }
 
     public String generateOtp(String email) {
+        String emailKey = email.toLowerCase();
         String otp = generateRandomOtp();
         LocalDateTime expiry = LocalDateTime.now().plusMinutes(OTP_EXPIRY_MINUTES);
-        otpStorage.put(email.toLowerCase(), new OtpData(otp, expiry));
+        otpStore.put(emailKey, hash(emailKey, otp), expiry);
         return otp;
     }
 
     public boolean validateOtp(String email, String otp) {
-        String emailKey = email.toLowerCase();
-        OtpData data = otpStorage.get(emailKey);
-
-        if (data == null) {
-            return false;
-        }
-
-        // Check if expired
-        if (LocalDateTime.now().isAfter(data.expiry)) {
-            otpStorage.remove(emailKey);
-            return false;
-        }
-
-        // Check attempts
-        if (data.attempts >= MAX_ATTEMPTS) {
-            otpStorage.remove(emailKey);
+        if (otp == null) {
             return false;
         }
-
-        data.attempts++;
-
-        // Validate OTP
-        if (data.otp.equals(otp)) {
-            otpStorage.remove(emailKey);
-            return true;
-        }
-
-        return false;
+        String emailKey = email.toLowerCase();
+        return otpStore.verify(emailKey, hash(emailKey, otp), MAX_ATTEMPTS) == OtpStore.Result.MATCH;
     }
 
     public void removeOtp(String email) {
-        otpStorage.remove(email.toLowerCase());
+        otpStore.remove(email.toLowerCase());
     }
 
     private String generateRandomOtp() {
-        SecureRandom random = new SecureRandom();
         StringBuilder otp = new StringBuilder();
         for (int i = 0; i < OTP_LENGTH; i++) {
-            otp.append(random.nextInt(10));
+            otp.append(RANDOM.nextInt(10));
         }
         return otp.toString();
     }
+
+    /**
+     * Codes are stored as an HMAC keyed with otp.hash-secret. There are only 10^6 codes, so a plain
+     * hash would fall to brute force; without the secret a store dump doesn't hand out live codes.
+     */
+    private String hash(String emailKey, String otp) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(hashKey);
+            return HexFormat.of().formatHex(mac.doFinal((emailKey + ":" + otp).getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
 }
\ No newline at end of file
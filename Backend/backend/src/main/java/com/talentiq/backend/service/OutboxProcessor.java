@@ -0,0 +1,172 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.model.OutboxEntry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Claim / process / finalize loop shared by the transactional outboxes.
+ * A batch of due entries is claimed in a short transaction by pushing its next attempt past the lease,
+ * processed with no connection held, and finalized in a second short transaction: finished entries are
+ * deleted, failed ones rescheduled with backoff, and entries that failed for good handed to giveUp.
+ * Subclasses supply the query, the processing and their settings.
+ */
+public abstract class OutboxProcessor<E extends OutboxEntry> {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * What became of each entry of a batch; entries not reported are retried
+     */
+    protected static class Outcome<E extends OutboxEntry> {
+        private final List<E> done = new ArrayList<>();
+        private final List<E> retry = new ArrayList<>();
+        private final List<E> failed = new ArrayList<>();
+        private final Set<E> reported = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        public void done(E entry) {
+            reported.add(entry);
+            done.add(entry);
+        }
+
+        public void retry(E entry, String error) {
+            reported.add(entry);
+            entry.setLastError(truncate(error));
+            retry.add(entry);
+        }
+
+        /**
+         * Failed permanently: given up on without further attempts
+         */
+        public void failed(E entry, String error) {
+            reported.add(entry);
+            entry.setLastError(truncate(error));
+            failed.add(entry);
+        }
+
+        public int retryCount() {
+            return retry.size();
+        }
+    }
+
+    /**
+     * Due entries not claimed by anyone else (FOR UPDATE SKIP LOCKED), oldest first
+     */
+    protected abstract List<E> lockDue(LocalDateTime now, int limit);
+
+    protected abstract JpaRepository<E, Long> repository();
+
+    /**
+     * Network I/O for a claimed batch; no transaction is open
+     */
+    protected abstract void process(List<E> batch, Outcome<E> outcome);
+
+    /**
+     * Called in the finalizing transaction for entries out of attempts or failed permanently
+     */
+    protected abstract void giveUp(E entry);
+
+    protected abstract int batchSize();
+
+    protected abstract int maxAttempts();
+
+    protected abstract long leaseSeconds();
+
+    protected abstract long baseBackoffSeconds();
+
+    protected abstract long maxBackoffSeconds(E entry);
+
+    /**
+     * Process batches until one comes back short
+     */
+    protected void drain() {
+        while (processBatch() == batchSize()) {
+            // Full batch: there may be more
+        }
+    }
+
+    int processBatch() {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Short transaction: claim a batch by pushing its next attempt past the lease
+        List<E> batch = transactionTemplate.execute(status -> {
+            List<E> due = lockDue(now, batchSize());
+            LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds());
+            for (E entry : due) {
+                entry.setNextAttemptAt(leaseUntil);
+            }
+            return due;
+        });
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        // Network I/O with no connection held
+        Outcome<E> outcome = new Outcome<>();
+        String batchError = "Not processed";
+        try {
+            process(batch, outcome);
+        } catch (Exception e) {
+            batchError = e.getMessage();
+            System.err.println("⚠️ Outbox batch failed: " + e.getMessage());
+        }
+        for (E entry : batch) {
+            if (!outcome.reported.contains(entry)) {
+                outcome.retry(entry, batchError);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!outcome.done.isEmpty()) {
+                List<Long> ids = new ArrayList<>(outcome.done.size());
+                for (E entry : outcome.done) {
+                    ids.add(entry.getId());
+                }
+                repository().deleteAllByIdInBatch(ids);
+            }
+            for (E entry : outcome.retry) {
+                int attempts = entry.getAttempts() + 1;
+                entry.setAttempts(attempts);
+                if (attempts >= maxAttempts()) {
+                    giveUp(entry);
+                    continue;
+                }
+                entry.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds(entry, attempts)));
+                repository().save(entry);
+            }
+            for (E entry : outcome.failed) {
+                entry.setAttempts(entry.getAttempts() + 1);
+                giveUp(entry);
+            }
+        });
+
+        return batch.size();
+    }
+
+    /**
+     * Exponential backoff with jitter, so retries of a failed batch don't all fire together
+     */
+    long backoffSeconds(E entry, int attempts) {
+        long backoff = baseBackoffSeconds() << Math.min(attempts - 1, 20);
+        backoff = Math.min(backoff, maxBackoffSeconds(entry));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    static String truncate(String message) {
+        String text = Objects.toString(message, "Unknown error");
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+}
@@ -0,0 +1,298 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.storage.StorageBackend;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Square JPEG thumbnails of profile pictures (sm / md / lg), generated after upload on a
+ * bounded background pool and stored next to the original as {name}_{size}.jpg.
+ * Until they exist (or for pictures uploaded before this) every size falls back to the original.
+ */
+@Service
+public class ProfilePictureVariantService {
+
+    public enum Size {
+        // Largest first: each variant is scaled down from the previous one
+        LG("lg", 512),
+        MD("md", 192),
+        SM("sm", 96);
+
+        private final String label;
+        private final int pixels;
+
+        Size(String label, int pixels) {
+            this.label = label;
+            this.pixels = pixels;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public int getPixels() {
+            return pixels;
+        }
+    }
+
+    // Decoding is width * height * 4 bytes; refuse anything that would need more than ~160MB
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("imageProcessingExecutor")
+    private ThreadPoolExecutor imageProcessingExecutor;
+
+    @Value("${image.processing.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    /**
+     * Generate the variants of a new profile picture in the background.
+     * Inside a transaction the job starts after commit, so it can flag the saved row.
+     */
+    public void scheduleVariants(Long userId, String pictureUrl) {
+        if (pictureUrl == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(userId, pictureUrl);
+                }
+            });
+        } else {
+            submit(userId, pictureUrl);
+        }
+    }
+
+    /**
+     * URL of each size, falling back to the original while the variants are not ready
+     */
+    public Map<String, String> urlsFor(String pictureUrl, Boolean variantsReady) {
+        if (pictureUrl == null) {
+            return null;
+        }
+
+        String key = Boolean.TRUE.equals(variantsReady) ? storageBackend.keyOf(pictureUrl) : null;
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (Size size : new Size[]{Size.SM, Size.MD, Size.LG}) {
+            urls.put(size.getLabel(), key != null ? storageBackend.getPublicUrl(variantKey(key, size)) : pictureUrl);
+        }
+        return urls;
+    }
+
+    /**
+     * The original and all its variant locations, for deletion
+     */
+    public List<String> filesOf(String pictureUrl) {
+        List<String> files = new ArrayList<>();
+        if (pictureUrl == null) {
+            return files;
+        }
+
+        files.add(pictureUrl);
+        String key = storageBackend.keyOf(pictureUrl);
+        if (key != null) {
+            for (Size size : Size.values()) {
+                files.add(storageBackend.getPublicUrl(variantKey(key, size)));
+            }
+        }
+        return files;
+    }
+
+    static String variantKey(String key, Size size) {
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        String base = dot > slash ? key.substring(0, dot) : key;
+        return base + "_" + size.getLabel() + ".jpg";
+    }
+
+    private void submit(Long userId, String pictureUrl) {
+        try {
+            imageProcessingExecutor.execute(() -> generate(userId, pictureUrl));
+        } catch (RejectedExecutionException e) {
+            System.err.println("⚠️ Image processing queue full; user " + userId + " keeps the original picture");
+        }
+    }
+
+    private void generate(Long userId, String pictureUrl) {
+        String key = storageBackend.keyOf(pictureUrl);
+        if (key == null) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Path source = null;
+        Path output = null;
+        List<String> written = new ArrayList<>();
+        try {
+            source = Files.createTempFile("picture_", ".img");
+            output = Files.createTempFile("picture_", ".jpg");
+            storageBackend.downloadToFile(key, source);
+
+            BufferedImage image = read(source);
+            if (image == null) {
+                System.err.println("⚠️ Could not decode profile picture of user " + userId);
+                return;
+            }
+
+            image = squareCrop(image);
+            for (Size size : Size.values()) {
+                image = scale(image, Math.min(size.getPixels(), image.getWidth()));
+                writeJpeg(image, output);
+                written.add(storageBackend.putFile(variantKey(key, size), output, "image/jpeg"));
+            }
+
+            Integer updated = transactionTemplate.execute(status ->
+                    userRepository.markProfilePictureVariantsReady(userId, pictureUrl));
+            if (updated == null || updated == 0) {
+                // Picture was replaced or removed while we worked; don't leave the variants behind
+                storageBackend.deleteFilesAsync(written);
+                return;
+            }
+
+            System.out.println("🖼️ Profile picture variants ready for user " + userId
+                    + " in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (Exception e) {
+            System.err.println("❌ Failed to generate profile picture variants for user " + userId + ": " + e.getMessage());
+            if (!written.isEmpty()) {
+                storageBackend.deleteFilesAsync(written);
+            }
+        } finally {
+            deleteQuietly(source);
+            deleteQuietly(output);
+        }
+    }
+
+    /**
+     * Decode an image after checking its dimensions, so a tiny file declaring a huge canvas is never decoded
+     */
+    private BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Image dimensions too large");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Center crop to a square (avatars are shown in circles) on an opaque RGB canvas
+     */
+    private static BufferedImage squareCrop(BufferedImage image) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int x = (image.getWidth() - side) / 2;
+        int y = (image.getHeight() - side) / 2;
+
+        BufferedImage square = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = square.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE); // transparent PNG areas become white instead of black
+            graphics.fillRect(0, 0, side, side);
+            graphics.drawImage(image, -x, -y, null);
+        } finally {
+            graphics.dispose();
+        }
+        return square;
+    }
+
+    /**
+     * Scale a square image down by halving steps; one bilinear pass from a much larger image is blurry and aliased
+     */
+    private static BufferedImage scale(BufferedImage image, int target) {
+        BufferedImage current = image;
+        int side = image.getWidth();
+        while (side > target) {
+            side = Math.max(side / 2, target);
+            BufferedImage next = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, side, side, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        Files.deleteIfExists(target);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not delete temp file " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.exception.InvalidRefreshTokenException;
+import com.talentiq.backend.model.RefreshToken;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.repository.RefreshTokenRepository;
+import com.talentiq.backend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Rotating refresh tokens. The client only ever holds the raw value; the database keeps its hash.
+ * Every refresh revokes the presented token and issues the next one in the same family, so a token
+ * that shows up a second time was copied, and its whole family is revoked.
+ */
+@Service
+public class RefreshTokenService {
+
+    /**
+     * The user behind a successful rotation, and their new refresh token
+     */
+    public static class Rotation {
+        private final User user;
+        private final String refreshToken;
+
+        Rotation(User user, String refreshToken) {
+            this.user = user;
+            this.refreshToken = refreshToken;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jwt.refresh-expiration:2592000000}")
+    private long refreshExpiration;
+
+    /**
+     * Start a new token family for a fresh login
+     */
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchange a refresh token for a new one. Throws InvalidRefreshTokenException if it is unknown,
+     * expired, already used, or its user's tokens were revoked since it was issued.
+     */
+    public Rotation rotate(String rawToken) {
+        // Reuse handling must commit even though the request fails, so the outcome is decided inside
+        // the transaction and the exception thrown after it
+        Object outcome = transactionTemplate.execute(status -> {
+            RefreshToken token = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken)).orElse(null);
+            if (token == null) {
+                return "Invalid refresh token";
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            if (token.getRevokedAt() != null) {
+                int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+                System.err.println("⚠️ Refresh token reused for user " + token.getUserId()
+                        + "; revoked " + revoked + " token(s) of its family");
+                return "Refresh token already used";
+            }
+
+            token.setRevokedAt(now);
+            if (token.getExpiresAt().isBefore(now)) {
+                return "Refresh token expired";
+            }
+
+            User user = userRepository.findById(token.getUserId()).orElse(null);
+            if (user == null || user.getTokenVersion() != token.getTokenVersion()
+                    || Boolean.TRUE.equals(user.getAccountLocked())) {
+                return "Refresh token revoked";
+            }
+
+            return new Rotation(user, issue(user, token.getFamilyId()));
+        });
+
+        if (outcome instanceof Rotation) {
+            return (Rotation) outcome;
+        }
+        throw new InvalidRefreshTokenException((String) outcome);
+    }
+
+    /**
+     * Revoke a refresh token and every token rotated from the same login (logout)
+     */
+    public void revoke(String rawToken) {
+        transactionTemplate.executeWithoutResult(status ->
+                refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                        .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now())));
+    }
+
+    /**
+     * Drop all refresh tokens of a user being deleted (call inside the deleting transaction)
+     */
+    public void deleteForUser(Long userId) {
+        refreshTokenRepository.deleteByUserId(userId);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 15 4 * * *}")
+    public void deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status ->
+                refreshTokenRepository.deleteExpired(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) {
+            System.out.println("🧹 Deleted " + deleted + " expired refresh tokens");
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration));
+        refreshTokenRepository.save(new RefreshToken(user.getId(), hash(rawToken), familyId,
+                user.getTokenVersion(), expiresAt));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.talentiq.backend.service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass structured field extraction for resume text.
+ * Lines are fed one at a time (in document order) while the parser cleans the text,
+ * so the resume is only walked once and no intermediate copies of the whole text are made.
+ * Not thread-safe - create one instance per parsed resume.
+ */
+public class ResumeFieldExtractor {
+
+    public enum Section {
+        HEADER,
+        CONTACT,
+        SUMMARY,
+        EXPERIENCE,
+        EDUCATION,
+        SKILLS,
+        OTHER
+    }
+
+    private static final int MAX_HEADING_LENGTH = 40;
+    private static final int MAX_SKILLS = 50;
+    private static final int MAX_SKILL_LENGTH = 40;
+    private static final int MAX_TITLES = 10;
+    private static final int MAX_TITLE_LENGTH = 80;
+    private static final int MAX_YEARS = 60;
+
+    private static final Map<String, Section> HEADINGS = new LinkedHashMap<>();
+
+    static {
+        for (String h : new String[]{"contact", "contact information", "contact info", "contact details", "personal information", "personal details"}) {
+            HEADINGS.put(h, Section.CONTACT);
+        }
+        for (String h : new String[]{"summary", "professional summary", "profile", "professional profile", "about me", "objective", "career objective"}) {
+            HEADINGS.put(h, Section.SUMMARY);
+        }
+        for (String h : new String[]{"experience", "work experience", "professional experience", "employment", "employment history",
+                "work history", "career history", "relevant experience"}) {
+            HEADINGS.put(h, Section.EXPERIENCE);
+        }
+        for (String h : new String[]{"education", "education and training", "academic background", "academic qualifications", "qualifications"}) {
+            HEADINGS.put(h, Section.EDUCATION);
+        }
+        for (String h : new String[]{"skills", "technical skills", "key skills", "core skills", "core competencies", "competencies",
+                "skills and abilities", "technologies", "tools and technologies"}) {
+            HEADINGS.put(h, Section.SKILLS);
+        }
+        for (String h : new String[]{"projects", "certifications", "certificates", "languages", "awards", "interests", "hobbies",
+                "references", "publications", "volunteering", "volunteer experience", "achievements"}) {
+            HEADINGS.put(h, Section.OTHER);
+        }
+    }
+
+    // e.g. "Jan 2019 - Present", "2016 – 2018", "03/2020 to 11/2022"; groups: month name, month number, year (x2)
+    private static final Pattern DATE_RANGE = Pattern.compile(
+            "(?:([a-z]{3,9})\\.?\\s+|(\\d{1,2})/)?((?:19|20)\\d{2})\\s*(?:-|–|—|to|until)\\s*"
+                    + "(?:([a-z]{3,9})\\.?\\s+|(\\d{1,2})/)?((?:19|20)\\d{2}|present|current|now|today)",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final List<String> MONTHS = List.of(
+            "jan", "feb", "mar", "apr", "may", "jun", "jul", "aug", "sep", "oct", "nov", "dec");
+
+    // e.g. "5+ years of experience"
+    private static final Pattern YEARS_STATED = Pattern.compile(
+            "(\\d{1,2})\\+?\\s*(?:years|yrs)", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern EMAIL = Pattern.compile("[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}");
+
+    private static final Pattern PHONE = Pattern.compile("\\+?\\d[\\d\\s().-]{6,}\\d");
+
+    // "2019 - 2021", "01.2019-12.2021": date ranges that the PHONE pattern would otherwise accept
+    private static final Pattern YEAR_RANGE = Pattern.compile(
+            "(?:19|20)\\d{2}\\s*[-.–—/]\\s*(?:\\d{1,2}\\s*[-./]\\s*)?(?:19|20)\\d{2}");
+
+    // National numbers have at least 9 digits; E.164 allows at most 15
+    private static final int MIN_PHONE_DIGITS = 9;
+    private static final int MAX_PHONE_DIGITS = 15;
+
+    /**
+     * Bump when extraction changes; resumes extracted with an older version are re-extracted by ResumeFieldsBackfill
+     */
+    public static final int VERSION = 3;
+
+    // Months since year 0; ranges are counted in months so a year inside one calendar year still counts
+    private final int currentMonth = monthIndex(YearMonth.now().getYear(), YearMonth.now().getMonthValue() - 1);
+
+    private Section currentSection = Section.HEADER;
+    private final Set<Section> sections = EnumSet.noneOf(Section.class);
+    private final Map<String, String> skills = new LinkedHashMap<>();
+    private final Map<String, String> titles = new LinkedHashMap<>();
+    private final List<int[]> experienceRanges = new ArrayList<>();
+    private int statedYears = -1;
+    private String email;
+    private String phone;
+    private String previousLine;
+
+    /**
+     * Feed the next cleaned, non-empty line of the resume
+     */
+    public void accept(String line) {
+        Section heading = detectHeading(line);
+        if (heading != null) {
+            currentSection = heading;
+            sections.add(heading);
+            previousLine = null;
+            return;
+        }
+
+        if (email == null && line.indexOf('@') >= 0) {
+            Matcher m = EMAIL.matcher(line);
+            if (m.find()) {
+                email = m.group();
+            }
+        }
+
+        if (phone == null && (currentSection == Section.HEADER || currentSection == Section.CONTACT)
+                && countDigits(line) >= MIN_PHONE_DIGITS) {
+            Matcher m = PHONE.matcher(line);
+            int from = 0;
+            while (from < line.length() && m.find(from)) {
+                String candidate = m.group();
+                Matcher years = YEAR_RANGE.matcher(candidate);
+                if (years.find()) {
+                    // Skip the date range and look for a number after it
+                    from = m.start() + years.end();
+                    continue;
+                }
+                int digits = countDigits(candidate);
+                if (digits >= MIN_PHONE_DIGITS && digits <= MAX_PHONE_DIGITS) {
+                    phone = candidate.trim();
+                    break;
+                }
+                from = m.end();
+            }
+        }
+
+        switch (currentSection) {
+            case EXPERIENCE:
+                acceptExperienceLine(line);
+                break;
+            case SKILLS:
+                acceptSkillsLine(line);
+                break;
+            case HEADER:
+            case SUMMARY:
+                acceptStatedYears(line);
+                break;
+            default:
+                break;
+        }
+
+        previousLine = line;
+    }
+
+    /**
+     * Finish extraction and return the collected fields
+     */
+    public ResumeFields result() {
+        ResumeFields fields = new ResumeFields();
+        Integer years = mergedExperienceYears();
+        if (years == null && statedYears >= 0) {
+            years = statedYears;
+        }
+        fields.setYearsOfExperience(years);
+        fields.setSkills(new ArrayList<>(skills.values()));
+        fields.setTitles(new ArrayList<>(titles.values()));
+        fields.setEmail(email);
+        fields.setPhone(phone);
+        fields.setSections(sections.isEmpty() ? EnumSet.noneOf(Section.class) : EnumSet.copyOf(sections));
+        return fields;
+    }
+
+    private Section detectHeading(String line) {
+        if (line.length() > MAX_HEADING_LENGTH) {
+            return null;
+        }
+
+        int end = line.length();
+        while (end > 0 && (line.charAt(end - 1) == ':' || line.charAt(end - 1) == ' ')) {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            char c = line.charAt(i);
+            if (!Character.isLetter(c) && c != ' ' && c != '&') {
+                return null;
+            }
+        }
+
+        String key = line.substring(0, end).toLowerCase(Locale.ROOT).replace("&", "and");
+        return HEADINGS.get(key);
+    }
+
+    private void acceptExperienceLine(String line) {
+        Matcher m = DATE_RANGE.matcher(line);
+        if (!m.find()) {
+            return;
+        }
+
+        // [start, end) in months. Without a month, a range runs from January of the first year to
+        // January of the last ("2016 - 2018" is two years); a named end month counts in full.
+        int startMonth = month(m.group(1), m.group(2));
+        int start = monthIndex(Integer.parseInt(m.group(3)), Math.max(startMonth, 0));
+        int end;
+        if (Character.isDigit(m.group(6).charAt(0))) {
+            int endMonth = month(m.group(4), m.group(5));
+            end = endMonth < 0 ? monthIndex(Integer.parseInt(m.group(6)), 0)
+                    : monthIndex(Integer.parseInt(m.group(6)), endMonth) + 1;
+        } else {
+            end = currentMonth + 1;
+        }
+        if (start <= end && end <= currentMonth + 1) {
+            experienceRanges.add(new int[]{start, end});
+        }
+
+        // The title is usually on the same line before the dates, or on the line above
+        String title = stripSeparators(line.substring(0, m.start()));
+        if (title.isEmpty() && previousLine != null) {
+            title = stripSeparators(previousLine);
+        }
+        if (!title.isEmpty() && title.length() <= MAX_TITLE_LENGTH && titles.size() < MAX_TITLES) {
+            titles.putIfAbsent(title.toLowerCase(Locale.ROOT), title);
+        }
+    }
+
+    private void acceptSkillsLine(String line) {
+        // Drop category prefixes such as "Languages: Java, Python"
+        int colon = line.indexOf(':');
+        int from = colon >= 0 && colon < 30 ? colon + 1 : 0;
+
+        int tokenStart = from;
+        for (int i = from; i <= line.length(); i++) {
+            char c = i < line.length() ? line.charAt(i) : ',';
+            if (c == ',' || c == ';' || c == '|' || c == '•' || c == '·' || c == '●' || c == '▪' || c == '\t') {
+                addSkill(line, tokenStart, i);
+                tokenStart = i + 1;
+            }
+        }
+    }
+
+    private void addSkill(String line, int start, int end) {
+        if (skills.size() >= MAX_SKILLS) {
+            return;
+        }
+        while (start < end && (line.charAt(start) == ' ' || line.charAt(start) == '-' || line.charAt(start) == '*')) {
+            start++;
+        }
+        while (end > start && (line.charAt(end - 1) == ' ' || line.charAt(end - 1) == '.')) {
+            end--;
+        }
+        int length = end - start;
+        if (length == 0 || length > MAX_SKILL_LENGTH) {
+            return;
+        }
+        String skill = line.substring(start, end);
+        skills.putIfAbsent(skill.toLowerCase(Locale.ROOT), skill);
+    }
+
+    private void acceptStatedYears(String line) {
+        Matcher m = YEARS_STATED.matcher(line);
+        while (m.find()) {
+            int years = Integer.parseInt(m.group(1));
+            if (years <= MAX_YEARS && years > statedYears) {
+                statedYears = years;
+            }
+        }
+    }
+
+    /**
+     * Month 0-11 from a name ("Sept.") or number ("03"), or -1 if absent or not a month
+     */
+    private static int month(String name, String number) {
+        if (name != null) {
+            return name.length() >= 3 ? MONTHS.indexOf(name.substring(0, 3).toLowerCase(Locale.ROOT)) : -1;
+        }
+        if (number != null) {
+            int month = Integer.parseInt(number);
+            return month >= 1 && month <= 12 ? month - 1 : -1;
+        }
+        return -1;
+    }
+
+    private static int monthIndex(int year, int month) {
+        return year * 12 + month;
+    }
+
+    /**
+     * Sum the employment date ranges in months, counting overlapping jobs only once, in whole years
+     */
+    private Integer mergedExperienceYears() {
+        if (experienceRanges.isEmpty()) {
+            return null;
+        }
+
+        experienceRanges.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int total = 0;
+        int curStart = experienceRanges.get(0)[0];
+        int curEnd = experienceRanges.get(0)[1];
+        for (int i = 1; i < experienceRanges.size(); i++) {
+            int[] range = experienceRanges.get(i);
+            if (range[0] <= curEnd) {
+                curEnd = Math.max(curEnd, range[1]);
+            } else {
+                total += curEnd - curStart;
+                curStart = range[0];
+                curEnd = range[1];
+            }
+        }
+        total += curEnd - curStart;
+        return Math.min(total / 12, MAX_YEARS);
+    }
+
+    private static String stripSeparators(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && isSeparator(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && isSeparator(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(start, end);
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ' ' || c == ',' || c == '|' || c == '-' || c == '–' || c == '—' || c == '(' || c == ')' || c == '@' || c == ':';
+    }
+
+    private static int countDigits(String line) {
+        int digits = 0;
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isDigit(line.charAt(i))) {
+                digits++;
+            }
+        }
+        return digits;
+    }
+
+    /**
+     * Structured fields pulled out of a resume
+     */
+    public static class ResumeFields {
+        private Integer yearsOfExperience;
+        private List<String> skills = new ArrayList<>();
+        private List<String> titles = new ArrayList<>();
+        private String email;
+        private String phone;
+        private Set<Section> sections = EnumSet.noneOf(Section.class);
+
+        public Integer getYearsOfExperience() { return yearsOfExperience; }
+        public void setYearsOfExperience(Integer yearsOfExperience) { this.yearsOfExperience = yearsOfExperience; }
+        public List<String> getSkills() { return skills; }
+        public void setSkills(List<String> skills) { this.skills = skills; }
+        public List<String> getTitles() { return titles; }
+        public void setTitles(List<String> titles) { this.titles = titles; }
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+        public String getPhone() { return phone; }
+        public void setPhone(String phone) { this.phone = phone; }
+        public Set<Section> getSections() { return sections; }
+        public void setSections(Set<Section> sections) { this.sections = sections; }
+    }
+}
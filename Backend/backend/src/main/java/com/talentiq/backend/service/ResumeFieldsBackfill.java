@@ -0,0 +1,129 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.model.CompressedTextConverter;
+import com.talentiq.backend.model.Resume;
+import com.talentiq.backend.storage.StorageBackend;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Extracts the structured fields (see ResumeFieldExtractor) for resumes stored before extraction existed,
+ * or with an older ResumeFieldExtractor.VERSION. The original file is re-parsed, since older stored text
+ * had its line breaks collapsed; if the file is gone, the stored text is used instead.
+ * Runs once on a background thread after startup, in small batches; the application is already serving requests.
+ */
+@Component
+public class ResumeFieldsBackfill {
+
+    private static final int BATCH_SIZE = 20;
+
+    private static final String UPDATE_FIELDS = "UPDATE resumes SET years_of_experience = ?, extracted_skills = ?, "
+            + "extracted_titles = ?, contact_email = ?, contact_phone = ?, detected_sections = ?, fields_version = ? "
+            + "WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Value("${resume.fields-backfill.enabled:true}")
+    private boolean enabled;
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = new Thread(this::run, "resume-fields-backfill");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    void run() {
+        int updated = 0;
+        try {
+            while (true) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                        "SELECT id, file_path FROM resumes WHERE fields_version IS NULL OR fields_version < ? ORDER BY id LIMIT ?",
+                        ResumeFieldExtractor.VERSION, BATCH_SIZE);
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                List<Object[]> updates = new ArrayList<>(rows.size());
+                for (Map<String, Object> row : rows) {
+                    Long id = ((Number) row.get("id")).longValue();
+                    Resume resume = new Resume();
+                    ResumeService.applyExtractedFields(resume, extract(id, (String) row.get("file_path")));
+                    updates.add(new Object[]{resume.getYearsOfExperience(), resume.getSkills(), resume.getJobTitles(),
+                            resume.getContactEmail(), resume.getContactPhone(), resume.getDetectedSections(),
+                            resume.getFieldsVersion(), id});
+                }
+
+                // Every row gets the current version, so a resume that yields nothing is not retried forever
+                jdbcTemplate.batchUpdate(UPDATE_FIELDS, updates, updates.size(), (ps, values) -> {
+                    ps.setObject(1, values[0], Types.INTEGER);
+                    for (int i = 1; i <= 5; i++) {
+                        ps.setString(i + 1, (String) values[i]);
+                    }
+                    ps.setInt(7, (Integer) values[6]);
+                    ps.setLong(8, (Long) values[7]);
+                });
+                updated += rows.size();
+            }
+
+            if (updated > 0) {
+                System.out.println("✅ Extracted structured fields of " + updated + " existing resumes");
+            }
+        } catch (Exception e) {
+            // Picked up again on the next start
+            System.err.println("⚠️ Resume fields backfill stopped after " + updated + " resumes: " + e.getMessage());
+        }
+    }
+
+    private ResumeFieldExtractor.ResumeFields extract(Long resumeId, String filePath) {
+        String key = filePath != null ? storageBackend.keyOf(filePath) : null;
+        if (key != null) {
+            Path file = null;
+            try {
+                file = Files.createTempFile("resume-backfill-", ".tmp");
+                storageBackend.downloadToFile(key, file);
+                return resumeParserService.parse(file.toString()).getFields();
+            } catch (Exception e) {
+                System.err.println("⚠️ Could not re-parse resume " + resumeId + ", using stored text: " + e.getMessage());
+            } finally {
+                if (file != null) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (Exception e) {
+                        System.err.println("⚠️ Could not delete temp file: " + file);
+                    }
+                }
+            }
+        }
+
+        List<byte[]> content = jdbcTemplate.queryForList(
+                "SELECT content FROM resume_text WHERE resume_id = ?", byte[].class, resumeId);
+        String text = content.isEmpty() ? null : converter.convertToEntityAttribute(content.get(0));
+        return resumeParserService.structure(text).getFields();
+    }
+}
@@ -0,0 +1,174 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.model.Job;
+import com.talentiq.backend.model.Resume;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Fit score (0-100) between a resume and a job, computed only from the structured fields extracted at ingest
+ * (see ResumeFieldExtractor) - no resume text is read.
+ * Skills coverage counts 70 points, experience against the job's level 20, a shared title word 10.
+ */
+public final class ResumeJobScorer {
+
+    private static final int SKILLS_WEIGHT = 70;
+    private static final int EXPERIENCE_WEIGHT = 20;
+    private static final int TITLE_WEIGHT = 10;
+
+    private ResumeJobScorer() {
+    }
+
+    public static int score(Resume resume, Job job) {
+        return score(resume, job.getTitle(), job.getExperienceLevel(), job.getSkillsRequired());
+    }
+
+    /**
+     * Same score from the job's scored columns only, for callers that don't load the whole job
+     */
+    public static int score(Resume resume, String jobTitle, String experienceLevel, String skillsRequired) {
+        Set<String> resumeSkills = skillSet(resume.getSkills());
+        Set<String> required = skillSet(skillsRequired);
+
+        double skillsPart;
+        if (required.isEmpty()) {
+            skillsPart = resumeSkills.isEmpty() ? 0 : 0.5;
+        } else {
+            skillsPart = (double) matchedSkills(resumeSkills, required).size() / required.size();
+        }
+
+        double experiencePart;
+        int minYears = minYears(experienceLevel);
+        Integer years = resume.getYearsOfExperience();
+        if (years == null) {
+            experiencePart = 0.5; // Unknown: neither reward nor penalize fully
+        } else if (minYears == 0 || years >= minYears) {
+            experiencePart = 1;
+        } else {
+            experiencePart = (double) years / minYears;
+        }
+
+        double titlePart = sharesTitleWord(resume.getJobTitles(), jobTitle) ? 1 : 0;
+
+        return (int) Math.round(SKILLS_WEIGHT * skillsPart + EXPERIENCE_WEIGHT * experiencePart + TITLE_WEIGHT * titlePart);
+    }
+
+    /**
+     * Required skills (original spelling) the resume lists
+     */
+    public static List<String> matchedSkills(Resume resume, Job job) {
+        return matchedSkills(resume, job.getSkillsRequired());
+    }
+
+    public static List<String> matchedSkills(Resume resume, String skillsRequired) {
+        return new ArrayList<>(matchedSkills(skillSet(resume.getSkills()), originalSkills(skillsRequired), true));
+    }
+
+    /**
+     * Required skills (original spelling) the resume does not list
+     */
+    public static List<String> missingSkills(Resume resume, Job job) {
+        return missingSkills(resume, job.getSkillsRequired());
+    }
+
+    public static List<String> missingSkills(Resume resume, String skillsRequired) {
+        return new ArrayList<>(matchedSkills(skillSet(resume.getSkills()), originalSkills(skillsRequired), false));
+    }
+
+    /**
+     * Minimum years of experience for the job levels offered by the job form
+     */
+    public static int minYears(String experienceLevel) {
+        if (experienceLevel == null) {
+            return 0;
+        }
+        switch (experienceLevel.trim().toLowerCase(Locale.ROOT)) {
+            case "mid-level":
+            case "mid level":
+                return 2;
+            case "senior":
+                return 5;
+            case "lead":
+                return 7;
+            case "executive":
+                return 10;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Whether a comma-separated skill column lists the given skill (case-insensitive)
+     */
+    public static boolean hasSkill(String skills, String skill) {
+        return skill == null || skill.isBlank() || skillSet(skills).contains(normalize(skill));
+    }
+
+    static Set<String> skillSet(String skills) {
+        Set<String> set = new LinkedHashSet<>();
+        for (String skill : originalSkills(skills)) {
+            set.add(normalize(skill));
+        }
+        return set;
+    }
+
+    private static Set<String> matchedSkills(Set<String> resumeSkills, Set<String> required) {
+        Set<String> matched = new LinkedHashSet<>();
+        for (String skill : required) {
+            if (resumeSkills.contains(skill)) {
+                matched.add(skill);
+            }
+        }
+        return matched;
+    }
+
+    private static Set<String> matchedSkills(Set<String> resumeSkills, Set<String> required, boolean present) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String skill : required) {
+            if (resumeSkills.contains(normalize(skill)) == present) {
+                result.add(skill);
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> originalSkills(String skills) {
+        Set<String> set = new LinkedHashSet<>();
+        if (skills == null) {
+            return set;
+        }
+        for (String skill : skills.split("[,;\n]")) {
+            String trimmed = skill.trim();
+            if (!trimmed.isEmpty()) {
+                set.add(trimmed);
+            }
+        }
+        return set;
+    }
+
+    private static String normalize(String skill) {
+        return skill.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean sharesTitleWord(String resumeTitles, String jobTitle) {
+        if (resumeTitles == null || jobTitle == null) {
+            return false;
+        }
+        Set<String> jobWords = new LinkedHashSet<>();
+        for (String word : jobTitle.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+")) {
+            if (word.length() >= 3) {
+                jobWords.add(word);
+            }
+        }
+        for (String word : resumeTitles.toLowerCase(Locale.ROOT).split("[^a-z0-9+#]+")) {
+            if (jobWords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,22 +1,43 @@
 package com.talentiq.backend.service;
 
 import org.apache.tika.Tika;
+import org.apache.tika.detect.DefaultDetector;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.microsoft.OfficeParser;
+import org.apache.tika.parser.microsoft.ooxml.OOXMLParser;
+import org.apache.tika.parser.pdf.PDFParser;
+import org.apache.tika.parser.txt.TXTParser;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 
 @Service
 public class ResumeParserService {
 
-    private final Tika tika = new Tika();
+    // Only the parsers for formats accepted by isSupportedFormat (PDF, DOCX, DOC, TXT).
+    // new Tika() would load every parser on the classpath on first use.
+    private final Tika tika = new Tika(new DefaultDetector(), new AutoDetectParser(
+            new PDFParser(),
+            new OOXMLParser(),
+            new OfficeParser(),
+            new TXTParser()));
 
     /**
      * Extract text from resume file (PDF, DOCX, TXT, etc.)
      * Uses Apache Tika for automatic format detection and parsing
      */
     public String extractText(String filePath) {
+        return parse(filePath).getText();
+    }
+
+    /**
+     * Extract text and structured fields (sections, skills, titles, years of experience)
+     * from a resume file in a single pass over the parsed text
+     */
+    public ParsedResume parse(String filePath) {
         try {
             File file = new File(filePath);
 
@@ -25,15 +46,15 @@ public class ResumeParserService {
             }
 
             // Tika automatically detects file type and extracts text
-            String extractedText = tika.parseToString(file);
+            String rawText = tika.parseToString(file);
 
-            // Clean up the text
-            extractedText = cleanExtractedText(extractedText);
+            // Clean up the text and extract fields while walking it
+            ParsedResume parsed = structure(rawText);
 
             System.out.println("✅ Successfully extracted text from: " + filePath);
-            System.out.println("📝 Extracted text length: " + extractedText.length() + " characters");
+            System.out.println("📝 Extracted text length: " + parsed.getText().length() + " characters");
 
-            return extractedText;
+            return parsed;
 
         } catch (IOException | TikaException e) {
             System.err.println("❌ Error extracting text from: " + filePath);
@@ -43,23 +64,53 @@ public class ResumeParserService {
     }
 
     /**
-     * Clean extracted text - remove excessive whitespace, special characters, etc.
+     * Extract text and structured fields from an in-memory document (used by the startup warm-up)
      */
-    private String cleanExtractedText(String text) {
-        if (text == null || text.trim().isEmpty()) {
-            return "";
-        }
-
-        // Remove excessive whitespace
-        text = text.replaceAll("\\s+", " ");
+    ParsedResume parse(InputStream stream) throws IOException, TikaException {
+        return structure(tika.parseToString(stream));
+    }
 
-        // Remove special control characters
-        text = text.replaceAll("[\\p{Cntrl}&&[^\r\n\t]]", "");
+    /**
+     * Clean extracted text and feed each line to the field extractor.
+     * Runs of spaces/tabs collapse to a single space and control characters are dropped,
+     * but line breaks are kept so consumers still see the resume's structure.
+     */
+    ParsedResume structure(String text) {
+        ResumeFieldExtractor extractor = new ResumeFieldExtractor();
+        if (text == null || text.isEmpty()) {
+            return new ParsedResume("", extractor.result());
+        }
 
-        // Trim
-        text = text.trim();
+        StringBuilder cleaned = new StringBuilder(text.length());
+        StringBuilder line = new StringBuilder(128);
+        boolean pendingSpace = false;
+
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : '\n';
+
+            if (c == '\n' || c == '\r') {
+                if (line.length() > 0) {
+                    String current = line.toString();
+                    if (cleaned.length() > 0) {
+                        cleaned.append('\n');
+                    }
+                    cleaned.append(current);
+                    extractor.accept(current);
+                    line.setLength(0);
+                }
+                pendingSpace = false;
+            } else if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = line.length() > 0;
+            } else if (!Character.isISOControl(c)) {
+                if (pendingSpace) {
+                    line.append(' ');
+                    pendingSpace = false;
+                }
+                line.append(c);
+            }
+        }
 
-        return text;
+        return new ParsedResume(cleaned.toString(), extractor.result());
     }
 
     /**
@@ -76,4 +127,24 @@ public class ResumeParserService {
                 lowerCaseFilename.endsWith(".doc") ||
                 lowerCaseFilename.endsWith(".txt");
     }
+
+    /**
+     * Cleaned resume text plus the structured fields extracted from it
+     */
+    public static class ParsedResume {
+        private final String text;
+        private final ResumeFieldExtractor.ResumeFields fields;
+
+        public ParsedResume(String text, ResumeFieldExtractor.ResumeFields fields) {
+            this.text = text;
+            this.fields = fields;
+        }
+
+        public static ParsedResume empty() {
+            return new ParsedResume("", new ResumeFieldExtractor().result());
+        }
+
+        public String getText() { return text; }
+        public ResumeFieldExtractor.ResumeFields getFields() { return fields; }
+    }
 }
\ No newline at end of file
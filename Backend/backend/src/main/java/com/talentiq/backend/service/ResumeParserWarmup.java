@@ -0,0 +1,106 @@
+package com.talentiq.backend.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses one small PDF, DOCX and TXT sample after startup so Tika, PDFBox and POI
+ * load their classes and caches before the first real upload instead of during it.
+ * Runs on a background thread; the application is already serving requests.
+ */
+@Component
+public class ResumeParserWarmup {
+
+    private static final String[] SAMPLE_LINES = {
+            "Jane Doe",
+            "jane.doe@example.com",
+            "Experience",
+            "Software Engineer 2019 - Present",
+            "Skills",
+            "Java, Spring, SQL"
+    };
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Value("${resume.parser.warmup.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = new Thread(this::warmUp, "resume-parser-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    private void warmUp() {
+        long start = System.currentTimeMillis();
+        try {
+            long pdf = time(samplePdf());
+            long docx = time(sampleDocx());
+            long txt = time(String.join("\n", SAMPLE_LINES).getBytes(StandardCharsets.UTF_8));
+
+            System.out.println("🔥 Resume parser warmed up in " + (System.currentTimeMillis() - start) + " ms"
+                    + " (pdf " + pdf + " ms, docx " + docx + " ms, txt " + txt + " ms)");
+        } catch (Exception e) {
+            // Warm-up is best effort; the first upload just pays the cost instead
+            System.err.println("⚠️ Resume parser warm-up failed: " + e.getMessage());
+        }
+    }
+
+    private long time(byte[] document) throws Exception {
+        long start = System.currentTimeMillis();
+        resumeParserService.parse(new ByteArrayInputStream(document));
+        return System.currentTimeMillis() - start;
+    }
+
+    private byte[] samplePdf() throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(PDType1Font.HELVETICA, 11);
+                content.setLeading(14);
+                content.newLineAtOffset(50, 700);
+                for (String line : SAMPLE_LINES) {
+                    content.showText(line);
+                    content.newLine();
+                }
+                content.endText();
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private byte[] sampleDocx() throws IOException {
+        try (XWPFDocument document = new XWPFDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : SAMPLE_LINES) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
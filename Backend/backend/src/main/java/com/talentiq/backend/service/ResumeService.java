@@ -1,24 +1,38 @@
 package com.talentiq.backend.service;
 
 import com.talentiq.backend.dto.ResumeResponse;
+import com.talentiq.backend.dto.UploadCompleteRequest;
+import com.talentiq.backend.dto.UploadUrlRequest;
+import com.talentiq.backend.dto.UploadUrlResponse;
 import com.talentiq.backend.model.Application;
 import com.talentiq.backend.model.Match;
 import com.talentiq.backend.model.Resume;
+import com.talentiq.backend.model.ResumeText;
 import com.talentiq.backend.model.User;
 import com.talentiq.backend.repository.ApplicationRepository;
 import com.talentiq.backend.repository.MatchRepository;
 import com.talentiq.backend.repository.ResumeRepository;
+import com.talentiq.backend.repository.ResumeTextRepository;
+import com.talentiq.backend.storage.StorageBackend;
+import com.talentiq.backend.storage.StoredObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,23 +48,148 @@ public class ResumeService {
     private MatchRepository matchRepository;
 
     @Autowired
-    private S3StorageService s3StorageService;
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private StorageOutboxService storageOutboxService;
 
     @Autowired
     private ResumeParserService resumeParserService;
 
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static final int PREVIEW_LENGTH = 200;
+
     /**
-     * Upload a new resume
+     * Upload a new resume.
+     * The S3 upload runs asynchronously while the same temp file is parsed,
+     * and the DB transaction only starts once both are done.
      */
-    @Transactional
     public ResumeResponse uploadResume(MultipartFile file, User user) {
         // Validate file
         if (file.isEmpty()) {
             throw new RuntimeException("File is empty");
         }
 
-        // Validate file type
+        // Validate file type and size
         String contentType = file.getContentType();
+        validateResumeFile(contentType, file.getSize());
+
+        System.out.println("📄 Uploading resume: " + file.getOriginalFilename());
+        System.out.println("   Size: " + file.getSize() + " bytes");
+        System.out.println("   Type: " + contentType);
+
+        // ResumeParserService expects a file path, so the upload is spooled to a temp file first
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("resume_", "_" + Paths.get(String.valueOf(file.getOriginalFilename())).getFileName());
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read uploaded file: " + e.getMessage(), e);
+        }
+
+        // Start the S3 upload, then parse while it is in flight
+        CompletableFuture<String> upload = storageBackend.uploadFileAsync(
+                tempFile, file.getOriginalFilename(), contentType, "resumes");
+
+        ResumeParserService.ParsedResume parsed;
+        String s3Url;
+        try {
+            try {
+                parsed = resumeParserService.parse(tempFile.toString());
+            } catch (RuntimeException e) {
+                // Parsing failed: don't leave the uploaded object behind
+                upload.thenCompose(storageBackend::deleteFileAsync);
+                throw e;
+            }
+            s3Url = upload.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        } finally {
+            // The async upload reads the temp file, so it must finish before the file is removed
+            upload.handle((url, error) -> null).join();
+            deleteQuietly(tempFile);
+        }
+        System.out.println("✅ Resume uploaded to S3: " + s3Url);
+
+        Resume resume = transactionTemplate.execute(status ->
+                saveResume(user, file.getOriginalFilename(), s3Url, file.getSize(), contentType, parsed));
+        return convertToResponse(resume);
+    }
+
+    /**
+     * Create a presigned URL so the browser can upload a resume directly to S3.
+     * Keys are namespaced per user so completeDirectUpload can check ownership.
+     */
+    public UploadUrlResponse createDirectUploadUrl(UploadUrlRequest request, User user) {
+        validateResumeFile(request.getContentType(), request.getSize());
+        String key = storageBackend.newKey(directUploadFolder(user), request.getFilename());
+        return storageBackend.presignUpload(key, request.getContentType(), request.getSize());
+    }
+
+    /**
+     * Finish a direct upload: verify the object, parse it and create the resume
+     */
+    public ResumeResponse completeDirectUpload(UploadCompleteRequest request, User user) {
+        String key = request.getKey();
+        if (!key.startsWith(directUploadFolder(user) + "/") || key.contains("..")) {
+            throw new RuntimeException("Invalid upload key");
+        }
+
+        String s3Url = storageBackend.getPublicUrl(key);
+
+        // Completion may be retried by the client; return the resume created the first time
+        Optional<Resume> existing = resumeRepository.findByFilePath(s3Url);
+        if (existing.isPresent()) {
+            return convertToResponse(getResumeById(existing.get().getId(), user));
+        }
+
+        StoredObject stored = storageBackend.stat(key);
+        if (stored == null) {
+            throw new RuntimeException("Uploaded file not found");
+        }
+
+        try {
+            validateResumeFile(stored.getContentType(), stored.getSize());
+        } catch (RuntimeException e) {
+            storageBackend.deleteFile(s3Url);
+            throw e;
+        }
+
+        String filename = request.getFilename() != null && !request.getFilename().isBlank()
+                ? Paths.get(request.getFilename()).getFileName().toString()
+                : key.substring(key.lastIndexOf('/') + 1);
+
+        System.out.println("📄 Completing direct resume upload: " + filename);
+
+        ResumeParserService.ParsedResume parsed;
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("resume_", "_" + key.substring(key.lastIndexOf('/') + 1));
+            storageBackend.downloadToFile(key, tempFile);
+            parsed = resumeParserService.parse(tempFile.toString());
+        } catch (IOException e) {
+            System.err.println("⚠️ Warning: Could not extract text from resume: " + e.getMessage());
+            parsed = ResumeParserService.ParsedResume.empty();
+        } finally {
+            deleteQuietly(tempFile);
+        }
+
+        // Parsing and the S3 download happen outside the transaction so no connection is held meanwhile
+        ResumeParserService.ParsedResume result = parsed;
+        Resume resume = transactionTemplate.execute(status ->
+                saveResume(user, filename, s3Url, stored.getSize(), stored.getContentType(), result));
+        return convertToResponse(resume);
+    }
+
+    /**
+     * Validate resume type and size (10MB max)
+     */
+    private void validateResumeFile(String contentType, Long size) {
         if (contentType == null || (!contentType.equals("application/pdf")
                 && !contentType.equals("application/vnd.openxmlformats-officedocument.wordprocessingml.document")
                 && !contentType.equals("application/msword")
@@ -58,67 +197,72 @@ public class ResumeService {
             throw new RuntimeException("Only PDF, DOCX, DOC, and TXT files are allowed");
         }
 
-        // Validate file size (10MB max)
         long maxSize = 10 * 1024 * 1024; // 10MB
-        if (file.getSize() > maxSize) {
+        if (size == null || size > maxSize) {
             throw new RuntimeException("File size exceeds maximum limit of 10MB");
         }
+    }
 
-        System.out.println("📄 Uploading resume: " + file.getOriginalFilename());
-        System.out.println("   Size: " + file.getSize() + " bytes");
-        System.out.println("   Type: " + contentType);
-
-        // Upload file to S3
-        String s3Url = s3StorageService.uploadFile(file, "resumes");
-        System.out.println("✅ Resume uploaded to S3: " + s3Url);
-
-        // FIXED: Parse resume text from MultipartFile (save to temp file first)
-        String extractedText = extractTextFromMultipartFile(file);
-        System.out.println("✅ Extracted text length: " + (extractedText != null ? extractedText.length() : 0) + " chars");
+    /**
+     * Create and save the resume entity and its extracted text
+     */
+    private Resume saveResume(User user, String filename, String s3Url, long size, String contentType,
+                              ResumeParserService.ParsedResume parsed) {
+        String extractedText = parsed.getText();
+        System.out.println("✅ Extracted text length: " + extractedText.length() + " chars");
 
-        // Create and save resume entity
         Resume resume = new Resume();
         resume.setUser(user);
-        resume.setFilename(file.getOriginalFilename());
+        resume.setFilename(filename);
         resume.setFilePath(s3Url);  // Store S3 URL instead of local path
-        resume.setFileSize(file.getSize());
+        resume.setFileSize(size);
         resume.setMimeType(contentType);
-        resume.setExtractedText(extractedText);
+        resume.setTextPreview(buildPreview(extractedText));
+        applyExtractedFields(resume, parsed.getFields());
 
         resume = resumeRepository.save(resume);
+
+        // Full text goes to the compressed side table so listings never load it
+        resumeTextRepository.save(new ResumeText(resume, extractedText));
         System.out.println("✅ Resume saved with ID: " + resume.getId());
+        return resume;
+    }
 
-        return convertToResponse(resume);
+    private String directUploadFolder(User user) {
+        return "resumes/u" + user.getId();
     }
 
-    /**
-     * Helper method to extract text from MultipartFile
-     * FIXED: ResumeParserService expects a file path, so we save temporarily
-     */
-    private String extractTextFromMultipartFile(MultipartFile file) {
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
         try {
-            // Create temporary file
-            Path tempFile = Files.createTempFile("resume_", "_" + file.getOriginalFilename());
-            file.transferTo(tempFile.toFile());
-
-            // Extract text using the temporary file path
-            String extractedText = resumeParserService.extractText(tempFile.toString());
-
-            // Delete temporary file
-            Files.deleteIfExists(tempFile);
-
-            return extractedText;
+            Files.deleteIfExists(file);
         } catch (IOException e) {
-            System.err.println("⚠️ Warning: Could not extract text from resume: " + e.getMessage());
-            return ""; // Return empty string if extraction fails
+            System.err.println("⚠️ Could not delete temp file: " + file);
         }
     }
 
+    /**
+     * Copy the structured fields extracted at ingest onto the resume entity
+     */
+    static void applyExtractedFields(Resume resume, ResumeFieldExtractor.ResumeFields fields) {
+        resume.setYearsOfExperience(fields.getYearsOfExperience());
+        resume.setSkills(fields.getSkills().isEmpty() ? null : String.join(", ", fields.getSkills()));
+        resume.setJobTitles(fields.getTitles().isEmpty() ? null : String.join("\n", fields.getTitles()));
+        resume.setContactEmail(fields.getEmail());
+        resume.setContactPhone(fields.getPhone());
+        resume.setDetectedSections(fields.getSections().isEmpty() ? null : fields.getSections().stream()
+                .map(Enum::name)
+                .collect(Collectors.joining(",")));
+        resume.setFieldsVersion(ResumeFieldExtractor.VERSION);
+    }
+
     /**
      * Get all resumes for a user
      */
-    public List<ResumeResponse> getUserResumes(User user) {
-        List<Resume> resumes = resumeRepository.findByUserId(user.getId());
+    public List<ResumeResponse> getUserResumes(Long userId) {
+        List<Resume> resumes = resumeRepository.findByUserId(userId);
         return resumes.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
@@ -140,11 +284,21 @@ public class ResumeService {
     }
 
     /**
-     * Get resume file URL (now returns S3 URL directly)
+     * Get the full extracted text of a resume (loaded from the resume_text side table)
+     */
+    public String getExtractedText(Long id, User user) {
+        getResumeById(id, user);
+        return resumeTextRepository.findById(id)
+                .map(ResumeText::getContent)
+                .orElse("");
+    }
+
+    /**
+     * Get resume file URL (short-lived presigned S3 URL)
      */
     public String getResumeFileUrl(Long id, User user) {
         Resume resume = getResumeById(id, user);
-        return resume.getFilePath();  // Returns S3 URL
+        return storageBackend.getDownloadUrl(resume.getFilePath());  // Short-lived signed URL
     }
 
     /**
@@ -166,7 +320,7 @@ public class ResumeService {
             throw new RuntimeException("You do not have permission to access this resume");
         }
 
-        return resume.getFilePath();  // Returns S3 URL
+        return storageBackend.getDownloadUrl(resume.getFilePath());  // Short-lived signed URL
     }
 
     /**
@@ -196,6 +350,9 @@ public class ResumeService {
 
         System.out.println("🗑️ Deleting resume with ID: " + id);
 
+        // File is deleted after commit through the outbox; a rollback keeps it
+        storageOutboxService.enqueueDelete(resume.getFilePath());
+
         // FIXED: Use correct repository method names
         // Delete related matches by job ID
         List<Match> relatedMatches = matchRepository.findByResumeUserId(user.getId())
@@ -219,13 +376,9 @@ public class ResumeService {
             System.out.println("   ✅ Deleted " + relatedApplications.size() + " related applications");
         }
 
-        // Delete file from S3
-        try {
-            s3StorageService.deleteFile(resume.getFilePath());
-            System.out.println("   ✅ Resume file deleted from S3");
-        } catch (Exception e) {
-            System.err.println("   ⚠️ Warning: Could not delete file from S3: " + e.getMessage());
-            // Continue with database deletion even if S3 deletion fails
+        // Delete extracted text (also cascaded by the FK, but keep the persistence context consistent)
+        if (resumeTextRepository.existsById(id)) {
+            resumeTextRepository.deleteById(id);
         }
 
         // Delete resume from database
@@ -248,18 +401,37 @@ public class ResumeService {
                 resume.getUser().getId()
         );
 
-        // Add preview of extracted text (first 200 chars)
-        if (resume.getExtractedText() != null && !resume.getExtractedText().isEmpty()) {
-            String preview = resume.getExtractedText().substring(
-                    0,
-                    Math.min(200, resume.getExtractedText().length())
-            );
-            response.setExtractedTextPreview(preview);
+        // Add preview of extracted text (precomputed first 200 chars)
+        if (resume.getTextPreview() != null && !resume.getTextPreview().isEmpty()) {
+            response.setExtractedTextPreview(resume.getTextPreview());
         }
 
+        // Structured fields extracted at upload time
+        response.setYearsOfExperience(resume.getYearsOfExperience());
+        response.setSkills(splitField(resume.getSkills(), ","));
+        response.setJobTitles(splitField(resume.getJobTitles(), "\n"));
+        response.setSections(splitField(resume.getDetectedSections(), ","));
+
         return response;
     }
 
+    static String buildPreview(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        return text.substring(0, Math.min(PREVIEW_LENGTH, text.length()));
+    }
+
+    private List<String> splitField(String value, String separator) {
+        if (value == null || value.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(value.split(separator))
+                .map(String::trim)
+                .filter(part -> !part.isEmpty())
+                .collect(Collectors.toList());
+    }
+
     // NOTE: These methods are NO LONGER NEEDED with S3
     // Resumes are accessed directly via S3 URLs
     @Deprecated
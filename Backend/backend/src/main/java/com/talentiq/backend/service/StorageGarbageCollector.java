@@ -0,0 +1,277 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.dto.StorageGcStatus;
+import com.talentiq.backend.repository.ResumeRepository;
+import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.storage.BatchDeleteResult;
+import com.talentiq.backend.storage.StorageBackend;
+import com.talentiq.backend.storage.StoredObjectSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Finds and deletes stored files no database row points to any more (failed deletes, crashes, old bugs).
+ * Memory stays bounded for any number of objects: all references are streamed into a Bloom filter
+ * (no false negatives, so a referenced file is never taken for an orphan), then the storage listing is
+ * streamed page by page. Candidates are rechecked against the database in one query per page and
+ * deleted in batches. Files younger than the grace period are never touched, which covers uploads
+ * whose database row is not written yet.
+ */
+@Service
+public class StorageGarbageCollector {
+
+    private static final String[] PREFIXES = {"resumes/", "profile-pictures/"};
+
+    private static final int PAGE_SIZE = 1000;
+
+    // Don't trust the orphan ratio before this many objects have been seen
+    private static final long MIN_SAMPLE = 1000;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private ProfilePictureVariantService profilePictureVariantService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${storage.gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${storage.gc.grace-hours:168}")
+    private long graceHours;
+
+    // Safety stop: if more than this share of objects look orphaned, the reference scan is probably wrong
+    @Value("${storage.gc.max-orphan-ratio:0.5}")
+    private double maxOrphanRatio;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean stopRequested;
+
+    private volatile StorageGcStatus status = idleStatus();
+
+    @Scheduled(cron = "${storage.gc.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run(false);
+        }
+    }
+
+    /**
+     * Start a sweep on a background thread; returns false if one is already running
+     */
+    public boolean start(boolean dryRun) {
+        if (running.get()) {
+            return false;
+        }
+        Thread thread = new Thread(() -> run(dryRun), "storage-gc");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public void requestStop() {
+        stopRequested = true;
+    }
+
+    public StorageGcStatus getStatus() {
+        return copy(status);
+    }
+
+    /**
+     * Run a full sweep on the calling thread
+     */
+    public void run(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            System.out.println("⚠️ Storage GC already running");
+            return;
+        }
+
+        StorageGcStatus current = new StorageGcStatus();
+        current.setRunning(true);
+        current.setDryRun(dryRun);
+        current.setStartedAt(LocalDateTime.now());
+        status = current;
+        stopRequested = false;
+
+        try {
+            System.out.println("🧹 Storage GC started" + (dryRun ? " (dry run)" : ""));
+
+            current.setPhase("INDEXING");
+            StringBloomFilter references = indexReferences(current);
+
+            // Objects must be older than the grace period when the references were read
+            Instant cutoff = Instant.now().minus(Duration.ofHours(graceHours));
+
+            current.setPhase("SWEEPING");
+            for (String prefix : PREFIXES) {
+                current.setCurrentPrefix(prefix);
+                storageBackend.listObjects(prefix, PAGE_SIZE, page -> sweepPage(page, references, cutoff, current));
+            }
+
+            current.setPhase("DONE");
+            current.setMessage(null);
+            System.out.println("✅ Storage GC finished: " + current.getObjectsScanned() + " scanned, "
+                    + current.getOrphansFound() + " orphans, " + current.getOrphansDeleted() + " deleted");
+        } catch (StopSweep e) {
+            current.setPhase("ABORTED");
+            current.setMessage(e.getMessage());
+            System.err.println("⚠️ Storage GC aborted: " + e.getMessage());
+        } catch (Exception e) {
+            current.setPhase("FAILED");
+            current.setMessage(e.getMessage());
+            System.err.println("❌ Storage GC failed: " + e.getMessage());
+        } finally {
+            current.setCurrentPrefix(null);
+            current.setFinishedAt(LocalDateTime.now());
+            current.setRunning(false);
+            running.set(false);
+        }
+    }
+
+    /**
+     * Stream every stored location referenced by the database into a Bloom filter of keys
+     */
+    private StringBloomFilter indexReferences(StorageGcStatus current) {
+        Long resumes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM resumes", Long.class);
+        Long pictures = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE profile_picture_path IS NOT NULL", Long.class);
+        long pictureFiles = (pictures != null ? pictures : 0) * (1 + ProfilePictureVariantService.Size.values().length);
+        // Headroom for rows added while we scan
+        StringBloomFilter filter = new StringBloomFilter(((resumes != null ? resumes : 0) + pictureFiles) * 5 / 4);
+        current.setFilterBytes(filter.sizeInBytes());
+
+        // Read-only transaction so PostgreSQL streams the result with a cursor instead of buffering it
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(tx -> {
+            stream("SELECT file_path FROM resumes WHERE file_path IS NOT NULL", rs -> {
+                addReference(filter, rs.getString(1), current);
+            });
+            stream("SELECT profile_picture_path FROM users WHERE profile_picture_path IS NOT NULL", rs -> {
+                for (String location : profilePictureVariantService.filesOf(rs.getString(1))) {
+                    addReference(filter, location, current);
+                }
+            });
+        });
+        return filter;
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(PAGE_SIZE);
+            return statement;
+        }, handler);
+    }
+
+    private void addReference(StringBloomFilter filter, String location, StorageGcStatus current) {
+        String key = storageBackend.keyOf(location);
+        if (key != null) {
+            filter.add(key);
+            current.setReferencesIndexed(current.getReferencesIndexed() + 1);
+        }
+    }
+
+    private void sweepPage(List<StoredObjectSummary> page, StringBloomFilter references, Instant cutoff,
+                           StorageGcStatus current) {
+        if (stopRequested) {
+            throw new StopSweep("Stopped by request");
+        }
+
+        List<String> candidates = new ArrayList<>();
+        for (StoredObjectSummary object : page) {
+            if (object.getLastModified() != null && object.getLastModified().isAfter(cutoff)) {
+                current.setObjectsTooRecent(current.getObjectsTooRecent() + 1);
+            } else if (!references.mightContain(object.getKey())) {
+                candidates.add(storageBackend.getPublicUrl(object.getKey()));
+            }
+        }
+        current.setObjectsScanned(current.getObjectsScanned() + page.size());
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Recheck against the live tables: the filter is a snapshot taken before the listing
+        Set<String> stillReferenced = new HashSet<>(resumeRepository.findExistingFilePaths(candidates));
+        stillReferenced.addAll(userRepository.findExistingProfilePicturePaths(candidates));
+        candidates.removeIf(stillReferenced::contains);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        current.setOrphansFound(current.getOrphansFound() + candidates.size());
+        if (current.getObjectsScanned() >= MIN_SAMPLE
+                && current.getOrphansFound() > current.getObjectsScanned() * maxOrphanRatio) {
+            throw new StopSweep(current.getOrphansFound() + " of " + current.getObjectsScanned()
+                    + " objects look orphaned; refusing to continue (storage.gc.max-orphan-ratio)");
+        }
+
+        if (current.isDryRun()) {
+            return;
+        }
+
+        BatchDeleteResult result = storageBackend.deleteFiles(candidates);
+        current.setOrphansDeleted(current.getOrphansDeleted() + result.getDeleted().size());
+        current.setDeleteFailures(current.getDeleteFailures() + result.getFailed().size());
+    }
+
+    private static StorageGcStatus idleStatus() {
+        StorageGcStatus idle = new StorageGcStatus();
+        idle.setPhase("IDLE");
+        return idle;
+    }
+
+    private static StorageGcStatus copy(StorageGcStatus source) {
+        StorageGcStatus copy = new StorageGcStatus();
+        copy.setPhase(source.getPhase());
+        copy.setRunning(source.isRunning());
+        copy.setDryRun(source.isDryRun());
+        copy.setCurrentPrefix(source.getCurrentPrefix());
+        copy.setStartedAt(source.getStartedAt());
+        copy.setFinishedAt(source.getFinishedAt());
+        copy.setReferencesIndexed(source.getReferencesIndexed());
+        copy.setFilterBytes(source.getFilterBytes());
+        copy.setObjectsScanned(source.getObjectsScanned());
+        copy.setObjectsTooRecent(source.getObjectsTooRecent());
+        copy.setOrphansFound(source.getOrphansFound());
+        copy.setOrphansDeleted(source.getOrphansDeleted());
+        copy.setDeleteFailures(source.getDeleteFailures());
+        copy.setMessage(source.getMessage());
+        return copy;
+    }
+
+    private static class StopSweep extends RuntimeException {
+        StopSweep(String message) {
+            super(message);
+        }
+    }
+}
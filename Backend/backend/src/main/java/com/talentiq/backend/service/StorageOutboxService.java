@@ -0,0 +1,204 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.model.StorageOutboxEntry;
+import com.talentiq.backend.repository.StorageOutboxRepository;
+import com.talentiq.backend.storage.BatchDeleteResult;
+import com.talentiq.backend.storage.StorageBackend;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transactional outbox for storage deletes.
+ * Callers record the files to delete in their own transaction; nothing touches storage until it commits,
+ * so a rolled back delete never loses a file and the request never waits on S3 while holding a connection.
+ * The dispatcher runs right after commit and on a schedule, deletes in batches and retries with backoff
+ * (see OutboxProcessor).
+ */
+@Service
+public class StorageOutboxService extends OutboxProcessor<StorageOutboxEntry> {
+
+    @Autowired
+    private StorageOutboxRepository storageOutboxRepository;
+
+    @Autowired
+    private StorageBackend storageBackend;
+
+    @Value("${storage.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${storage.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${storage.outbox.base-backoff-seconds:10}")
+    private long baseBackoffSeconds;
+
+    @Value("${storage.outbox.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    // Claimed rows are hidden from other dispatchers for this long, in case this instance dies mid-batch
+    @Value("${storage.outbox.lease-seconds:300}")
+    private long leaseSeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private volatile boolean rerun;
+
+    private final ExecutorService dispatchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * Record a file to delete once the current transaction commits
+     */
+    public void enqueueDelete(String fileUrl) {
+        enqueueDeletes(Collections.singletonList(fileUrl));
+    }
+
+    /**
+     * Record files to delete once the current transaction commits (nulls are skipped)
+     */
+    public void enqueueDeletes(Collection<String> fileUrls) {
+        List<StorageOutboxEntry> entries = new ArrayList<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl != null) {
+                entries.add(new StorageOutboxEntry(StorageOutboxEntry.Operation.DELETE, fileUrl));
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        storageOutboxRepository.saveAll(entries);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatchExecutor.execute(StorageOutboxService.this::dispatch);
+                }
+            });
+        } else {
+            dispatchExecutor.execute(this::dispatch);
+        }
+    }
+
+    /**
+     * Drain due entries. Also picks up retries and anything left over by a crash.
+     */
+    @Scheduled(fixedDelayString = "${storage.outbox.poll-interval-ms:30000}",
+            initialDelayString = "${storage.outbox.initial-delay-ms:30000}")
+    public void dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            rerun = true; // The running dispatcher makes another pass for our entries
+            return;
+        }
+
+        try {
+            do {
+                rerun = false;
+                drain();
+            } while (rerun);
+        } catch (Exception e) {
+            System.err.println("❌ Storage outbox dispatch failed: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    protected List<StorageOutboxEntry> lockDue(LocalDateTime now, int limit) {
+        return storageOutboxRepository.lockDue(now, limit);
+    }
+
+    @Override
+    protected StorageOutboxRepository repository() {
+        return storageOutboxRepository;
+    }
+
+    @Override
+    protected void process(List<StorageOutboxEntry> batch, Outcome<StorageOutboxEntry> outcome) {
+        List<String> fileUrls = new ArrayList<>();
+        for (StorageOutboxEntry entry : batch) {
+            fileUrls.add(entry.getFileUrl());
+        }
+        Map<String, String> failed;
+        try {
+            BatchDeleteResult result = storageBackend.deleteFiles(fileUrls);
+            failed = result.getFailed();
+        } catch (Exception e) {
+            failed = null; // Whole batch failed
+            System.err.println("⚠️ Storage outbox batch failed: " + e.getMessage());
+        }
+
+        for (StorageOutboxEntry entry : batch) {
+            String key = storageBackend.keyOf(entry.getFileUrl());
+            if (key == null) {
+                // Not a location of this backend; retrying cannot help
+                System.err.println("⚠️ Dropping outbox entry for unknown location: " + entry.getFileUrl());
+                outcome.done(entry);
+            } else if (failed == null || failed.containsKey(key)) {
+                outcome.retry(entry, failed == null ? "Batch failed" : failed.get(key));
+            } else {
+                outcome.done(entry);
+            }
+        }
+
+        if (outcome.retryCount() > 0) {
+            System.err.println("⚠️ Storage outbox: " + outcome.retryCount() + " delete(s) will be retried");
+        }
+    }
+
+    @Override
+    protected void giveUp(StorageOutboxEntry entry) {
+        System.err.println("❌ Giving up on storage delete after " + entry.getAttempts() + " attempts: "
+                + entry.getFileUrl() + " (" + entry.getLastError() + ")");
+        storageOutboxRepository.deleteById(entry.getId());
+    }
+
+    @Override
+    protected int batchSize() {
+        return batchSize;
+    }
+
+    @Override
+    protected int maxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    protected long leaseSeconds() {
+        return leaseSeconds;
+    }
+
+    @Override
+    protected long baseBackoffSeconds() {
+        return baseBackoffSeconds;
+    }
+
+    @Override
+    protected long maxBackoffSeconds(StorageOutboxEntry entry) {
+        return maxBackoffSeconds;
+    }
+}
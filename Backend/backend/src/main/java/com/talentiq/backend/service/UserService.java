@@ -3,11 +3,19 @@ package com.talentiq.backend.service;
 import com.talentiq.backend.dto.ChangePasswordRequest;
 import com.talentiq.backend.dto.ProfileResponse;
 import com.talentiq.backend.dto.UpdateProfileRequest;
+import com.talentiq.backend.dto.UploadCompleteRequest;
+import com.talentiq.backend.dto.UploadUrlRequest;
+import com.talentiq.backend.dto.UploadUrlResponse;
 import com.talentiq.backend.model.AuthProvider;
 import com.talentiq.backend.model.Resume;
 import com.talentiq.backend.model.User;
 import com.talentiq.backend.repository.ResumeRepository;
 import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.security.JwtTokenProvider;
+import com.talentiq.backend.security.TokenVersionStore;
+import com.talentiq.backend.security.UserPrincipalCache;
+import com.talentiq.backend.storage.StorageBackend;
+import com.talentiq.backend.storage.StoredObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -15,7 +23,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class UserService {
@@ -30,10 +41,32 @@ public class UserService {
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private S3StorageService s3StorageService;
+    private StorageBackend storageBackend;
+
+    @Autowired
+    private ProfilePictureVariantService profilePictureVariantService;
+
+    @Autowired
+    private StorageOutboxService storageOutboxService;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private TokenVersionStore tokenVersionStore;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
     public ProfileResponse getCurrentUserProfile(User user) {
-        User fullUser = userRepository.findById(user.getId())
+        return getCurrentUserProfile(user.getId());
+    }
+
+    public ProfileResponse getCurrentUserProfile(Long userId) {
+        User fullUser = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Return the S3 URL directly (no need for /api/user/profile-picture endpoint)
@@ -56,6 +89,8 @@ public class UserService {
 
         // Add authProvider
         response.setAuthProvider(fullUser.getAuthProvider().name());
+        response.setProfilePictureUrls(profilePictureVariantService.urlsFor(
+                fullUser.getProfilePicturePath(), fullUser.getProfilePictureVariantsReady()));
 
         return response;
     }
@@ -89,11 +124,17 @@ public class UserService {
 
         userRepository.save(userToUpdate);
 
+        userPrincipalCache.evict(userToUpdate);
+
         return getCurrentUserProfile(userToUpdate);
     }
 
+    /**
+     * Change the password and revoke every existing token; returns fresh tokens for the caller
+     * ("token" and "refreshToken")
+     */
     @Transactional
-    public void changePassword(ChangePasswordRequest request, User user) {
+    public Map<String, String> changePassword(ChangePasswordRequest request, User user) {
         User userToUpdate = userRepository.findById(user.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -113,8 +154,16 @@ public class UserService {
 
         // Update password
         userToUpdate.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        tokenVersionStore.revoke(userToUpdate);
 
         userRepository.save(userToUpdate);
+
+        userPrincipalCache.evict(userToUpdate);
+
+        Map<String, String> tokens = new HashMap<>();
+        tokens.put("token", jwtTokenProvider.generateToken(userToUpdate));
+        tokens.put("refreshToken", refreshTokenService.issue(userToUpdate));
+        return tokens;
     }
 
     @Transactional
@@ -128,40 +177,24 @@ public class UserService {
                 throw new RuntimeException("File is empty");
             }
 
-            // Validate file type
-            String contentType = file.getContentType();
-            if (contentType == null || (!contentType.equals("image/jpeg") &&
-                    !contentType.equals("image/png") &&
-                    !contentType.equals("image/jpg"))) {
-                throw new RuntimeException("Only JPG, JPEG, and PNG images are allowed");
-            }
-
-            // Validate file size (5MB max)
-            long maxSize = 5 * 1024 * 1024;
-            if (file.getSize() > maxSize) {
-                throw new RuntimeException("File size exceeds maximum limit of 5MB");
-            }
+            // Validate file type and size
+            validateProfilePicture(file.getContentType(), file.getSize());
 
             System.out.println("📸 Uploading profile picture for user: " + user.getId());
 
-            // Delete old profile picture from S3 if exists
-            if (userToUpdate.getProfilePicturePath() != null) {
-                try {
-                    s3StorageService.deleteFile(userToUpdate.getProfilePicturePath());
-                    System.out.println("🗑️ Old profile picture deleted from S3");
-                } catch (Exception e) {
-                    System.err.println("⚠️ Could not delete old profile picture: " + e.getMessage());
-                    // Continue anyway
-                }
-            }
+            // Delete old profile picture and its thumbnails after commit
+            storageOutboxService.enqueueDeletes(profilePictureVariantService.filesOf(userToUpdate.getProfilePicturePath()));
 
             // Upload to S3
-            String s3Url = s3StorageService.uploadFile(file, "profile-pictures");
+            String s3Url = storageBackend.uploadFile(file, "profile-pictures");
             System.out.println("✅ Profile picture uploaded to S3: " + s3Url);
 
-            // Update user with S3 URL
+            // Update user with S3 URL; thumbnails follow once the transaction commits
             userToUpdate.setProfilePicturePath(s3Url);
+            userToUpdate.setProfilePictureVariantsReady(false);
             userRepository.save(userToUpdate);
+            userPrincipalCache.evict(userToUpdate);
+            profilePictureVariantService.scheduleVariants(userToUpdate.getId(), s3Url);
 
             return getCurrentUserProfile(userToUpdate);
 
@@ -171,6 +204,87 @@ public class UserService {
         }
     }
 
+    /**
+     * Create a presigned URL so the browser can upload a profile picture directly to S3
+     */
+    public UploadUrlResponse createProfilePictureUploadUrl(UploadUrlRequest request, User user) {
+        validateProfilePicture(request.getContentType(), request.getSize());
+        String key = storageBackend.newKey(profilePictureFolder(user), request.getFilename());
+        return storageBackend.presignUpload(key, request.getContentType(), request.getSize());
+    }
+
+    /**
+     * Finish a direct profile picture upload: verify the object and point the user at it
+     */
+    @Transactional
+    public ProfileResponse completeProfilePictureUpload(UploadCompleteRequest request, User user) {
+        String key = request.getKey();
+        if (!key.startsWith(profilePictureFolder(user) + "/") || key.contains("..")) {
+            throw new RuntimeException("Invalid upload key");
+        }
+
+        User userToUpdate = userRepository.findById(user.getId())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        String s3Url = storageBackend.getPublicUrl(key);
+        if (s3Url.equals(userToUpdate.getProfilePicturePath())) {
+            return getCurrentUserProfile(userToUpdate); // Completion retried by the client
+        }
+
+        StoredObject stored = storageBackend.stat(key);
+        if (stored == null) {
+            throw new RuntimeException("Uploaded file not found");
+        }
+
+        try {
+            validateProfilePicture(stored.getContentType(), stored.getSize());
+        } catch (RuntimeException e) {
+            storageBackend.deleteFile(s3Url);
+            throw e;
+        }
+
+        // Delete old profile picture and its thumbnails after commit
+        storageOutboxService.enqueueDeletes(profilePictureVariantService.filesOf(userToUpdate.getProfilePicturePath()));
+
+        userToUpdate.setProfilePicturePath(s3Url);
+        userToUpdate.setProfilePictureVariantsReady(false);
+        userRepository.save(userToUpdate);
+        userPrincipalCache.evict(userToUpdate);
+        profilePictureVariantService.scheduleVariants(userToUpdate.getId(), s3Url);
+        System.out.println("✅ Profile picture uploaded directly to S3: " + s3Url);
+
+        return getCurrentUserProfile(userToUpdate);
+    }
+
+    /**
+     * Validate profile picture type and size (5MB max)
+     */
+    private void validateProfilePicture(String contentType, Long size) {
+        if (contentType == null || (!contentType.equals("image/jpeg") &&
+                !contentType.equals("image/png") &&
+                !contentType.equals("image/jpg"))) {
+            throw new RuntimeException("Only JPG, JPEG, and PNG images are allowed");
+        }
+
+        long maxSize = 5 * 1024 * 1024;
+        if (size == null || size > maxSize) {
+            throw new RuntimeException("File size exceeds maximum limit of 5MB");
+        }
+    }
+
+    private String profilePictureFolder(User user) {
+        return "profile-pictures/u" + user.getId();
+    }
+
+    /**
+     * ETag of a user's profile picture (the stored location is unique per upload), or null if there is none
+     */
+    public String getProfilePictureETag(Long userId) {
+        return userRepository.findProfilePicturePathById(userId)
+                .map(path -> ETags.of("pp-" + userId, path))
+                .orElse(null);
+    }
+
     /**
      * Delete profile picture
      */
@@ -180,18 +294,14 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         if (userToUpdate.getProfilePicturePath() != null) {
-            try {
-                // Delete from S3
-                s3StorageService.deleteFile(userToUpdate.getProfilePicturePath());
-                System.out.println("✅ Profile picture deleted from S3");
-            } catch (Exception e) {
-                System.err.println("⚠️ Could not delete profile picture from S3: " + e.getMessage());
-                // Continue anyway to clear the database reference
-            }
+            // Delete picture and thumbnails after commit
+            storageOutboxService.enqueueDeletes(profilePictureVariantService.filesOf(userToUpdate.getProfilePicturePath()));
 
             // Clear profile picture path in database
             userToUpdate.setProfilePicturePath(null);
+            userToUpdate.setProfilePictureVariantsReady(false);
             userRepository.save(userToUpdate);
+            userPrincipalCache.evict(userToUpdate);
         }
     }
 
@@ -213,31 +323,23 @@ public class UserService {
 
         System.out.println("🗑️ Deleting user account: " + user.getEmail() + " (ID: " + userId + ")");
 
-        // Delete profile picture from S3 if exists
-        if (user.getProfilePicturePath() != null) {
-            try {
-                s3StorageService.deleteFile(user.getProfilePicturePath());
-                System.out.println("   ✅ Profile picture deleted from S3");
-            } catch (Exception e) {
-                System.err.println("   ⚠️ Could not delete profile picture: " + e.getMessage());
-            }
-        }
-
-        // Delete resumes from S3 if job seeker
+        // Collect the user's S3 files (profile picture, and resumes if job seeker)
+        List<String> fileUrls = new ArrayList<>();
+        fileUrls.addAll(profilePictureVariantService.filesOf(user.getProfilePicturePath()));
         if (user.getRole().name().equals("JOB_SEEKER")) {
-            List<Resume> userResumes = resumeRepository.findByUserId(userId);
-            for (Resume resume : userResumes) {
-                try {
-                    s3StorageService.deleteFile(resume.getFilePath());
-                    System.out.println("   ✅ Resume deleted from S3: " + resume.getFilename());
-                } catch (Exception e) {
-                    System.err.println("   ⚠️ Could not delete resume: " + e.getMessage());
-                }
+            for (Resume resume : resumeRepository.findByUserId(userId)) {
+                fileUrls.add(resume.getFilePath());
             }
         }
 
+        // Deleted in batches after commit; failures are retried by the outbox
+        storageOutboxService.enqueueDeletes(fileUrls);
+
         // Delete user (cascade will handle database relations)
         userRepository.delete(user);
+        userPrincipalCache.evict(user);
+        tokenVersionStore.forget(userId);
+        refreshTokenService.deleteForUser(userId);
         System.out.println("✅ User account deleted successfully");
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.talentiq.backend.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a multi-object delete: which keys were removed and why the others were not
+ */
+public class BatchDeleteResult {
+
+    private final List<String> deleted = new ArrayList<>();
+    private final Map<String, String> failed = new LinkedHashMap<>();
+    private int requests;
+
+    public static BatchDeleteResult empty() {
+        return new BatchDeleteResult();
+    }
+
+    void addDeleted(String key) {
+        deleted.add(key);
+    }
+
+    void addFailure(String key, String error) {
+        failed.put(key, error);
+    }
+
+    void incrementRequests() {
+        requests++;
+    }
+
+    void merge(BatchDeleteResult other) {
+        deleted.addAll(other.deleted);
+        failed.putAll(other.failed);
+        requests += other.requests;
+    }
+
+    public List<String> getDeleted() {
+        return Collections.unmodifiableList(deleted);
+    }
+
+    // Key (or URL, if no key could be derived) -> error message
+    public Map<String, String> getFailed() {
+        return Collections.unmodifiableMap(failed);
+    }
+
+    // Number of DeleteObjects calls made
+    public int getRequests() {
+        return requests;
+    }
+
+    public boolean isFullySuccessful() {
+        return failed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return deleted.size() + " deleted, " + failed.size() + " failed in " + requests + " request(s)";
+    }
+}
@@ -0,0 +1,570 @@
+package com.talentiq.backend.storage;
+
+import com.talentiq.backend.dto.UploadUrlResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Local filesystem storage backend for on-prem deployments, development and tests (no AWS needed).
+ * Files are stored under storage.local.root-dir and exposed through /api/files/{key} (see FileController).
+ * Reads are zero-copy: Tomcat sendfile when the connector supports it, FileChannel.transferTo otherwise,
+ * with single-range HTTP Range support. Direct uploads and private downloads use HMAC-signed URLs,
+ * mirroring S3 presigned URLs.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageBackend implements StorageBackend {
+
+    public static final String FILES_PATH = "/api/files/";
+
+    // Same threshold as Tomcat's DefaultServlet; below it a plain channel copy is cheaper than sendfile setup
+    private static final long SENDFILE_THRESHOLD = 48 * 1024;
+
+    private static final String PUBLIC_FOLDER = "profile-pictures/";
+
+    @Value("${storage.local.root-dir:uploads}")
+    private String rootDir;
+
+    @Value("${storage.local.public-base-url:http://localhost:8080}")
+    private String publicBaseUrl;
+
+    // Empty = random per start, so signed URLs do not survive a restart
+    @Value("${storage.local.signing-secret:}")
+    private String signingSecret;
+
+    @Value("${storage.local.upload-url-ttl-seconds:600}")
+    private long uploadUrlTtlSeconds;
+
+    @Value("${storage.local.download-url-ttl-seconds:900}")
+    private long downloadUrlTtlSeconds;
+
+    private Path root;
+
+    private String urlPrefix;
+
+    private SecretKeySpec signingKey;
+
+    private ExecutorService ioExecutor;
+
+    @PostConstruct
+    public void initialize() throws IOException {
+        root = Paths.get(rootDir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        String base = publicBaseUrl.endsWith("/") ? publicBaseUrl.substring(0, publicBaseUrl.length() - 1) : publicBaseUrl;
+        urlPrefix = base + FILES_PATH;
+
+        byte[] secret;
+        if (signingSecret == null || signingSecret.isBlank()) {
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+            System.out.println("⚠️ storage.local.signing-secret not set; signed file URLs will not survive a restart");
+        } else {
+            secret = signingSecret.getBytes(StandardCharsets.UTF_8);
+        }
+        signingKey = new SecretKeySpec(secret, "HmacSHA256");
+
+        AtomicInteger counter = new AtomicInteger();
+        ioExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "local-storage-io-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        System.out.println("✅ Local file storage initialized");
+        System.out.println("   Root: " + root);
+        System.out.println("   URL prefix: " + urlPrefix);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (ioExecutor != null) {
+            ioExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String folder) {
+        String key = newKey(folder, file.getOriginalFilename());
+        try (InputStream in = file.getInputStream()) {
+            write(key, in);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to store file: " + e.getMessage());
+            throw new RuntimeException("Failed to store file: " + e.getMessage(), e);
+        }
+        System.out.println("✅ File stored: " + key);
+        return getPublicUrl(key);
+    }
+
+    @Override
+    public String uploadFile(Path file, String originalFilename, String contentType, String folder) {
+        return putFile(newKey(folder, originalFilename), file, contentType);
+    }
+
+    @Override
+    public String putFile(String key, Path file, String contentType) {
+        try (InputStream in = Files.newInputStream(file)) {
+            write(key, in);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to store file: " + e.getMessage());
+            throw new RuntimeException("Failed to store file: " + e.getMessage(), e);
+        }
+        return getPublicUrl(key);
+    }
+
+    @Override
+    public CompletableFuture<String> uploadFileAsync(Path file, String originalFilename, String contentType, String folder) {
+        return CompletableFuture.supplyAsync(() -> uploadFile(file, originalFilename, contentType, folder), ioExecutor);
+    }
+
+    @Override
+    public void deleteFile(String fileUrl) {
+        delete(keyOf(fileUrl), fileUrl);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteFileAsync(String fileUrl) {
+        return CompletableFuture.supplyAsync(() -> delete(keyOf(fileUrl), fileUrl), ioExecutor);
+    }
+
+    @Override
+    public BatchDeleteResult deleteFiles(Collection<String> fileUrls) {
+        BatchDeleteResult result = BatchDeleteResult.empty();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null) {
+                continue;
+            }
+            String key = keyOf(fileUrl);
+            Path path = resolve(key);
+            if (path == null) {
+                result.addFailure(fileUrl, "Could not extract key from URL");
+                continue;
+            }
+            try {
+                Files.deleteIfExists(path);
+                result.addDeleted(key);
+            } catch (IOException e) {
+                result.addFailure(key, e.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<BatchDeleteResult> deleteFilesAsync(Collection<String> fileUrls) {
+        return CompletableFuture.supplyAsync(() -> deleteFiles(fileUrls), ioExecutor);
+    }
+
+    @Override
+    public boolean fileExists(String fileUrl) {
+        Path path = resolve(keyOf(fileUrl));
+        return path != null && Files.isRegularFile(path);
+    }
+
+    @Override
+    public void listObjects(String prefix, int pageSize, Consumer<List<StoredObjectSummary>> pageConsumer) {
+        // Walk the directory that contains the prefix, then filter on the full key
+        int slash = prefix.lastIndexOf('/');
+        Path start = slash >= 0 ? resolve(prefix.substring(0, slash)) : root;
+        if (start == null || !Files.isDirectory(start)) {
+            return;
+        }
+
+        List<StoredObjectSummary> page = new ArrayList<>(pageSize);
+        try (Stream<Path> files = Files.walk(start)) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                String key = root.relativize(file).toString().replace('\\', '/');
+                if (!key.startsWith(prefix) || !Files.isRegularFile(file)) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                page.add(new StoredObjectSummary(key, attributes.size(), attributes.lastModifiedTime().toInstant()));
+                if (page.size() == pageSize) {
+                    pageConsumer.accept(page);
+                    page = new ArrayList<>(pageSize);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to list files: " + e.getMessage(), e);
+        }
+        if (!page.isEmpty()) {
+            pageConsumer.accept(page);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> fileExistsAsync(String fileUrl) {
+        return CompletableFuture.completedFuture(fileExists(fileUrl));
+    }
+
+    @Override
+    public StoredObject stat(String key) {
+        Path path = resolve(key);
+        if (path == null || !Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return new StoredObject(Files.size(path), contentTypeOf(path));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void downloadToFile(String key, Path target) {
+        Path path = resolve(key);
+        if (path == null || !Files.isRegularFile(path)) {
+            throw new RuntimeException("File not found: " + key);
+        }
+        try {
+            Files.copy(path, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read stored file: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public UploadUrlResponse presignUpload(String key, String contentType, long contentLength) {
+        long expires = System.currentTimeMillis() / 1000 + uploadUrlTtlSeconds;
+        String signature = sign("PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires);
+        String url = urlPrefix + key + "?expires=" + expires + "&signature=" + signature;
+        return new UploadUrlResponse(url, key, "PUT", Collections.singletonMap("Content-Type", contentType), uploadUrlTtlSeconds);
+    }
+
+    @Override
+    public String getDownloadUrl(String fileUrl) {
+        String key = keyOf(fileUrl);
+        if (key == null) {
+            return fileUrl;
+        }
+        long expires = System.currentTimeMillis() / 1000 + downloadUrlTtlSeconds;
+        return urlPrefix + key + "?expires=" + expires + "&signature=" + sign("GET\n" + key + "\n" + expires);
+    }
+
+    @Override
+    public String getPublicUrl(String key) {
+        return urlPrefix + key;
+    }
+
+    @Override
+    public String keyOf(String fileUrl) {
+        if (fileUrl == null || fileUrl.isEmpty()) {
+            return null;
+        }
+
+        if (fileUrl.startsWith(urlPrefix)) {
+            String key = fileUrl.substring(urlPrefix.length());
+            int query = key.indexOf('?');
+            return query >= 0 ? key.substring(0, query) : key;
+        }
+
+        // Files stored by the old FileStorageService were referenced by absolute path
+        try {
+            Path path = Paths.get(fileUrl).toAbsolutePath().normalize();
+            if (path.startsWith(root)) {
+                return root.relativize(path).toString().replace('\\', '/');
+            }
+        } catch (InvalidPathException e) {
+            // Not a path
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Profile pictures are readable without a signature, like the public S3 URLs they replace.
+     * The prefix is checked on the normalized path, so profile-pictures/../resumes/... is not public.
+     */
+    public boolean isPubliclyReadable(String key) {
+        Path path = resolve(key);
+        return path != null && root.relativize(path).toString().replace('\\', '/').startsWith(PUBLIC_FOLDER);
+    }
+
+    public boolean verifyDownload(String key, Long expires, String signature) {
+        return verify("GET\n" + key + "\n" + expires, expires, signature);
+    }
+
+    public boolean verifyUpload(String key, String contentType, long contentLength, Long expires, String signature) {
+        return verify("PUT\n" + key + "\n" + contentType + "\n" + contentLength + "\n" + expires, expires, signature);
+    }
+
+    /**
+     * Store the body of a direct upload; fails if fewer or more bytes than signed for arrive
+     */
+    public void receiveUpload(String key, InputStream body, long contentLength) throws IOException {
+        Path target = resolve(key);
+        if (target == null) {
+            throw new RuntimeException("Invalid upload key");
+        }
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), ".upload_", ".tmp");
+        try {
+            long written;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                written = copy(body, out, contentLength + 1);
+            }
+            if (written != contentLength) {
+                throw new RuntimeException("Upload size does not match the signed content length");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Write a stored file to the response, honouring a single-range Range header
+     */
+    public void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(key);
+        if (file == null || !Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+
+        response.setHeader("Accept-Ranges", "bytes");
+        response.setContentType(contentTypeOf(file));
+        // Keys are unique per upload, so public files never change; callers serving a key
+        // under a stable URL set their own policy first
+        if (!response.containsHeader("Cache-Control")) {
+            response.setHeader("Cache-Control", isPubliclyReadable(key) ? "public, max-age=31536000, immutable" : "private, max-age=300");
+        }
+
+        String range = request.getHeader("Range");
+        if (range != null) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // Let Tomcat send the file from the kernel after the servlet returns
+        if (count >= SENDFILE_THRESHOLD && Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", file.toFile().getCanonicalPath());
+            request.setAttribute("org.apache.tomcat.sendfile.start", start);
+            request.setAttribute("org.apache.tomcat.sendfile.end", end + 1); // exclusive
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Parse a Range header. Returns {start, end} for a satisfiable single range, an empty array to
+     * ignore the header (multiple or malformed ranges are served in full), or null if unsatisfiable.
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+
+        try {
+            String from = spec.substring(0, dash).trim();
+            String to = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (from.isEmpty()) {
+                // Suffix range: last N bytes
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(from);
+                end = to.isEmpty() ? length - 1 : Math.min(Long.parseLong(to), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private void write(String key, InputStream in) throws IOException {
+        Path target = resolve(key);
+        if (target == null) {
+            throw new IOException("Invalid key: " + key);
+        }
+        Files.createDirectories(target.getParent());
+        Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private boolean delete(String key, String fileUrl) {
+        Path path = resolve(key);
+        if (path == null) {
+            System.err.println("⚠️ Could not extract key from URL: " + fileUrl);
+            return false;
+        }
+        try {
+            boolean deleted = Files.deleteIfExists(path);
+            if (deleted) {
+                System.out.println("✅ File deleted: " + key);
+            }
+            return deleted;
+        } catch (IOException e) {
+            System.err.println("❌ Failed to delete file: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Map a key to a path under the root, rejecting anything that escapes it.
+     * Keys this backend generates never contain .. segments, so any key that does is rejected outright.
+     */
+    private Path resolve(String key) {
+        if (key == null || key.isEmpty() || key.indexOf('\\') >= 0 || hasParentSegment(key)) {
+            return null;
+        }
+        try {
+            Path path = root.resolve(key).normalize();
+            return path.startsWith(root) && !path.equals(root) ? path : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static boolean hasParentSegment(String key) {
+        for (String segment : key.split("/")) {
+            if (segment.equals("..")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String contentTypeOf(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".pdf")) {
+            return "application/pdf";
+        } else if (name.endsWith(".docx")) {
+            return "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+        } else if (name.endsWith(".doc")) {
+            return "application/msword";
+        } else if (name.endsWith(".txt")) {
+            return "text/plain";
+        } else if (name.endsWith(".png")) {
+            return "image/png";
+        } else if (name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+            return "image/jpeg";
+        } else if (name.endsWith(".gif")) {
+            return "image/gif";
+        }
+        return "application/octet-stream";
+    }
+
+    private static long copy(InputStream in, OutputStream out, long limit) throws IOException {
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while (total < limit && (read = in.read(buffer, 0, (int) Math.min(buffer.length, limit - total))) != -1) {
+            out.write(buffer, 0, read);
+            total += read;
+        }
+        return total;
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(signingKey);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private boolean verify(String payload, Long expires, String signature) {
+        if (expires == null || signature == null || expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(payload).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+}
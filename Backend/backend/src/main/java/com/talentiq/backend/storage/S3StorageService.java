@@ -0,0 +1,1035 @@
+package com.talentiq.backend.storage;
+
+import com.talentiq.backend.dto.UploadUrlResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Amazon S3 (or S3-compatible) storage backend. Active unless storage.backend is set to something else.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
+public class S3StorageService implements StorageBackend {
+
+    // S3 rejects multipart parts smaller than 5MB (except the last one)
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    // S3 DeleteObjects accepts at most 1000 keys per request
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
+    @Value("${aws.s3.bucket-name}")
+    private String bucketName;
+
+    @Value("${aws.s3.region}")
+    private String region;
+
+    @Value("${aws.access-key-id}")
+    private String accessKeyId;
+
+    @Value("${aws.secret-access-key}")
+    private String secretAccessKey;
+
+    @Value("${aws.s3.enabled:true}")
+    private boolean s3Enabled;
+
+    // Optional endpoint override for S3-compatible stores (MinIO, LocalStack)
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    // Objects at or above this size use multipart upload
+    @Value("${aws.s3.multipart-threshold:8388608}")
+    private long multipartThreshold;
+
+    @Value("${aws.s3.part-size:5242880}")
+    private int partSize;
+
+    // Part buffers shared by all uploads; caps multipart heap at buffers * part-size
+    @Value("${aws.s3.part-buffers:4}")
+    private int partBuffers;
+
+    // Parts of one upload sent in parallel
+    @Value("${aws.s3.upload-parallelism:2}")
+    private int uploadParallelism;
+
+    private S3Client s3Client;
+
+    private String urlPrefix;
+
+    private BlockingQueue<byte[]> partBufferPool;
+
+    private final AtomicInteger allocatedBuffers = new AtomicInteger();
+
+    private ExecutorService partUploadExecutor;
+
+    private S3Presigner presigner;
+
+    private S3AsyncClient s3AsyncClient;
+
+    // Async operations started but not finished; further operations wait in a queue
+    @Value("${aws.s3.async.max-in-flight:64}")
+    private int asyncMaxInFlight;
+
+    private InFlightLimiter asyncLimiter;
+
+    @Value("${aws.s3.upload-url-ttl-seconds:600}")
+    private long uploadUrlTtlSeconds;
+
+    @Value("${aws.s3.download-url-ttl-seconds:900}")
+    private long downloadUrlTtlSeconds;
+
+    @Value("${aws.s3.download-url-cache-size:10000}")
+    private int downloadUrlCacheSize;
+
+    // Presigned GET URLs by key, reused until shortly before they expire
+    private final Map<String, CachedUrl> downloadUrlCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void initialize() {
+        if (s3Enabled) {
+            AwsBasicCredentials awsCreds = AwsBasicCredentials.create(accessKeyId, secretAccessKey);
+            S3ClientBuilder builder = S3Client.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(awsCreds));
+            if (endpoint != null && !endpoint.isBlank()) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            if (pathStyleAccess) {
+                builder.forcePathStyle(true);
+            }
+            this.s3Client = builder.build();
+
+            S3Presigner.Builder presignerBuilder = S3Presigner.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(awsCreds))
+                    .serviceConfiguration(S3Configuration.builder()
+                            .pathStyleAccessEnabled(pathStyleAccess)
+                            .build());
+            if (endpoint != null && !endpoint.isBlank()) {
+                presignerBuilder.endpointOverride(URI.create(endpoint));
+            }
+            this.presigner = presignerBuilder.build();
+
+            S3AsyncClientBuilder asyncBuilder = S3AsyncClient.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(awsCreds));
+            if (endpoint != null && !endpoint.isBlank()) {
+                asyncBuilder.endpointOverride(URI.create(endpoint));
+            }
+            if (pathStyleAccess) {
+                asyncBuilder.forcePathStyle(true);
+            }
+            this.s3AsyncClient = asyncBuilder.build();
+            this.asyncLimiter = new InFlightLimiter(Math.max(1, asyncMaxInFlight));
+
+            this.partSize = Math.max(partSize, MIN_PART_SIZE);
+            this.multipartThreshold = Math.max(multipartThreshold, partSize);
+            this.partBuffers = Math.max(1, partBuffers);
+            this.partBufferPool = new ArrayBlockingQueue<>(partBuffers);
+            AtomicInteger counter = new AtomicInteger();
+            this.partUploadExecutor = Executors.newFixedThreadPool(partBuffers, runnable -> {
+                Thread thread = new Thread(runnable, "s3-part-upload-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            System.out.println("✅ S3 Client initialized successfully");
+            System.out.println("   Bucket: " + bucketName);
+            System.out.println("   Region: " + region);
+            if (endpoint != null && !endpoint.isBlank()) {
+                System.out.println("   Endpoint: " + endpoint + (pathStyleAccess ? " (path-style)" : ""));
+            }
+        } else {
+            System.out.println("⚠️ S3 is disabled in configuration");
+        }
+
+        this.urlPrefix = buildUrlPrefix();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (partUploadExecutor != null) {
+            partUploadExecutor.shutdown();
+        }
+        if (presigner != null) {
+            presigner.close();
+        }
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+    }
+
+    /**
+     * Upload file to S3 and return public URL
+     *
+     * @param file The file to upload
+     * @param folder The folder path (e.g., "profile-pictures", "resumes")
+     * @return The public URL of the uploaded file
+     */
+    @Override
+    public String uploadFile(MultipartFile file, String folder) {
+        if (!s3Enabled) {
+            throw new RuntimeException("S3 storage is not enabled");
+        }
+
+        String key = newKey(folder, file.getOriginalFilename());
+
+        // Determine content type
+        String contentType = file.getContentType();
+        if (contentType == null) {
+            contentType = "application/octet-stream";
+        }
+
+        // Stream from the multipart part (kept on disk by the container) instead of file.getBytes()
+        try (InputStream in = file.getInputStream()) {
+            upload(key, in, file.getSize(), contentType);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to upload file to S3: " + e.getMessage());
+            throw new RuntimeException("Failed to upload file to S3: " + e.getMessage(), e);
+        }
+
+        String publicUrl = getPublicUrl(key);
+        System.out.println("✅ File uploaded to S3: " + publicUrl);
+        return publicUrl;
+    }
+
+    /**
+     * Upload a file from local disk to S3 and return public URL.
+     * The body is streamed from the file, so large files are never held in memory.
+     *
+     * @param file The local file to upload
+     * @param originalFilename Original filename (used for the extension)
+     * @param contentType MIME type of the file
+     * @param folder The folder path (e.g., "resumes")
+     * @return The public URL of the uploaded file
+     */
+    @Override
+    public String uploadFile(Path file, String originalFilename, String contentType, String folder) {
+        return putFile(newKey(folder, originalFilename), file, contentType);
+    }
+
+    /**
+     * Upload a file from local disk to S3 under an exact key and return its public URL
+     *
+     * @param key The S3 key to write (overwritten if it exists)
+     * @param file The local file to upload
+     * @param contentType MIME type of the file
+     * @return The public URL of the uploaded file
+     */
+    @Override
+    public String putFile(String key, Path file, String contentType) {
+        if (!s3Enabled) {
+            throw new RuntimeException("S3 storage is not enabled");
+        }
+
+        try (InputStream in = Files.newInputStream(file)) {
+            upload(key, in, Files.size(file), contentType != null ? contentType : "application/octet-stream");
+            return getPublicUrl(key);
+
+        } catch (IOException e) {
+            System.err.println("❌ Failed to upload file to S3: " + e.getMessage());
+            throw new RuntimeException("Failed to upload file to S3: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Upload a file from local disk without blocking the caller.
+     * The file must not be deleted until the returned future completes.
+     *
+     * @param file The local file to upload
+     * @param originalFilename Original filename (used for the extension)
+     * @param contentType MIME type of the file
+     * @param folder The folder path (e.g., "resumes")
+     * @return Future completing with the public URL of the uploaded file
+     */
+    @Override
+    public CompletableFuture<String> uploadFileAsync(Path file, String originalFilename, String contentType, String folder) {
+        if (!s3Enabled) {
+            return CompletableFuture.failedFuture(new RuntimeException("S3 storage is not enabled"));
+        }
+
+        String key = newKey(folder, originalFilename);
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType != null ? contentType : "application/octet-stream")
+                .build();
+
+        return asyncLimiter.submit(() -> s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromFile(file)))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        System.err.println("❌ Failed to upload file to S3: " + cause.getMessage());
+                        throw new RuntimeException("Failed to upload file to S3: " + cause.getMessage(), cause);
+                    }
+                    return getPublicUrl(key);
+                });
+    }
+
+    /**
+     * Delete a file without blocking the caller.
+     * Like deleteFile, failures are logged and the future still completes normally.
+     *
+     * @param fileUrl The public URL of the file to delete
+     * @return Future completing with true if the object was deleted
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteFileAsync(String fileUrl) {
+        if (!s3Enabled) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        String key = keyOf(fileUrl);
+        if (key == null || key.isEmpty()) {
+            System.err.println("⚠️ Could not extract key from URL: " + fileUrl);
+            return CompletableFuture.completedFuture(false);
+        }
+
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return asyncLimiter.submit(() -> s3AsyncClient.deleteObject(deleteObjectRequest))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        System.err.println("❌ Failed to delete file from S3: " + unwrap(error).getMessage());
+                        return false;
+                    }
+                    downloadUrlCache.remove(key);
+                    System.out.println("✅ File deleted from S3: " + key);
+                    return true;
+                });
+    }
+
+    /**
+     * Delete many files with S3 DeleteObjects, one request per 1000 keys
+     *
+     * @param fileUrls The public URLs of the files to delete (nulls are skipped)
+     * @return Which keys were deleted and the error for each one that was not
+     */
+    @Override
+    public BatchDeleteResult deleteFiles(Collection<String> fileUrls) {
+        return deleteFilesAsync(fileUrls).join();
+    }
+
+    /**
+     * Delete many files with S3 DeleteObjects without blocking the caller.
+     * Keys are sent in chunks of 1000 (the S3 limit); chunks run concurrently under the in-flight limit.
+     * The future never completes exceptionally - failures are reported per key in the result.
+     *
+     * @param fileUrls The public URLs of the files to delete (nulls are skipped)
+     * @return Future completing with the combined result of all chunks
+     */
+    @Override
+    public CompletableFuture<BatchDeleteResult> deleteFilesAsync(Collection<String> fileUrls) {
+        BatchDeleteResult result = BatchDeleteResult.empty();
+        if (!s3Enabled) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (String fileUrl : fileUrls) {
+            if (fileUrl == null) {
+                continue;
+            }
+            String key = keyOf(fileUrl);
+            if (key == null || key.isEmpty()) {
+                result.addFailure(fileUrl, "Could not extract key from URL");
+            } else {
+                keys.add(key);
+            }
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<BatchDeleteResult>> chunks = new ArrayList<>();
+        for (int i = 0; i < keyList.size(); i += MAX_KEYS_PER_DELETE) {
+            chunks.add(deleteChunk(keyList.subList(i, Math.min(i + MAX_KEYS_PER_DELETE, keyList.size()))));
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]))
+                .thenApply(done -> {
+                    for (CompletableFuture<BatchDeleteResult> chunk : chunks) {
+                        result.merge(chunk.join());
+                    }
+                    if (result.getRequests() > 0) {
+                        System.out.println((result.isFullySuccessful() ? "✅" : "⚠️") + " S3 batch delete: " + result);
+                    }
+                    return result;
+                });
+    }
+
+    private CompletableFuture<BatchDeleteResult> deleteChunk(List<String> keys) {
+        List<ObjectIdentifier> objects = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            objects.add(ObjectIdentifier.builder().key(key).build());
+        }
+
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build();
+
+        return asyncLimiter.submit(() -> s3AsyncClient.deleteObjects(request))
+                .handle((response, error) -> {
+                    BatchDeleteResult result = BatchDeleteResult.empty();
+                    result.incrementRequests();
+
+                    if (error != null) {
+                        String message = unwrap(error).getMessage();
+                        System.err.println("❌ S3 batch delete of " + keys.size() + " keys failed: " + message);
+                        for (String key : keys) {
+                            result.addFailure(key, message);
+                        }
+                        return result;
+                    }
+
+                    // Quiet mode: the response lists only the keys that could not be deleted
+                    Set<String> failedKeys = new HashSet<>();
+                    for (S3Error s3Error : response.errors()) {
+                        failedKeys.add(s3Error.key());
+                        result.addFailure(s3Error.key(), s3Error.code() + ": " + s3Error.message());
+                    }
+                    for (String key : keys) {
+                        if (!failedKeys.contains(key)) {
+                            result.addDeleted(key);
+                            downloadUrlCache.remove(key);
+                        }
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * Check if a file exists without blocking the caller
+     *
+     * @param fileUrl The public URL of the file
+     * @return Future completing with true if the file exists
+     */
+    @Override
+    public CompletableFuture<Boolean> fileExistsAsync(String fileUrl) {
+        if (!s3Enabled) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        String key = keyOf(fileUrl);
+        if (key == null || key.isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return asyncLimiter.submit(() -> s3AsyncClient.headObject(headObjectRequest))
+                .handle((response, error) -> {
+                    if (error == null) {
+                        return true;
+                    }
+                    Throwable cause = unwrap(error);
+                    if (!(cause instanceof NoSuchKeyException)) {
+                        System.err.println("❌ Error checking file existence: " + cause.getMessage());
+                    }
+                    return false;
+                });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Stream an object of known length to S3, switching to multipart upload for large objects
+     */
+    private void upload(String key, InputStream in, long size, String contentType) throws IOException {
+        if (size < multipartThreshold) {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(size)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(in, size));
+            return;
+        }
+
+        uploadMultipart(key, in, contentType);
+    }
+
+    /**
+     * Multipart upload: parts are read into pooled buffers and uploaded in parallel.
+     * At most upload-parallelism parts of this upload are in flight, and all uploads together
+     * never hold more than part-buffers buffers. The upload is aborted if any part fails.
+     */
+    private void uploadMultipart(String key, InputStream in, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        Semaphore inFlight = new Semaphore(Math.max(1, uploadParallelism));
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        try {
+            int partNumber = 1;
+            while (true) {
+                inFlight.acquire();
+                byte[] buffer;
+                try {
+                    buffer = borrowBuffer();
+                } catch (InterruptedException e) {
+                    inFlight.release();
+                    throw e;
+                }
+
+                int length;
+                try {
+                    length = readFully(in, buffer);
+                } catch (IOException | RuntimeException e) {
+                    releaseBuffer(buffer);
+                    inFlight.release();
+                    throw e;
+                }
+                if (length == 0) {
+                    releaseBuffer(buffer);
+                    inFlight.release();
+                    break;
+                }
+
+                int number = partNumber++;
+                try {
+                    parts.add(partUploadExecutor.submit(() -> {
+                        try {
+                            // Parts still queued when the upload is aborted skip the request but release their buffer
+                            if (aborted.get()) {
+                                throw new CancellationException("Multipart upload aborted");
+                            }
+                            UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                            .bucket(bucketName)
+                                            .key(key)
+                                            .uploadId(uploadId)
+                                            .partNumber(number)
+                                            .contentLength((long) length)
+                                            .build(),
+                                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+                            return CompletedPart.builder().partNumber(number).eTag(response.eTag()).build();
+                        } finally {
+                            releaseBuffer(buffer);
+                            inFlight.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    releaseBuffer(buffer);
+                    inFlight.release();
+                    throw e;
+                }
+
+                if (length < buffer.length) {
+                    break;
+                }
+            }
+
+            List<CompletedPart> completed = new ArrayList<>(parts.size());
+            for (Future<CompletedPart> part : parts) {
+                completed.add(part.get());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                    .build());
+
+        } catch (InterruptedException e) {
+            abortMultipart(key, uploadId, parts, aborted);
+            Thread.currentThread().interrupt();
+            throw new IOException("Multipart upload interrupted", e);
+        } catch (ExecutionException e) {
+            abortMultipart(key, uploadId, parts, aborted);
+            throw new IOException("Multipart upload failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException | RuntimeException e) {
+            abortMultipart(key, uploadId, parts, aborted);
+            throw e;
+        }
+    }
+
+    /**
+     * Abort a multipart upload. Parts are not cancelled: a cancelled task that never started would
+     * never return its buffer to the shared pool. Queued parts see the flag and finish at once;
+     * parts already sending are waited for, so every buffer is back before the upload is aborted.
+     */
+    private void abortMultipart(String key, String uploadId, List<Future<CompletedPart>> parts, AtomicBoolean aborted) {
+        aborted.set(true);
+        boolean interrupted = Thread.interrupted();
+        for (Future<CompletedPart> part : parts) {
+            while (true) {
+                try {
+                    part.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            System.err.println("⚠️ Failed to abort multipart upload " + uploadId + ": " + e.getMessage());
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Take a part buffer, allocating lazily up to part-buffers and blocking once all are in use
+     */
+    private byte[] borrowBuffer() throws InterruptedException {
+        byte[] buffer = partBufferPool.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        if (allocatedBuffers.incrementAndGet() <= partBuffers) {
+            return new byte[partSize];
+        }
+        allocatedBuffers.decrementAndGet();
+        return partBufferPool.take();
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        partBufferPool.offer(buffer);
+    }
+
+    private static int readFully(InputStream in, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = in.read(buffer, total, buffer.length - total);
+            if (read == -1) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * Presign a PUT so the browser uploads directly to S3.
+     * Content type and length are part of the signature, so S3 rejects any other file.
+     *
+     * @param key The S3 key the object will be stored under
+     * @param contentType MIME type the client will send
+     * @param contentLength Exact size in bytes the client will send
+     * @return Upload URL plus the headers the client must send with it
+     */
+    @Override
+    public UploadUrlResponse presignUpload(String key, String contentType, long contentLength) {
+        if (!s3Enabled) {
+            throw new RuntimeException("S3 storage is not enabled");
+        }
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(uploadUrlTtlSeconds))
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(contentLength)
+                        .build())
+                .build();
+
+        PresignedPutObjectRequest presigned = presigner.presignPutObject(presignRequest);
+
+        // Browsers set Host and Content-Length themselves and refuse to send them explicitly
+        Map<String, String> headers = new HashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!name.equalsIgnoreCase("host") && !name.equalsIgnoreCase("content-length")) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new UploadUrlResponse(presigned.url().toString(), key, "PUT", headers, uploadUrlTtlSeconds);
+    }
+
+    /**
+     * Get a short-lived presigned GET URL for a stored file.
+     * URLs are cached and reused until a quarter of their lifetime remains.
+     *
+     * @param fileUrl The stored (public) URL of the file
+     * @return A presigned URL, or the stored URL if it is not an S3 object of this bucket
+     */
+    @Override
+    public String getDownloadUrl(String fileUrl) {
+        if (!s3Enabled) {
+            return fileUrl;
+        }
+
+        String key = keyOf(fileUrl);
+        if (key == null || key.isEmpty()) {
+            return fileUrl;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedUrl cached = downloadUrlCache.get(key);
+        if (cached != null && now < cached.refreshAt) {
+            return cached.url;
+        }
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(downloadUrlTtlSeconds))
+                .getObjectRequest(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build())
+                .build();
+        String url = presigner.presignGetObject(presignRequest).url().toString();
+
+        if (downloadUrlCache.size() >= downloadUrlCacheSize) {
+            downloadUrlCache.values().removeIf(entry -> entry.refreshAt <= now);
+            if (downloadUrlCache.size() >= downloadUrlCacheSize) {
+                downloadUrlCache.clear();
+            }
+        }
+        downloadUrlCache.put(key, new CachedUrl(url, now + downloadUrlTtlSeconds * 750));
+        return url;
+    }
+
+    /**
+     * Get metadata of an object
+     *
+     * @param key The S3 key
+     * @return The object metadata, or null if the object does not exist
+     */
+    @Override
+    public StoredObject stat(String key) {
+        if (!s3Enabled) {
+            throw new RuntimeException("S3 storage is not enabled");
+        }
+
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            return new StoredObject(head.contentLength(), head.contentType());
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Download an object to a local file (overwriting it)
+     *
+     * @param key The S3 key
+     * @param target The local file to write
+     */
+    @Override
+    public void downloadToFile(String key, Path target) {
+        if (!s3Enabled) {
+            throw new RuntimeException("S3 storage is not enabled");
+        }
+
+        try (InputStream in = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build())) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to download file from S3: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Delete file from S3
+     *
+     * @param fileUrl The public URL of the file to delete
+     */
+    @Override
+    public void deleteFile(String fileUrl) {
+        if (!s3Enabled) {
+            return;
+        }
+
+        try {
+            // Extract key from URL
+            // URL format: https://bucket-name.s3.region.amazonaws.com/folder/filename
+            String key = keyOf(fileUrl);
+
+            if (key == null || key.isEmpty()) {
+                System.err.println("⚠️ Could not extract key from URL: " + fileUrl);
+                return;
+            }
+
+            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+
+            s3Client.deleteObject(deleteObjectRequest);
+            downloadUrlCache.remove(key);
+            System.out.println("✅ File deleted from S3: " + key);
+
+        } catch (Exception e) {
+            System.err.println("❌ Failed to delete file from S3: " + e.getMessage());
+            // Don't throw exception - deletion failure shouldn't stop the operation
+        }
+    }
+
+    /**
+     * Stream the bucket listing under a prefix page by page; only one page is held in memory.
+     * ListObjectsV2 returns keys in ascending order, at most 1000 per page.
+     *
+     * @param prefix Key prefix, e.g. "resumes/"
+     * @param pageSize Keys per page (capped at 1000 by S3)
+     * @param pageConsumer Called once per non-empty page
+     */
+    @Override
+    public void listObjects(String prefix, int pageSize, Consumer<List<StoredObjectSummary>> pageConsumer) {
+        if (!s3Enabled) {
+            throw new RuntimeException("S3 storage is not enabled");
+        }
+
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .maxKeys(Math.min(pageSize, 1000))
+                .build();
+
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(request)) {
+            List<StoredObjectSummary> objects = new ArrayList<>(page.contents().size());
+            for (S3Object object : page.contents()) {
+                objects.add(new StoredObjectSummary(object.key(), object.size(), object.lastModified()));
+            }
+            if (!objects.isEmpty()) {
+                pageConsumer.accept(objects);
+            }
+        }
+    }
+
+    /**
+     * Check if a file exists in S3
+     *
+     * @param fileUrl The public URL of the file
+     * @return true if file exists, false otherwise
+     */
+    @Override
+    public boolean fileExists(String fileUrl) {
+        if (!s3Enabled) {
+            return false;
+        }
+
+        try {
+            String key = keyOf(fileUrl);
+            if (key == null || key.isEmpty()) {
+                return false;
+            }
+
+            HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+
+            s3Client.headObject(headObjectRequest);
+            return true;
+
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (Exception e) {
+            System.err.println("❌ Error checking file existence: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Extract S3 key from public URL (null if the URL is not an object of this bucket)
+     * URL format: https://bucket-name.s3.region.amazonaws.com/folder/filename.ext
+     * (or {endpoint}/{bucket}/folder/filename.ext when an endpoint override is configured)
+     *
+     * @param url The public S3 URL
+     * @return The S3 key (folder/filename.ext)
+     */
+    @Override
+    public String keyOf(String url) {
+        if (url == null || url.isEmpty()) {
+            return null;
+        }
+
+        if (url.startsWith(urlPrefix)) {
+            return url.substring(urlPrefix.length());
+        }
+
+        try {
+            // Format: https://bucket-name.s3.region.amazonaws.com/KEY
+            String[] parts = url.split(".amazonaws.com/");
+            if (parts.length > 1) {
+                return parts[1];
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Error extracting key from URL: " + e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the public URL for a file
+     *
+     * @param key The S3 key (folder/filename)
+     * @return The public URL
+     */
+    @Override
+    public String getPublicUrl(String key) {
+        return urlPrefix + key;
+    }
+
+    private String buildUrlPrefix() {
+        if (endpoint != null && !endpoint.isBlank()) {
+            String base = endpoint.endsWith("/") ? endpoint.substring(0, endpoint.length() - 1) : endpoint;
+            return base + "/" + bucketName + "/";
+        }
+        return String.format("https://%s.s3.%s.amazonaws.com/", bucketName, region);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return s3Enabled;
+    }
+
+    /**
+     * Caps the number of concurrent async S3 calls without blocking callers.
+     * Operations over the limit wait in a queue and start as earlier ones complete.
+     */
+    private static class InFlightLimiter {
+        private final int maxInFlight;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+
+        InFlightLimiter(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> operation) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            waiting.add(() -> start(operation, result));
+            drain();
+            return result;
+        }
+
+        private <T> void start(Supplier<CompletableFuture<T>> operation, CompletableFuture<T> result) {
+            CompletableFuture<T> call;
+            try {
+                call = operation.get();
+            } catch (Throwable t) {
+                call = CompletableFuture.failedFuture(t);
+            }
+            call.whenComplete((value, error) -> {
+                inFlight.decrementAndGet();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+                drain();
+            });
+        }
+
+        private void drain() {
+            while (!waiting.isEmpty()) {
+                int current = inFlight.get();
+                if (current >= maxInFlight) {
+                    return;
+                }
+                if (!inFlight.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                Runnable next = waiting.poll();
+                if (next == null) {
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                next.run();
+            }
+        }
+    }
+
+    private static class CachedUrl {
+        private final String url;
+        private final long refreshAt;
+
+        CachedUrl(String url, long refreshAt) {
+            this.url = url;
+            this.refreshAt = refreshAt;
+        }
+    }
+}
\ No newline at end of file
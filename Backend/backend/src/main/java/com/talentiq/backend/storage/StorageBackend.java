@@ -0,0 +1,115 @@
+package com.talentiq.backend.storage;
+
+import com.talentiq.backend.dto.UploadUrlResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Where uploaded files (resumes, profile pictures) live.
+ * Files are identified by the location string stored in the database (a URL);
+ * keys are the backend-relative names such as "resumes/u42/uuid.pdf".
+ * Selected with storage.backend: "s3" (default) or "local".
+ */
+public interface StorageBackend {
+
+    /**
+     * Store an uploaded file under a folder and return its location
+     */
+    String uploadFile(MultipartFile file, String folder);
+
+    /**
+     * Store a local file under a folder and return its location
+     */
+    String uploadFile(Path file, String originalFilename, String contentType, String folder);
+
+    /**
+     * Store a local file under an exact key (overwriting it) and return its location
+     */
+    String putFile(String key, Path file, String contentType);
+
+    /**
+     * Store a local file without blocking the caller.
+     * The file must not be deleted until the returned future completes.
+     */
+    CompletableFuture<String> uploadFileAsync(Path file, String originalFilename, String contentType, String folder);
+
+    /**
+     * Delete a file; failures are logged, never thrown
+     */
+    void deleteFile(String fileUrl);
+
+    /**
+     * Delete a file without blocking the caller; the future completes with false on failure
+     */
+    CompletableFuture<Boolean> deleteFileAsync(String fileUrl);
+
+    /**
+     * Delete many files in as few requests as the backend allows
+     */
+    BatchDeleteResult deleteFiles(Collection<String> fileUrls);
+
+    /**
+     * Delete many files without blocking the caller; failures are reported per key
+     */
+    CompletableFuture<BatchDeleteResult> deleteFilesAsync(Collection<String> fileUrls);
+
+    boolean fileExists(String fileUrl);
+
+    CompletableFuture<Boolean> fileExistsAsync(String fileUrl);
+
+    /**
+     * Size and content type of a stored object, or null if it does not exist
+     */
+    StoredObject stat(String key);
+
+    /**
+     * Stream every object under a key prefix, handing over one page (at most pageSize entries) at a time
+     */
+    void listObjects(String prefix, int pageSize, Consumer<List<StoredObjectSummary>> pageConsumer);
+
+    /**
+     * Copy a stored object to a local file (overwriting it)
+     */
+    void downloadToFile(String key, Path target);
+
+    /**
+     * Signed URL the browser can upload to directly, bound to the content type and length
+     */
+    UploadUrlResponse presignUpload(String key, String contentType, long contentLength);
+
+    /**
+     * Short-lived URL for reading a private file
+     */
+    String getDownloadUrl(String fileUrl);
+
+    /**
+     * Build a new unique key under a folder, keeping the original extension
+     */
+    default String newKey(String folder, String originalFilename) {
+        String fileExtension = originalFilename != null && originalFilename.contains(".")
+                ? originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase()
+                : "";
+        if (!fileExtension.matches("\\.[a-z0-9]{1,10}")) {
+            fileExtension = "";
+        }
+        return folder + "/" + UUID.randomUUID() + fileExtension;
+    }
+
+    /**
+     * Location stored in the database for a key
+     */
+    String getPublicUrl(String key);
+
+    /**
+     * Key for a stored location, or null if the location does not belong to this backend
+     */
+    String keyOf(String fileUrl);
+
+    boolean isEnabled();
+}
@@ -0,0 +1,23 @@
+package com.talentiq.backend.storage;
+
+/**
+ * Metadata of a stored object
+ */
+public class StoredObject {
+
+    private final long size;
+    private final String contentType;
+
+    public StoredObject(long size, String contentType) {
+        this.size = size;
+        this.contentType = contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
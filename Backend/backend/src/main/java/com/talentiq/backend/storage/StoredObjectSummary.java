@@ -0,0 +1,31 @@
+package com.talentiq.backend.storage;
+
+import java.time.Instant;
+
+/**
+ * One entry of a storage listing
+ */
+public class StoredObjectSummary {
+
+    private final String key;
+    private final long size;
+    private final Instant lastModified;
+
+    public StoredObjectSummary(String key, long size, Instant lastModified) {
+        this.key = key;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+}
@@ -1,8 +1,11 @@
 package com.talentiq.backend;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+// Needs the PostgreSQL database and the .env settings
+@Tag("integration")
 @SpringBootTest
 class BackendApplicationTests {
 
@@ -0,0 +1,116 @@
+package com.talentiq.backend.otp;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Runs JdbcOtpStore against a PostgreSQL container (needs Docker; run with -Pintegration-tests).
+ * Wrong guesses are made inside an outer transaction that rolls back, the way AuthService.verifyOtp does.
+ */
+@Tag("integration")
+@Testcontainers
+class JdbcOtpStoreIntegrationTest {
+
+    private static final String KEY = "user@example.com";
+    private static final String HASH = "a".repeat(64);
+    private static final String WRONG_HASH = "b".repeat(64);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    private static TransactionTemplate callerTransaction;
+
+    private JdbcOtpStore store;
+
+    @BeforeAll
+    static void createTable() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        callerTransaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("CREATE TABLE otp_codes (otp_key VARCHAR(255) PRIMARY KEY, "
+                + "code_hash VARCHAR(64) NOT NULL, expires_at TIMESTAMP NOT NULL, attempts INT NOT NULL)");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM otp_codes");
+
+        store = new JdbcOtpStore();
+        ReflectionTestUtils.setField(store, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(store, "transactionManager", callerTransaction.getTransactionManager());
+        ReflectionTestUtils.setField(store, "maxEntries", 100);
+        store.initialize();
+
+        store.put(KEY, HASH, LocalDateTime.now().plusMinutes(10));
+    }
+
+    @Test
+    void wrongGuessesAreCountedEvenWhenTheCallerRollsBack() {
+        for (int i = 1; i < MAX_ATTEMPTS; i++) {
+            assertEquals(OtpStore.Result.MISMATCH, verifyThenRollBack(WRONG_HASH));
+            assertEquals(i, attempts());
+        }
+    }
+
+    @Test
+    void lastWrongGuessBurnsTheCode() {
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            assertEquals(OtpStore.Result.MISMATCH, verifyThenRollBack(WRONG_HASH));
+        }
+
+        assertEquals(0, rows());
+        assertEquals(OtpStore.Result.INVALID, store.verify(KEY, HASH, MAX_ATTEMPTS));
+    }
+
+    @Test
+    void correctCodeWithinTheLimitIsConsumedOnce() {
+        verifyThenRollBack(WRONG_HASH);
+
+        assertEquals(OtpStore.Result.MATCH, store.verify(KEY, HASH, MAX_ATTEMPTS));
+        assertEquals(OtpStore.Result.INVALID, store.verify(KEY, HASH, MAX_ATTEMPTS));
+    }
+
+    @Test
+    void expiredCodeIsInvalid() {
+        store.put(KEY, HASH, LocalDateTime.now().minusSeconds(1));
+
+        assertEquals(OtpStore.Result.INVALID, store.verify(KEY, HASH, MAX_ATTEMPTS));
+        assertEquals(0, rows());
+    }
+
+    private OtpStore.Result verifyThenRollBack(String codeHash) {
+        OtpStore.Result[] result = new OtpStore.Result[1];
+        assertThrows(IllegalStateException.class, () -> callerTransaction.executeWithoutResult(status -> {
+            result[0] = store.verify(KEY, codeHash, MAX_ATTEMPTS);
+            throw new IllegalStateException("Invalid or expired OTP");
+        }));
+        return result[0];
+    }
+
+    private int attempts() {
+        return jdbcTemplate.queryForObject("SELECT attempts FROM otp_codes WHERE otp_key = ?", Integer.class, KEY);
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM otp_codes", Integer.class);
+    }
+}
@@ -0,0 +1,100 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.exception.GlobalExceptionHandler;
+import com.talentiq.backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BCrypt on a bounded pool: a saturated pool answers 429 instead of queueing the request thread
+ */
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1));
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void hashesOnThePool() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, executor, 5_000, 2);
+
+        String hash = encoder.encode("secret123");
+
+        assertTrue(encoder.matches("secret123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(3L, encoder.getStats().getCompleted());
+    }
+
+    @Test
+    void fullQueueIsRejectedImmediately() throws Exception {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, executor, 5_000, 2);
+        occupyWorker();
+        executor.execute(this::awaitRelease); // fills the only queue slot
+
+        long start = System.nanoTime();
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class, () -> encoder.matches("secret123", "$2a$04$x"));
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        assertEquals(2L, e.getRetryAfterSeconds());
+        assertEquals(1L, encoder.getStats().getRejected());
+    }
+
+    @Test
+    void waitLongerThanTheLimitIsRejected() throws Exception {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, executor, 50, 2);
+        occupyWorker();
+
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode("secret123"));
+
+        assertEquals(1L, encoder.getStats().getTimedOut());
+        // The abandoned hash is cancelled rather than left in the queue
+        assertEquals(0, executor.getQueue().size());
+    }
+
+    @Test
+    void saturationIsAnswered429WithRetryAfter() {
+        ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler()
+                .handleTooManyRequestsException(new TooManyRequestsException("Server is busy, please try again shortly", 2));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private void occupyWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.Role;
+import com.talentiq.backend.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification on the filter path, before and after the single-parse verifier.
+ * Not a test; run it from the IDE or with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.talentiq.backend.security.JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private JwtTokenProvider uncached;
+
+    private JwtTokenProvider cached;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncached = provider(0);
+        cached = provider(10000);
+
+        User user = new User();
+        user.setId(42L);
+        user.setEmail("jane@example.com");
+        user.setRole(Role.JOB_SEEKER);
+        token = cached.generateToken(user);
+    }
+
+    /**
+     * The old filter: validateToken, then getUsernameFromToken, each rebuilding the key and parser
+     */
+    @Benchmark
+    public String before() {
+        Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token);
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+    }
+
+    /**
+     * One verify-and-parse with the prebuilt parser (first request with a token)
+     */
+    @Benchmark
+    public VerifiedToken afterUncached() {
+        return uncached.verify(token);
+    }
+
+    /**
+     * Repeat requests with the same token, answered from VerifiedTokenCache
+     */
+    @Benchmark
+    public VerifiedToken afterCached() {
+        return cached.verify(token);
+    }
+
+    private static JwtTokenProvider provider(int cacheSize) {
+        VerifiedTokenCache cache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(cache, "maxSize", cacheSize);
+
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "verifiedTokenCache", cache);
+        provider.init();
+        return provider;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtVerificationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,121 @@
+package com.talentiq.backend.security;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The filter matches on the path the dispatcher routes (servlet path), not the raw request URI.
+ * The container decodes and normalizes the servlet path; the tests set both as Tomcat would.
+ */
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("rate-limit.login-ip.capacity", "2");
+        environment.setProperty("rate-limit.verify-otp-ip.capacity", "2");
+
+        RateLimiter rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "environment", environment);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "bucketsPerStripe", 64);
+        rateLimiter.init();
+
+        filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "rateLimiter", rateLimiter);
+        ReflectionTestUtils.setField(filter, "trustForwardedFor", false);
+    }
+
+    @Test
+    void loginIsLimitedPerAddress() throws Exception {
+        assertEquals(200, post("/api/auth/login", "/api/auth/login").getStatus());
+        assertEquals(200, post("/api/auth/login", "/api/auth/login").getStatus());
+
+        MockHttpServletResponse rejected = post("/api/auth/login", "/api/auth/login");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader("Retry-After"));
+    }
+
+    @Test
+    void encodedPathSharesTheLoginLimit() throws Exception {
+        post("/api/auth/login", "/api/auth/login");
+        post("/api/auth/%6Cogin", "/api/auth/login");
+
+        assertEquals(429, post("/api/auth/%6cogin", "/api/auth/login").getStatus());
+    }
+
+    @Test
+    void pathParametersAndTrailingSlashShareTheLoginLimit() throws Exception {
+        post("/api/auth/login;jsessionid=abc", "/api/auth/login");
+        post("/api/auth/login/", "/api/auth/login/");
+
+        assertEquals(429, post("/api/auth/login", "/api/auth/login").getStatus());
+    }
+
+    @Test
+    void verifyOtpIsLimited() throws Exception {
+        post("/api/auth/verify-otp", "/api/auth/verify-otp");
+        post("/api/auth/verify-otp", "/api/auth/verify-otp");
+
+        assertEquals(429, post("/api/auth/verify-otp", "/api/auth/verify-otp").getStatus());
+    }
+
+    @Test
+    void otherAddressesHaveTheirOwnBucket() throws Exception {
+        post("/api/auth/login", "/api/auth/login");
+        post("/api/auth/login", "/api/auth/login");
+
+        MockHttpServletRequest request = request("POST", "/api/auth/login", "/api/auth/login");
+        request.setRemoteAddr("10.0.0.2");
+        assertEquals(200, run(request).getStatus());
+    }
+
+    @Test
+    void unlistedPathsAndMethodsPass() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, run(request("GET", "/api/auth/login", "/api/auth/login")).getStatus());
+            assertEquals(200, post("/api/jobs", "/api/jobs").getStatus());
+        }
+    }
+
+    @Test
+    void rejectedRequestDoesNotReachTheChain() throws Exception {
+        post("/api/auth/login", "/api/auth/login");
+        post("/api/auth/login", "/api/auth/login");
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("POST", "/api/auth/login", "/api/auth/login"), new MockHttpServletResponse(), chain);
+        assertNull(chain.getRequest());
+    }
+
+    private MockHttpServletResponse post(String uri, String servletPath) throws ServletException, IOException {
+        return run(request("POST", uri, servletPath));
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest request) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String servletPath) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setServletPath(servletPath);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
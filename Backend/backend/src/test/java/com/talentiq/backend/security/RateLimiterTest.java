@@ -0,0 +1,119 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.exception.TooManyRequestsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimiterTest {
+
+    private static RateLimiter rateLimiter(int bucketsPerStripe, String... properties) {
+        MockEnvironment environment = new MockEnvironment();
+        for (int i = 0; i < properties.length; i += 2) {
+            environment.setProperty(properties[i], properties[i + 1]);
+        }
+
+        RateLimiter rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "environment", environment);
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "bucketsPerStripe", bucketsPerStripe);
+        rateLimiter.init();
+        return rateLimiter;
+    }
+
+    @Test
+    void fullBucketAllowsCapacityThenRejects() {
+        RateLimiter limiter = rateLimiter(64,
+                "rate-limit.login-ip.capacity", "3", "rate-limit.login-ip.period-seconds", "300");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1"));
+        }
+
+        long retryAfter = limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1");
+        // One token comes back every 100 seconds
+        assertTrue(retryAfter > 90 && retryAfter <= 100, "retry after " + retryAfter);
+    }
+
+    @Test
+    void bucketRefillsOverTime() throws InterruptedException {
+        // 20 tokens per second: one every 50 ms
+        RateLimiter limiter = rateLimiter(64,
+                "rate-limit.login-ip.capacity", "20", "rate-limit.login-ip.period-seconds", "1");
+
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1");
+        }
+        assertTrue(limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1") > 0);
+
+        Thread.sleep(120);
+
+        assertEquals(0, limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1"));
+    }
+
+    @Test
+    void keysAndPoliciesHaveSeparateBuckets() {
+        RateLimiter limiter = rateLimiter(64,
+                "rate-limit.login-ip.capacity", "1", "rate-limit.register-ip.capacity", "1");
+
+        assertEquals(0, limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1"));
+        assertTrue(limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1") > 0);
+
+        assertEquals(0, limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.2"));
+        assertEquals(0, limiter.acquire(RateLimitPolicy.REGISTER_IP, "10.0.0.1"));
+    }
+
+    @Test
+    void numericKeysAreLimitedToo() {
+        RateLimiter limiter = rateLimiter(64, "rate-limit.resume-upload-account.capacity", "2");
+
+        limiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, 42L);
+        limiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, 42L);
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> limiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, 42L));
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+
+        limiter.check(RateLimitPolicy.RESUME_UPLOAD_ACCOUNT, 43L);
+    }
+
+    @Test
+    void checkThrowsWithRetryAfter() {
+        RateLimiter limiter = rateLimiter(64, "rate-limit.login-account.capacity", "1");
+
+        limiter.check(RateLimitPolicy.LOGIN_ACCOUNT, "user@example.com");
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> limiter.check(RateLimitPolicy.LOGIN_ACCOUNT, "user@example.com"));
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+    }
+
+    @Test
+    void disabledLimiterAllowsEverything() {
+        RateLimiter limiter = rateLimiter(64, "rate-limit.login-ip.capacity", "1");
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.0.0.1"));
+        }
+    }
+
+    @Test
+    void fullTableReusesIdleBucketsInsteadOfFailing() {
+        // 64 stripes x 2 buckets, far fewer than the keys used
+        RateLimiter limiter = rateLimiter(1, "rate-limit.login-ip.capacity", "1");
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.1." + (i / 256) + "." + (i % 256));
+        }
+
+        // The most recent key still has its own (empty) bucket
+        assertTrue(limiter.acquire(RateLimitPolicy.LOGIN_IP, "10.1.39.15") > 0);
+        // A new key starts full
+        assertEquals(0, limiter.acquire(RateLimitPolicy.LOGIN_IP, "192.168.0.1"));
+    }
+}
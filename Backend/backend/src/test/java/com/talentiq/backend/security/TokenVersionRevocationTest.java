@@ -0,0 +1,179 @@
+package com.talentiq.backend.security;
+
+import com.talentiq.backend.model.Role;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.repository.UserRepository;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Access tokens carry the user's token version; the filter rejects them once the version moves on.
+ * Tokens are pre-verified into the VerifiedTokenCache, so no signing is involved.
+ */
+class TokenVersionRevocationTest {
+
+    private static final long USER_ID = 42L;
+
+    // token_version column of the users table
+    private final Map<Long, Integer> tokenVersions = new HashMap<>();
+
+    private final AtomicInteger versionQueries = new AtomicInteger();
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    private TokenVersionStore tokenVersionStore;
+
+    private JwtAuthenticationFilter filter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersions.put(USER_ID, 0);
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findTokenVersionById")) {
+                        versionQueries.incrementAndGet();
+                        return Optional.ofNullable(tokenVersions.get((Long) args[0]));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        tokenVersionStore = new TokenVersionStore();
+        ReflectionTestUtils.setField(tokenVersionStore, "userRepository", userRepository);
+        ReflectionTestUtils.setField(tokenVersionStore, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(tokenVersionStore, "maxSize", 100);
+
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxSize", 100);
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "verifiedTokenCache", verifiedTokenCache);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenProvider", tokenProvider);
+        ReflectionTestUtils.setField(filter, "tokenVersionStore", tokenVersionStore);
+
+        user = new User();
+        user.setId(USER_ID);
+        user.setEmail("user@example.com");
+        user.setRole(Role.JOB_SEEKER);
+        user.setTokenVersion(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void tokenWithTheCurrentVersionIsAccepted() throws Exception {
+        assertNotNull(authenticate(token("a", 0)));
+    }
+
+    @Test
+    void revokedVersionIsRejectedAndNewTokensAreAccepted() throws Exception {
+        String old = token("a", 0);
+        assertNotNull(authenticate(old));
+
+        revoke();
+
+        assertNull(authenticate(old));
+        assertNotNull(authenticate(token("b", 1)));
+    }
+
+    @Test
+    void versionIsCachedBetweenRequests() throws Exception {
+        String token = token("a", 0);
+        for (int i = 0; i < 5; i++) {
+            authenticate(token);
+        }
+
+        assertEquals(1, versionQueries.get());
+    }
+
+    @Test
+    void revocationInATransactionAppliesOnCommit() throws Exception {
+        String old = token("a", 0);
+        authenticate(old);
+
+        TransactionSynchronizationManager.initSynchronization();
+        tokenVersionStore.revoke(user);
+        tokenVersions.put(USER_ID, user.getTokenVersion());
+
+        // Not committed yet: this instance still sees the old version
+        assertNotNull(authenticate(old));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertNull(authenticate(old));
+    }
+
+    @Test
+    void revocationOnAnotherInstanceIsSeenAfterTheTtl() throws Exception {
+        ReflectionTestUtils.setField(tokenVersionStore, "ttlSeconds", 1L);
+        String old = token("a", 0);
+        assertNotNull(authenticate(old));
+
+        tokenVersions.put(USER_ID, 1); // Bumped by another instance
+
+        Thread.sleep(2100);
+        assertNull(authenticate(old));
+    }
+
+    @Test
+    void deletedUsersTokensAreRejected() throws Exception {
+        String token = token("a", 0);
+        assertNotNull(authenticate(token));
+
+        tokenVersions.remove(USER_ID);
+        tokenVersionStore.forget(USER_ID);
+
+        assertNull(authenticate(token));
+    }
+
+    private void revoke() {
+        tokenVersionStore.revoke(user);
+        tokenVersions.put(USER_ID, user.getTokenVersion());
+    }
+
+    private String token(String raw, int version) {
+        verifiedTokenCache.put(raw, new VerifiedToken(user.getEmail(), null, USER_ID, Role.JOB_SEEKER, version,
+                Instant.now(), Instant.now().plusSeconds(900)));
+        return raw;
+    }
+
+    private Authentication authenticate(String token) throws ServletException, IOException {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user/profile");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
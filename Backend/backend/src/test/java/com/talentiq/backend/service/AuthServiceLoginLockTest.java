@@ -0,0 +1,197 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.dto.LoginRequest;
+import com.talentiq.backend.model.AuthProvider;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.repository.UserRepository;
+import com.talentiq.backend.security.TokenVersionStore;
+import com.talentiq.backend.security.UserPrincipalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Failed logins go through the single-statement counter and lock queries, so concurrent wrong
+ * passwords are all counted and exactly one of them locks the account (and bumps the token version).
+ * The fake repository applies each UPDATE atomically, as the database does, and refuses save().
+ */
+class AuthServiceLoginLockTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final int MAX_FAILED_ATTEMPTS = 5;
+    private static final String LOCKED_NOW = "Account locked due to too many failed attempts";
+
+    // The row in the users table
+    private final User row = new User();
+
+    private final AtomicInteger locks = new AtomicInteger();
+
+    private AuthService authService;
+
+    private CyclicBarrier passwordCheck;
+
+    @BeforeEach
+    void setUp() {
+        row.setId(1L);
+        row.setEmail(EMAIL);
+        row.setEmailVerified(true);
+        row.setAuthProvider(AuthProvider.LOCAL);
+        row.setAccountLocked(false);
+        row.setFailedLoginAttempts(0);
+        row.setTokenVersion(0);
+
+        UserRepository userRepository = userRepository();
+        TokenVersionStore tokenVersionStore = new TokenVersionStore();
+        ReflectionTestUtils.setField(tokenVersionStore, "userRepository", userRepository);
+        ReflectionTestUtils.setField(tokenVersionStore, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(tokenVersionStore, "maxSize", 100);
+        UserPrincipalCache userPrincipalCache = new UserPrincipalCache();
+        ReflectionTestUtils.setField(userPrincipalCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(userPrincipalCache, "maxSize", 100);
+
+        AuthenticationManager wrongPassword = authentication -> {
+            if (passwordCheck != null) {
+                try {
+                    passwordCheck.await(5, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            throw new BadCredentialsException("Bad credentials");
+        };
+
+        authService = new AuthService();
+        ReflectionTestUtils.setField(authService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(authService, "authenticationManager", wrongPassword);
+        ReflectionTestUtils.setField(authService, "tokenVersionStore", tokenVersionStore);
+        ReflectionTestUtils.setField(authService, "userPrincipalCache", userPrincipalCache);
+    }
+
+    @Test
+    void fifthWrongPasswordLocksTheAccount() {
+        for (int i = 1; i < MAX_FAILED_ATTEMPTS; i++) {
+            assertThrows(BadCredentialsException.class, this::login);
+        }
+
+        LockedException e = assertThrows(LockedException.class, this::login);
+
+        assertEquals(LOCKED_NOW, e.getMessage());
+        assertTrue(row.getAccountLocked());
+        assertEquals(1, row.getTokenVersion());
+    }
+
+    @Test
+    void lockedAccountIsNotCountedOrLockedAgain() {
+        for (int i = 0; i < MAX_FAILED_ATTEMPTS; i++) {
+            assertThrows(RuntimeException.class, this::login);
+        }
+
+        LockedException e = assertThrows(LockedException.class, this::login);
+
+        assertNotEquals(LOCKED_NOW, e.getMessage());
+        assertEquals(MAX_FAILED_ATTEMPTS, row.getFailedLoginAttempts());
+        assertEquals(1, locks.get());
+        assertEquals(1, row.getTokenVersion());
+    }
+
+    @Test
+    void concurrentWrongPasswordsAreAllCountedAndLockOnce() throws Exception {
+        int callers = 3 * MAX_FAILED_ATTEMPTS;
+        // Every caller has loaded the unlocked user before any of them is counted
+        passwordCheck = new CyclicBarrier(callers);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        List<Future<String>> outcomes = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                outcomes.add(pool.submit(() -> {
+                    try {
+                        login();
+                        return "ok";
+                    } catch (RuntimeException e) {
+                        return e.getMessage();
+                    }
+                }));
+            }
+
+            int lockedHere = 0;
+            for (Future<String> outcome : outcomes) {
+                if (LOCKED_NOW.equals(outcome.get(10, TimeUnit.SECONDS))) {
+                    lockedHere++;
+                }
+            }
+
+            assertEquals(callers, row.getFailedLoginAttempts());
+            assertEquals(1, lockedHere);
+            assertEquals(1, locks.get());
+            assertEquals(1, row.getTokenVersion());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void login() {
+        authService.login(new LoginRequest(EMAIL, "wrong-password"));
+    }
+
+    private UserRepository userRepository() {
+        return (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    synchronized (row) {
+                        switch (method.getName()) {
+                            case "findByEmail":
+                                return EMAIL.equals(args[0]) ? Optional.of(load()) : Optional.empty();
+                            case "findTokenVersionById":
+                                return Optional.of(row.getTokenVersion());
+                            case "incrementFailedLoginAttempts":
+                                row.setFailedLoginAttempts(row.getFailedLoginAttempts() + 1);
+                                return 1;
+                            case "resetFailedLoginAttempts":
+                                row.setFailedLoginAttempts(0);
+                                return 1;
+                            case "lockIfTooManyFailedAttempts":
+                                if (row.getAccountLocked() || row.getFailedLoginAttempts() < (int) args[1]) {
+                                    return 0;
+                                }
+                                row.setAccountLocked(true);
+                                row.setTokenVersion(row.getTokenVersion() + 1);
+                                locks.incrementAndGet();
+                                return 1;
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    }
+                });
+    }
+
+    // Each request gets its own copy of the row, like a JPA entity loaded in its own transaction
+    private User load() {
+        User user = new User();
+        user.setId(row.getId());
+        user.setEmail(row.getEmail());
+        user.setEmailVerified(row.getEmailVerified());
+        user.setAuthProvider(row.getAuthProvider());
+        user.setAccountLocked(row.getAccountLocked());
+        user.setFailedLoginAttempts(row.getFailedLoginAttempts());
+        user.setTokenVersion(row.getTokenVersion());
+        return user;
+    }
+}
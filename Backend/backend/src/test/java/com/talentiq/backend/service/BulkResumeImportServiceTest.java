@@ -0,0 +1,281 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.dto.BulkResumeUploadResponse;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.storage.StorageBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the bulk import against a fake parser, storage and JDBC layer
+ */
+class BulkResumeImportServiceTest {
+
+    private final List<String> uploaded = new ArrayList<>();
+
+    private final List<String> deleted = new ArrayList<>();
+
+    private final AtomicInteger inserted = new AtomicInteger();
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    // Entries after the first fastParses take parseMillis each
+    private volatile int fastParses = Integer.MAX_VALUE;
+
+    private volatile long parseMillis;
+
+    private ThreadPoolExecutor executor;
+
+    private BulkResumeImportService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+
+        ResumeParserService parser = new ResumeParserService() {
+            @Override
+            public ParsedResume parse(String filePath) {
+                try {
+                    if (parsed.incrementAndGet() > fastParses) {
+                        Thread.sleep(parseMillis);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ParsedResume.empty();
+            }
+        };
+
+        service = new BulkResumeImportService();
+        ReflectionTestUtils.setField(service, "resumeParserService", parser);
+        ReflectionTestUtils.setField(service, "storageBackend", storage());
+        ReflectionTestUtils.setField(service, "jdbcTemplate", new FakeJdbcTemplate());
+        ReflectionTestUtils.setField(service, "transactionTemplate", new TransactionTemplate(new NoTransactionManager()));
+        ReflectionTestUtils.setField(service, "resumeParseExecutor", executor);
+        ReflectionTestUtils.setField(service, "maxFiles", 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void importsEveryEntryInArchiveOrder() throws IOException {
+        byte[] zip = zip("a.txt", "b.pdf", "notes.exe", "c.txt");
+
+        BulkResumeUploadResponse response = service.importZip(new ByteArrayInputStream(zip), user());
+
+        assertEquals(3, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(List.of("a.txt", "b.pdf", "notes.exe", "c.txt"),
+                response.getResults().stream().map(BulkResumeUploadResponse.FileResult::getFilename).toList());
+        assertEquals(3, inserted.get());
+        assertTrue(deleted.isEmpty());
+    }
+
+    @Test
+    void entryNameLongerThanTheFilesystemAllowsIsImported() throws IOException {
+        String longName = "x".repeat(300) + ".txt";
+
+        BulkResumeUploadResponse response = service.importZip(new ByteArrayInputStream(zip(longName, "short.txt")), user());
+
+        assertEquals(2, response.getImported());
+        assertEquals(0, response.getFailed());
+    }
+
+    @Test
+    void failureMidArchiveDeletesUploadsThatHaveNoRow() throws IOException {
+        // a and b are uploaded before the stream breaks; c and d are still being parsed
+        fastParses = 2;
+        parseMillis = 200;
+        byte[] zip = zip("a.txt", "b.txt", "c.txt", "d.txt");
+
+        assertThrows(UncheckedIOException.class,
+                () -> service.importZip(new BreakingInputStream(zip, centralDirectoryOffset(zip)), user()));
+
+        assertEquals(0, inserted.get());
+        assertEquals(2, uploaded.size());
+        assertEquals(new HashSet<>(uploaded), new HashSet<>(deleted));
+        assertEquals(0, executor.getActiveCount() + executor.getQueue().size());
+    }
+
+    private void awaitUploads(int count) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            synchronized (uploaded) {
+                if (uploaded.size() >= count) {
+                    return;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private StorageBackend storage() {
+        AtomicLong ids = new AtomicLong();
+        return (StorageBackend) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{StorageBackend.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "uploadFile": {
+                            String location = "resumes/" + ids.incrementAndGet() + "_" + ((Path) args[0]).getFileName();
+                            synchronized (uploaded) {
+                                uploaded.add(location);
+                            }
+                            return location;
+                        }
+                        case "deleteFiles":
+                            deleted.addAll((Collection<String>) args[0]);
+                            return null;
+                        case "deleteFile":
+                            deleted.add((String) args[0]);
+                            return null;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(7L);
+        return user;
+    }
+
+    /**
+     * Entries are a few KB of text each, larger than ZipInputStream reads ahead
+     */
+    private static byte[] zip(String... names) throws IOException {
+        Random random = new Random(42);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (String name : names) {
+                StringBuilder text = new StringBuilder("Resume " + name + "\n");
+                for (int i = 0; i < 4000; i++) {
+                    text.append((char) ('a' + random.nextInt(26)));
+                }
+                zip.putNextEntry(new ZipEntry("cvs/" + name));
+                zip.write(text.toString().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Where the entries end: the first central directory header (PK\1\2)
+     */
+    private static int centralDirectoryOffset(byte[] zip) {
+        for (int i = 0; i + 3 < zip.length; i++) {
+            if (zip[i] == 'P' && zip[i + 1] == 'K' && zip[i + 2] == 1 && zip[i + 3] == 2) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Not a ZIP archive");
+    }
+
+    /**
+     * Serves the archive up to an offset, then fails the way a dropped connection does
+     */
+    private class BreakingInputStream extends InputStream {
+        private final byte[] data;
+        private final int limit;
+        private int position;
+
+        BreakingInputStream(byte[] data, int limit) {
+            this.data = data;
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position >= limit) {
+                awaitUploads(2);
+                throw new UncheckedIOException(new IOException("Connection reset"));
+            }
+            int count = Math.min(length, limit - position);
+            System.arraycopy(data, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+
+    private class FakeJdbcTemplate extends JdbcTemplate {
+        private long nextId = 1;
+
+        @Override
+        public int[] batchUpdate(PreparedStatementCreator psc, BatchPreparedStatementSetter pss, KeyHolder keyHolder) {
+            int[] counts = new int[pss.getBatchSize()];
+            for (int i = 0; i < counts.length; i++) {
+                keyHolder.getKeyList().add(Map.of("id", nextId++));
+                counts[i] = 1;
+            }
+            inserted.addAndGet(counts.length);
+            return counts;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            return new int[batchArgs.size()];
+        }
+    }
+
+    private static class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.email.EmailBatch;
+import com.talentiq.backend.email.EmailDeliveryException;
+import com.talentiq.backend.email.EmailRecipient;
+import com.talentiq.backend.email.EmailTransport;
+import com.talentiq.backend.model.EmailOutboxEntry;
+import com.talentiq.backend.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the email outbox against a fake transport and an in-memory outbox table
+ */
+class EmailOutboxServiceTest {
+
+    private final Map<Long, EmailOutboxEntry> table = new TreeMap<>();
+
+    private long nextId = 1;
+
+    private final List<EmailBatch> sent = new ArrayList<>();
+
+    // Decides per request whether the fake transport fails it (null = accepted)
+    private Function<EmailBatch, Exception> failure = batch -> null;
+
+    private EmailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        EmailTransport transport = batch -> {
+            sent.add(batch);
+            Exception error = failure.apply(batch);
+            if (error != null) {
+                throw error;
+            }
+        };
+
+        // Workers are not started; the tests run the dispatch loop themselves
+        ThreadPoolExecutor noWorkers = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+            }
+        };
+
+        service = new EmailOutboxService();
+        ReflectionTestUtils.setField(service, "emailOutboxRepository", inMemoryRepository());
+        ReflectionTestUtils.setField(service, "emailTransport", transport);
+        ReflectionTestUtils.setField(service, "emailOutboxExecutor", noWorkers);
+        ReflectionTestUtils.setField(service, "transactionTemplate", new TransactionTemplate(new NoTransactionManager()));
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        // No backoff, so a retry is due on the next pass
+        ReflectionTestUtils.setField(service, "baseBackoffSeconds", 0L);
+        ReflectionTestUtils.setField(service, "maxBackoffSeconds", 900L);
+        ReflectionTestUtils.setField(service, "urgentTemplates", Set.of("otp", "password-reset"));
+        ReflectionTestUtils.setField(service, "urgentMaxBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(service, "leaseSeconds", 0L);
+    }
+
+    @Test
+    void emailsOfTheSameTemplateGoOutAsOneBatch() {
+        enqueueOtp("a@example.com", "111111");
+        enqueueWelcome("b@example.com");
+        enqueueOtp("c@example.com", "222222");
+        enqueueOtp("d@example.com", "333333");
+        enqueueWelcome("e@example.com");
+
+        service.drain();
+
+        assertEquals(2, sent.size());
+        assertEquals(List.of("a@example.com", "c@example.com", "d@example.com"), recipients(sent.get(0)));
+        assertEquals("333333", sent.get(0).getRecipients().get(2).getSubstitutions().get("-code-"));
+        assertEquals(List.of("b@example.com", "e@example.com"), recipients(sent.get(1)));
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void failedBatchIsRetriedAndSentOnceTheProviderRecovers() {
+        enqueueOtp("a@example.com", "111111");
+        enqueueOtp("b@example.com", "222222");
+        failure = batch -> sent.size() == 1 ? new EmailDeliveryException(503, "SendGrid returned 503: unavailable") : null;
+
+        service.processBatch();
+        assertEquals(2, table.size());
+        assertEquals(1, (int) table.values().iterator().next().getAttempts());
+
+        service.processBatch();
+        assertEquals(2, sent.size());
+        assertEquals(2, sent.get(1).getRecipients().size());
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void emailsThatKeepFailingEndUpDeadWithoutTheirCodes() {
+        enqueueOtp("a@example.com", "111111");
+        enqueueOtp("b@example.com", "222222");
+        failure = batch -> new IOException("Connection reset");
+
+        for (int i = 0; i < 5; i++) {
+            service.processBatch();
+        }
+
+        // One request per attempt, then nothing is due any more
+        assertEquals(3, sent.size());
+        assertEquals(2, service.countDeadLetters());
+        for (EmailOutboxEntry entry : table.values()) {
+            assertEquals(EmailOutboxEntry.Status.DEAD, entry.getStatus());
+            assertEquals(3, (int) entry.getAttempts());
+            assertEquals("Connection reset", entry.getLastError());
+            assertEquals("{}", entry.getSubstitutions());
+        }
+    }
+
+    @Test
+    void rejectedBatchIsResentPerRecipientAndOnlyTheBadOneIsDead() {
+        enqueueOtp("a@example.com", "111111");
+        enqueueOtp("not-an-address", "222222");
+        enqueueOtp("c@example.com", "333333");
+        failure = batch -> recipients(batch).contains("not-an-address")
+                ? new EmailDeliveryException(400, "SendGrid returned 400: invalid email") : null;
+
+        service.processBatch();
+
+        // The rejected batch, then each recipient on its own
+        assertEquals(4, sent.size());
+        assertEquals(List.of("a@example.com"), recipients(sent.get(1)));
+        assertEquals(List.of("not-an-address"), recipients(sent.get(2)));
+        assertEquals(List.of("c@example.com"), recipients(sent.get(3)));
+
+        assertEquals(1, table.size());
+        EmailOutboxEntry dead = table.values().iterator().next();
+        assertEquals("not-an-address", dead.getToEmail());
+        assertEquals(EmailOutboxEntry.Status.DEAD, dead.getStatus());
+        assertEquals("{}", dead.getSubstitutions());
+    }
+
+    @Test
+    void rateLimitedBatchIsRetriedWhole() {
+        enqueueOtp("a@example.com", "111111");
+        enqueueOtp("b@example.com", "222222");
+        failure = batch -> new EmailDeliveryException(429, "SendGrid returned 429: too many requests");
+
+        service.processBatch();
+
+        assertEquals(1, sent.size());
+        assertEquals(0, service.countDeadLetters());
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void emailsWithCodesBackOffWellWithinTheCodeLifetime() {
+        ReflectionTestUtils.setField(service, "baseBackoffSeconds", 5L);
+        EmailOutboxEntry otp = new EmailOutboxEntry("otp", "a@example.com", "s", "t", "h", "{}");
+        EmailOutboxEntry welcome = new EmailOutboxEntry("welcome", "a@example.com", "s", "t", "h", "{}");
+
+        for (int attempts = 1; attempts <= 20; attempts++) {
+            assertTrue(service.backoffSeconds(otp, attempts) <= 60);
+        }
+        assertTrue(service.backoffSeconds(welcome, 20) >= 450);
+    }
+
+    private void enqueueOtp(String to, String code) {
+        service.enqueue("otp", to, "Your code", "Hello -name-, your code is -code-", "<p>-code-</p>",
+                Map.of("-name-", "Jane", "-code-", code));
+    }
+
+    private void enqueueWelcome(String to) {
+        service.enqueue("welcome", to, "Welcome", "Hello -name-", "<p>Hello -name-</p>", Map.of("-name-", "Jane"));
+    }
+
+    private static List<String> recipients(EmailBatch batch) {
+        return batch.getRecipients().stream().map(EmailRecipient::getEmail).collect(Collectors.toList());
+    }
+
+    /**
+     * The repository methods the outbox uses, over the table map
+     */
+    @SuppressWarnings("unchecked")
+    private EmailOutboxRepository inMemoryRepository() {
+        return (EmailOutboxRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{EmailOutboxRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "save": {
+                            EmailOutboxEntry entry = (EmailOutboxEntry) args[0];
+                            if (entry.getId() == null) {
+                                entry.setId(nextId++);
+                                entry.setCreatedAt(LocalDateTime.now());
+                                entry.setNextAttemptAt(entry.getCreatedAt());
+                            }
+                            table.put(entry.getId(), entry);
+                            return entry;
+                        }
+                        case "lockDue": {
+                            LocalDateTime now = (LocalDateTime) args[0];
+                            return table.values().stream()
+                                    .filter(entry -> entry.getStatus() == EmailOutboxEntry.Status.PENDING)
+                                    .filter(entry -> !entry.getNextAttemptAt().isAfter(now))
+                                    .sorted(Comparator.comparing(EmailOutboxEntry::getId))
+                                    .limit((int) args[1])
+                                    .collect(Collectors.toList());
+                        }
+                        case "deleteAllByIdInBatch":
+                            for (Long id : (Iterable<Long>) args[0]) {
+                                table.remove(id);
+                            }
+                            return null;
+                        case "countByStatus":
+                            return table.values().stream().filter(entry -> entry.getStatus() == args[0]).count();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
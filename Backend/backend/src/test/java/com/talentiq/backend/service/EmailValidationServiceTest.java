@@ -0,0 +1,317 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.config.EmailValidationConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MX checks against a stub DNS server on localhost (email.validation.dns-server)
+ */
+class EmailValidationServiceTest {
+
+    private StubDnsServer dns;
+
+    private ThreadPoolExecutor executor;
+
+    private EmailValidationService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dns = new StubDnsServer();
+        dns.answer("has-mx.test", StubDnsServer.MX);
+        dns.answer("no-such.test", StubDnsServer.NXDOMAIN);
+        dns.answer("broken.test", StubDnsServer.SERVFAIL);
+
+        EmailValidationConfig config = new EmailValidationConfig();
+        ReflectionTestUtils.setField(config, "threads", 4);
+        ReflectionTestUtils.setField(config, "queueCapacity", 100);
+        executor = config.dnsLookupExecutor();
+
+        service = new EmailValidationService();
+        ReflectionTestUtils.setField(service, "dnsLookupExecutor", executor);
+        ReflectionTestUtils.setField(service, "trustedDomainList", "gmail.com");
+        ReflectionTestUtils.setField(service, "timeoutMillis", 2000L);
+        ReflectionTestUtils.setField(service, "positiveTtlSeconds", 3600L);
+        ReflectionTestUtils.setField(service, "negativeTtlSeconds", 300L);
+        ReflectionTestUtils.setField(service, "cacheMaxSize", 100);
+        ReflectionTestUtils.setField(service, "failOpen", true);
+        ReflectionTestUtils.setField(service, "dnsServer", "dns://127.0.0.1:" + dns.getPort());
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        dns.close();
+    }
+
+    @Test
+    void trustedDomainsAreNotLookedUp() {
+        assertTrue(service.hasValidMXRecords("jane@gmail.com"));
+        assertEquals(0, dns.queries("gmail.com"));
+    }
+
+    @Test
+    void domainWithMxRecordIsValidAndCached() {
+        assertTrue(service.hasValidMXRecords("jane@has-mx.test"));
+        assertTrue(service.hasValidMXRecords("john@HAS-MX.test"));
+        assertEquals(1, dns.queries("has-mx.test"));
+    }
+
+    @Test
+    void nonexistentDomainIsInvalidAndNegativelyCached() {
+        assertFalse(service.hasValidMXRecords("jane@no-such.test"));
+        assertFalse(service.hasValidMXRecords("john@no-such.test"));
+        assertEquals(1, dns.queries("no-such.test"));
+    }
+
+    @Test
+    void domainIsQueriedAgainOnceItsAnswerExpires() throws Exception {
+        ReflectionTestUtils.setField(service, "negativeTtlSeconds", 0L);
+
+        assertFalse(service.hasValidMXRecords("jane@no-such.test"));
+        awaitNoLookupInFlight();
+        assertFalse(service.hasValidMXRecords("john@no-such.test"));
+
+        // A finished lookup must not stay in the in-flight map, or the domain would never be queried again
+        assertEquals(2, dns.queries("no-such.test"));
+        awaitNoLookupInFlight();
+    }
+
+    @Test
+    void lookupThatFinishesBeforeTheCallerWaitsDoesNotStayInFlight() throws Exception {
+        // Runs each lookup on the calling thread, so it is done before computeIfAbsent returns
+        ThreadPoolExecutor inline = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+        ReflectionTestUtils.setField(service, "dnsLookupExecutor", inline);
+        ReflectionTestUtils.setField(service, "negativeTtlSeconds", 0L);
+
+        assertFalse(service.hasValidMXRecords("jane@no-such.test"));
+        assertFalse(service.hasValidMXRecords("john@no-such.test"));
+
+        assertEquals(2, dns.queries("no-such.test"));
+        awaitNoLookupInFlight();
+        inline.shutdown();
+    }
+
+    @Test
+    void resolverFailureFailsOpenAndIsNotCached() {
+        assertTrue(service.hasValidMXRecords("jane@broken.test"));
+        assertTrue(service.hasValidMXRecords("john@broken.test"));
+        assertEquals(2, dns.queries("broken.test"));
+    }
+
+    @Test
+    void slowResolverFailsOpenWithinTheTimeout() {
+        ReflectionTestUtils.setField(service, "timeoutMillis", 200L);
+        dns.delay("slow.test", 1500);
+
+        long start = System.nanoTime();
+        assertTrue(service.hasValidMXRecords("jane@slow.test"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1000, "took " + elapsedMillis + "ms");
+    }
+
+    @Test
+    void slowResolverFailsClosedWhenConfigured() {
+        ReflectionTestUtils.setField(service, "timeoutMillis", 200L);
+        ReflectionTestUtils.setField(service, "failOpen", false);
+        dns.delay("slow.test", 1500);
+
+        assertFalse(service.hasValidMXRecords("jane@slow.test"));
+    }
+
+    @Test
+    void concurrentChecksOfOneDomainShareOneQuery() throws Exception {
+        dns.delay("has-mx.test", 300);
+
+        int callers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                String email = "user" + i + "@has-mx.test";
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return service.hasValidMXRecords(email);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, dns.queries("has-mx.test"));
+        awaitNoLookupInFlight();
+    }
+
+    private void awaitNoLookupInFlight() throws InterruptedException {
+        Map<?, ?> inFlight = (Map<?, ?>) ReflectionTestUtils.getField(service, "inFlight");
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!inFlight.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(inFlight.isEmpty(), "lookups left in flight: " + inFlight.keySet());
+    }
+
+    /**
+     * Minimal UDP DNS server: answers each configured name with an MX record, NXDOMAIN or SERVFAIL,
+     * optionally after a delay, and counts the queries per name
+     */
+    private static class StubDnsServer {
+
+        static final int MX = 0;
+        static final int SERVFAIL = 2;
+        static final int NXDOMAIN = 3;
+
+        private final DatagramSocket socket;
+        private final Map<String, Integer> answers = new ConcurrentHashMap<>();
+        private final Map<String, Long> delays = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> queries = new ConcurrentHashMap<>();
+        private final ExecutorService responders = Executors.newCachedThreadPool();
+
+        StubDnsServer() throws SocketException {
+            socket = new DatagramSocket(0, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(this::serve, "stub-dns");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        int getPort() {
+            return socket.getLocalPort();
+        }
+
+        void answer(String name, int rcode) {
+            answers.put(name, rcode);
+        }
+
+        void delay(String name, long millis) {
+            answers.putIfAbsent(name, MX);
+            delays.put(name, millis);
+        }
+
+        int queries(String name) {
+            AtomicInteger count = queries.get(name);
+            return count != null ? count.get() : 0;
+        }
+
+        void close() {
+            socket.close();
+            responders.shutdownNow();
+        }
+
+        private void serve() {
+            while (!socket.isClosed()) {
+                try {
+                    DatagramPacket packet = new DatagramPacket(new byte[512], 512);
+                    socket.receive(packet);
+                    byte[] query = java.util.Arrays.copyOf(packet.getData(), packet.getLength());
+                    responders.submit(() -> respond(query, packet.getSocketAddress()));
+                } catch (Exception e) {
+                    // Socket closed
+                }
+            }
+        }
+
+        private void respond(byte[] query, java.net.SocketAddress client) {
+            try {
+                // Question: labels from offset 12 up to the zero byte, then type and class
+                int end = 12;
+                StringBuilder name = new StringBuilder();
+                while (query[end] != 0) {
+                    int length = query[end];
+                    if (name.length() > 0) {
+                        name.append('.');
+                    }
+                    name.append(new String(query, end + 1, length, StandardCharsets.US_ASCII));
+                    end += length + 1;
+                }
+                end += 5;
+                String domain = name.toString().toLowerCase();
+                queries.computeIfAbsent(domain, key -> new AtomicInteger()).incrementAndGet();
+
+                Long delay = delays.get(domain);
+                if (delay != null) {
+                    Thread.sleep(delay);
+                }
+
+                int rcode = answers.getOrDefault(domain, NXDOMAIN);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                out.write(query, 0, 2);                         // id
+                out.write(0x81);                                // response, recursion desired
+                out.write(0x80 | rcode);                        // recursion available, rcode
+                writeShort(out, 1);                             // questions
+                writeShort(out, rcode == MX ? 1 : 0);           // answers
+                writeShort(out, 0);
+                writeShort(out, 0);
+                out.write(query, 12, end - 12);                 // question, echoed
+                if (rcode == MX) {
+                    byte[] exchange = encodeName("mail." + domain);
+                    out.write(0xC0);                            // name: pointer to the question
+                    out.write(12);
+                    writeShort(out, 15);                        // MX
+                    writeShort(out, 1);                         // IN
+                    writeShort(out, 0);                         // TTL
+                    writeShort(out, 60);
+                    writeShort(out, exchange.length + 2);
+                    writeShort(out, 10);                        // preference
+                    out.write(exchange);
+                }
+
+                byte[] response = out.toByteArray();
+                socket.send(new DatagramPacket(response, response.length, client));
+            } catch (Exception e) {
+                // Closed while responding
+            }
+        }
+
+        private static byte[] encodeName(String name) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (String label : name.split("\\.")) {
+                out.write(label.length());
+                out.writeBytes(label.getBytes(StandardCharsets.US_ASCII));
+            }
+            out.write(0);
+            return out.toByteArray();
+        }
+
+        private static void writeShort(ByteArrayOutputStream out, int value) {
+            out.write(value >> 8);
+            out.write(value);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.talentiq.backend.service;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.webtoken.JsonWebSignature;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies tokens signed with locally generated RSA keys, served by a stub GoogleSigningKeySource
+ */
+class GoogleTokenVerifierTest {
+
+    private static final String CLIENT_ID = "660268987587-msqi26m8tb17mirljtcn5nioocbidv3k.apps.googleusercontent.com";
+
+    private static KeyPair googleKey;
+
+    private static KeyPair otherKey;
+
+    private List<PublicKey> publishedKeys;
+
+    private GoogleTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        googleKey = generator.generateKeyPair();
+        otherKey = generator.generateKeyPair();
+    }
+
+    @BeforeEach
+    void setUp() {
+        publishedKeys = List.of(googleKey.getPublic());
+        verifier = new GoogleTokenVerifier();
+        GoogleSigningKeySource keySource = () -> publishedKeys;
+        ReflectionTestUtils.setField(verifier, "keySource", keySource);
+    }
+
+    @Test
+    void validTokenReturnsPayload() throws Exception {
+        GoogleIdToken.Payload payload = verifier.verifyToken(sign(googleKey, payload()));
+
+        assertEquals("jane@example.com", payload.getEmail());
+        assertEquals("1234567890", payload.getSubject());
+    }
+
+    @Test
+    void tokenSignedWithAnyPublishedKeyIsAccepted() throws Exception {
+        // Google publishes the old and the new key while rotating
+        publishedKeys = List.of(otherKey.getPublic(), googleKey.getPublic());
+
+        assertEquals("jane@example.com", verifier.verifyToken(sign(googleKey, payload())).getEmail());
+    }
+
+    @Test
+    void tokenForAnotherClientIsRejected() throws Exception {
+        GoogleIdToken.Payload payload = payload().setAudience("someone-else.apps.googleusercontent.com");
+
+        assertThrows(RuntimeException.class, () -> verifier.verifyToken(sign(googleKey, payload)));
+    }
+
+    @Test
+    void tokenFromAnotherIssuerIsRejected() throws Exception {
+        GoogleIdToken.Payload payload = payload().setIssuer("https://evil.example.com");
+
+        assertThrows(RuntimeException.class, () -> verifier.verifyToken(sign(googleKey, payload)));
+    }
+
+    @Test
+    void expiredTokenIsRejected() throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        // Expired well beyond the allowed clock skew
+        GoogleIdToken.Payload payload = payload().setIssuedAtTimeSeconds(now - 7200).setExpirationTimeSeconds(now - 3600);
+
+        assertThrows(RuntimeException.class, () -> verifier.verifyToken(sign(googleKey, payload)));
+    }
+
+    @Test
+    void tokenSignedWithUnknownKeyIsRejected() throws Exception {
+        String token = sign(otherKey, payload());
+
+        RuntimeException error = assertThrows(RuntimeException.class, () -> verifier.verifyToken(token));
+        assertEquals("Invalid Google ID token", error.getMessage());
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThrows(RuntimeException.class, () -> verifier.verifyToken("not-a-token"));
+    }
+
+    @Test
+    void keySourceFailureIsReported() throws Exception {
+        GoogleSigningKeySource failing = () -> {
+            throw new IllegalStateException("certs unavailable");
+        };
+        ReflectionTestUtils.setField(verifier, "keySource", failing);
+        String token = sign(googleKey, payload());
+
+        assertThrows(RuntimeException.class, () -> verifier.verifyToken(token));
+    }
+
+    private static GoogleIdToken.Payload payload() {
+        long now = System.currentTimeMillis() / 1000;
+        GoogleIdToken.Payload payload = new GoogleIdToken.Payload();
+        payload.setIssuer("https://accounts.google.com");
+        payload.setAudience(CLIENT_ID);
+        payload.setSubject("1234567890");
+        payload.setEmail("jane@example.com");
+        payload.setEmailVerified(true);
+        payload.setIssuedAtTimeSeconds(now);
+        payload.setExpirationTimeSeconds(now + 3600);
+        return payload;
+    }
+
+    private static String sign(KeyPair key, GoogleIdToken.Payload payload) throws Exception {
+        JsonWebSignature.Header header = new JsonWebSignature.Header();
+        header.setAlgorithm("RS256");
+        header.setType("JWT");
+        header.setKeyId("test-key");
+        return JsonWebSignature.signUsingRsaSha256(key.getPrivate(), GsonFactory.getDefaultInstance(), header, payload);
+    }
+}
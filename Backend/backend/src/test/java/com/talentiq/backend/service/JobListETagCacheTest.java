@@ -0,0 +1,62 @@
+package com.talentiq.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobListETagCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private JobListETagCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobListETagCache();
+        ReflectionTestUtils.setField(cache, "ttlMillis", 60_000L);
+    }
+
+    private String load() {
+        return "\"jobs-" + loads.incrementAndGet() + "\"";
+    }
+
+    @Test
+    void aggregateRunsOncePerTtl() {
+        assertEquals("\"jobs-1\"", cache.get(this::load));
+        assertEquals("\"jobs-1\"", cache.get(this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evictionForcesARecompute() {
+        cache.get(this::load);
+        cache.evict();
+
+        assertEquals("\"jobs-2\"", cache.get(this::load));
+    }
+
+    @Test
+    void expiredValueIsRecomputed() throws InterruptedException {
+        ReflectionTestUtils.setField(cache, "ttlMillis", 20L);
+        cache.get(this::load);
+        Thread.sleep(40);
+
+        assertEquals("\"jobs-2\"", cache.get(this::load));
+    }
+
+    @Test
+    void valueLoadedAcrossAnEvictionIsNotCached() {
+        // A write lands while the aggregate is running: the result may predate it
+        assertEquals("\"jobs-1\"", cache.get(() -> {
+            String eTag = load();
+            cache.evict();
+            return eTag;
+        }));
+
+        assertEquals("\"jobs-2\"", cache.get(this::load));
+    }
+}
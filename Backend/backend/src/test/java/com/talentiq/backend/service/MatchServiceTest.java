@@ -0,0 +1,120 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.dto.JobRecommendation;
+import com.talentiq.backend.model.Resume;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.repository.JobRepository;
+import com.talentiq.backend.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Recommendations over an in-memory job board (newest job first, as the query sorts them)
+ */
+class MatchServiceTest {
+
+    private final List<JobRepository.JobScoringFields> jobs = new ArrayList<>();
+
+    private final List<Pageable> pagesRead = new ArrayList<>();
+
+    private MatchService matchService;
+
+    @BeforeEach
+    void setUp() {
+        User owner = new User();
+        owner.setId(1L);
+        Resume resume = new Resume();
+        resume.setId(10L);
+        resume.setUser(owner);
+        resume.setSkills("Java, SQL, Docker");
+        resume.setYearsOfExperience(6);
+
+        ResumeRepository resumeRepository = (ResumeRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ResumeRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return args[0].equals(10L) ? Optional.of(resume) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        JobRepository jobRepository = (JobRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{JobRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findScoringFields")) {
+                        Pageable pageable = (Pageable) args[0];
+                        pagesRead.add(pageable);
+                        int from = (int) Math.min(pageable.getOffset(), jobs.size());
+                        return jobs.subList(from, Math.min(from + pageable.getPageSize(), jobs.size()));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        matchService = new MatchService();
+        ReflectionTestUtils.setField(matchService, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(matchService, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(matchService, "maxScannedJobs", 2000);
+    }
+
+    @Test
+    void bestFittingJobsComeFirst() {
+        addJob(1, "Senior Java Developer", "Senior", "Java, SQL");
+        addJob(2, "Designer", "Entry Level", "Figma");
+        addJob(3, "Platform Engineer", "Senior", "Java, Docker, Kubernetes");
+
+        List<JobRecommendation> top = matchService.recommendJobs(10L, 1L, 2);
+
+        assertEquals(List.of(1L, 3L), top.stream().map(JobRecommendation::getJobId).toList());
+        assertEquals(List.of("Kubernetes"), top.get(1).getMissingSkills());
+    }
+
+    @Test
+    void scanStopsAtTheConfiguredNumberOfJobs() {
+        ReflectionTestUtils.setField(matchService, "maxScannedJobs", 450);
+        for (long id = 1; id <= 1000; id++) {
+            addJob(id, "Job " + id, "Entry Level", "Figma");
+        }
+        // Past the cap: would be the best match if it were read
+        addJob(5000, "Java Developer", "Senior", "Java, SQL, Docker");
+
+        List<JobRecommendation> top = matchService.recommendJobs(10L, 1L, 5);
+
+        assertEquals(5, top.size());
+        // 450 rounded up to whole pages of 200
+        assertEquals(3, pagesRead.size());
+        assertTrue(top.stream().noneMatch(recommendation -> recommendation.getJobId() == 5000L));
+    }
+
+    @Test
+    void shortBoardIsReadInOnePage() {
+        addJob(1, "Java Developer", "Senior", "Java");
+
+        matchService.recommendJobs(10L, 1L, 10);
+
+        assertEquals(1, pagesRead.size());
+    }
+
+    @Test
+    void otherUsersResumeIsRejected() {
+        assertThrows(RuntimeException.class, () -> matchService.recommendJobs(10L, 2L, 10));
+    }
+
+    private void addJob(long id, String title, String level, String skills) {
+        jobs.add(new JobRepository.JobScoringFields() {
+            public Long getId() { return id; }
+            public String getTitle() { return title; }
+            public String getCompany() { return "Acme"; }
+            public String getExperienceLevel() { return level; }
+            public String getSkillsRequired() { return skills; }
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.otp.InMemoryOtpStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OtpService over the in-memory store: attempt limit and single use
+ */
+class OtpServiceTest {
+
+    private static final String EMAIL = "User@Example.com";
+
+    private OtpService otpService;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryOtpStore store = new InMemoryOtpStore();
+        ReflectionTestUtils.setField(store, "maxEntries", 100);
+        ReflectionTestUtils.setField(store, "tickMillis", 5000L);
+
+        otpService = new OtpService();
+        ReflectionTestUtils.setField(otpService, "otpStore", store);
+        ReflectionTestUtils.setField(otpService, "hashSecret", "test-otp-secret");
+        otpService.initialize();
+    }
+
+    @Test
+    void thirdWrongGuessBurnsTheCode() {
+        String otp = otpService.generateOtp(EMAIL);
+        String wrong = wrongCode(otp);
+
+        assertFalse(otpService.validateOtp(EMAIL, wrong));
+        assertFalse(otpService.validateOtp(EMAIL, wrong));
+        assertFalse(otpService.validateOtp(EMAIL, wrong));
+
+        assertFalse(otpService.validateOtp(EMAIL, otp));
+    }
+
+    @Test
+    void correctCodeAfterFewerWrongGuessesIsAccepted() {
+        String otp = otpService.generateOtp(EMAIL);
+        String wrong = wrongCode(otp);
+
+        assertFalse(otpService.validateOtp(EMAIL, wrong));
+        assertFalse(otpService.validateOtp(EMAIL, wrong));
+
+        assertTrue(otpService.validateOtp(EMAIL.toLowerCase(), otp));
+    }
+
+    @Test
+    void codeIsSingleUse() {
+        String otp = otpService.generateOtp(EMAIL);
+
+        assertTrue(otpService.validateOtp(EMAIL, otp));
+        assertFalse(otpService.validateOtp(EMAIL, otp));
+    }
+
+    @Test
+    void newCodeResetsTheAttempts() {
+        String first = otpService.generateOtp(EMAIL);
+        assertFalse(otpService.validateOtp(EMAIL, wrongCode(first)));
+        assertFalse(otpService.validateOtp(EMAIL, wrongCode(first)));
+
+        String second = otpService.generateOtp(EMAIL);
+
+        assertFalse(otpService.validateOtp(EMAIL, first.equals(second) ? wrongCode(second) : first));
+        assertTrue(otpService.validateOtp(EMAIL, second));
+    }
+
+    @Test
+    void storedHashDependsOnTheSecret() {
+        OtpService otherSecret = new OtpService();
+        ReflectionTestUtils.setField(otherSecret, "hashSecret", "another-secret");
+        otherSecret.initialize();
+
+        String mine = ReflectionTestUtils.invokeMethod(otpService, "hash", "user@example.com", "123456");
+        String theirs = ReflectionTestUtils.invokeMethod(otherSecret, "hash", "user@example.com", "123456");
+
+        assertEquals(64, mine.length());
+        assertNotEquals(mine, theirs);
+    }
+
+    private static String wrongCode(String otp) {
+        char last = otp.charAt(otp.length() - 1);
+        return otp.substring(0, otp.length() - 1) + (char) ('0' + (last - '0' + 1) % 10);
+    }
+}
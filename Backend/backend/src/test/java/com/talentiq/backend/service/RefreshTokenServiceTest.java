@@ -0,0 +1,184 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.exception.InvalidRefreshTokenException;
+import com.talentiq.backend.model.RefreshToken;
+import com.talentiq.backend.model.User;
+import com.talentiq.backend.repository.RefreshTokenRepository;
+import com.talentiq.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Refresh token rotation and reuse detection over an in-memory refresh_tokens table
+ */
+class RefreshTokenServiceTest {
+
+    private final List<RefreshToken> table = new ArrayList<>();
+
+    private User user;
+
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(7L);
+        user.setTokenVersion(0);
+        user.setAccountLocked(false);
+
+        service = new RefreshTokenService();
+        ReflectionTestUtils.setField(service, "refreshTokenRepository", inMemoryRepository());
+        ReflectionTestUtils.setField(service, "userRepository", userRepository());
+        ReflectionTestUtils.setField(service, "transactionTemplate", new TransactionTemplate(new NoTransactionManager()));
+        ReflectionTestUtils.setField(service, "refreshExpiration", 60_000L);
+    }
+
+    @Test
+    void rotationIssuesTheNextTokenOfTheFamily() {
+        String first = service.issue(user);
+
+        RefreshTokenService.Rotation rotation = service.rotate(first);
+
+        assertSame(user, rotation.getUser());
+        assertNotEquals(first, rotation.getRefreshToken());
+        assertEquals(2, table.size());
+        assertEquals(table.get(0).getFamilyId(), table.get(1).getFamilyId());
+        assertTrue(table.get(0).getRevokedAt() != null && table.get(1).getRevokedAt() == null);
+    }
+
+    @Test
+    void reusedTokenRevokesTheWholeFamily() {
+        String first = service.issue(user);
+        String second = service.rotate(first).getRefreshToken();
+
+        // The copied first token comes back
+        InvalidRefreshTokenException reuse = assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(first));
+        assertEquals("Refresh token already used", reuse.getMessage());
+
+        // ...so the legitimate holder's current token is dead too
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(second));
+        assertTrue(table.stream().allMatch(token -> token.getRevokedAt() != null));
+    }
+
+    @Test
+    void reuseDoesNotTouchOtherLogins() {
+        String phone = service.issue(user);
+        String laptop = service.issue(user);
+        service.rotate(phone);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(phone));
+
+        assertSame(user, service.rotate(laptop).getUser());
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        InvalidRefreshTokenException e = assertThrows(InvalidRefreshTokenException.class, () -> service.rotate("nope"));
+        assertEquals("Invalid refresh token", e.getMessage());
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        ReflectionTestUtils.setField(service, "refreshExpiration", -1_000L);
+        String token = service.issue(user);
+
+        InvalidRefreshTokenException e = assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(token));
+        assertEquals("Refresh token expired", e.getMessage());
+    }
+
+    @Test
+    void tokenIssuedBeforeARevocationIsRejected() {
+        String token = service.issue(user);
+        user.setTokenVersion(1); // e.g. password changed
+
+        InvalidRefreshTokenException e = assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(token));
+        assertEquals("Refresh token revoked", e.getMessage());
+    }
+
+    @Test
+    void lockedAccountCannotRefresh() {
+        String token = service.issue(user);
+        user.setAccountLocked(true);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(token));
+    }
+
+    @Test
+    void logoutRevokesTheFamily() {
+        String first = service.issue(user);
+        String second = service.rotate(first).getRefreshToken();
+
+        service.revoke(second);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> service.rotate(second));
+    }
+
+    private RefreshTokenRepository inMemoryRepository() {
+        return (RefreshTokenRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{RefreshTokenRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "save":
+                            table.add((RefreshToken) args[0]);
+                            return args[0];
+                        case "findByTokenHashForUpdate":
+                            return table.stream().filter(token -> token.getTokenHash().equals(args[0])).findFirst();
+                        case "revokeFamily": {
+                            int revoked = 0;
+                            for (RefreshToken token : table) {
+                                if (token.getFamilyId().equals(args[0]) && token.getRevokedAt() == null) {
+                                    token.setRevokedAt((LocalDateTime) args[1]);
+                                    revoked++;
+                                }
+                            }
+                            return revoked;
+                        }
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private UserRepository userRepository() {
+        return (UserRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return user.getId().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static class NoTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.talentiq.backend.service;
+
+import com.talentiq.backend.service.ResumeFieldExtractor.ResumeFields;
+import com.talentiq.backend.service.ResumeFieldExtractor.Section;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResumeFieldExtractorTest {
+
+    private static ResumeFields extract(String... lines) {
+        ResumeFieldExtractor extractor = new ResumeFieldExtractor();
+        for (String line : lines) {
+            extractor.accept(line);
+        }
+        return extractor.result();
+    }
+
+    @Test
+    void headingsSwitchSectionsWithColonsCaseAndAmpersands() {
+        ResumeFields fields = extract(
+                "Jane Doe",
+                "PROFESSIONAL SUMMARY:",
+                "Backend engineer",
+                "Work Experience",
+                "Developer, Acme 2018 - 2020",
+                "Skills & Abilities",
+                "Java, SQL",
+                "Education",
+                "BSc Computer Science");
+
+        assertEquals(Set.of(Section.SUMMARY, Section.EXPERIENCE, Section.SKILLS, Section.EDUCATION), fields.getSections());
+    }
+
+    @Test
+    void longOrNonLetterLinesAreNotHeadings() {
+        ResumeFields fields = extract(
+                "Experience with distributed systems and many other things besides",
+                "Skills 2020",
+                "Java, SQL");
+
+        assertTrue(fields.getSections().isEmpty());
+        assertTrue(fields.getSkills().isEmpty());
+    }
+
+    @Test
+    void skillsAreSplitOnSeparatorsWithoutCategoryPrefixesOrDuplicates() {
+        ResumeFields fields = extract(
+                "Technical Skills",
+                "Languages: Java, Python; Go",
+                "• Docker • Kubernetes | java",
+                "- PostgreSQL.");
+
+        assertEquals(List.of("Java", "Python", "Go", "Docker", "Kubernetes", "PostgreSQL"), fields.getSkills());
+    }
+
+    @Test
+    void yearOnlyRangesCountTheYearsBetween() {
+        ResumeFields fields = extract(
+                "Experience",
+                "Developer, Acme 2016 – 2018",
+                "Engineer, Initech 2018 - 2021");
+
+        assertEquals(5, fields.getYearsOfExperience());
+    }
+
+    @Test
+    void rangeWithinOneCalendarYearCountsInMonths() {
+        assertEquals(1, extract("Experience", "Analyst Jan 2019 – Dec 2019").getYearsOfExperience());
+        assertEquals(0, extract("Experience", "Intern Jun 2019 – Aug 2019").getYearsOfExperience());
+    }
+
+    @Test
+    void shortRangesAddUpInMonths() {
+        ResumeFields fields = extract(
+                "Experience",
+                "Intern 06/2017 to 11/2017",
+                "Contractor Mar. 2018 - Aug. 2018",
+                "Developer September 2019 until February 2020");
+
+        // 6 + 6 + 6 months
+        assertEquals(1, fields.getYearsOfExperience());
+    }
+
+    @Test
+    void overlappingJobsAreCountedOnce() {
+        ResumeFields fields = extract(
+                "Experience",
+                "Engineer Jan 2015 - Dec 2018",
+                "Consultant Jan 2017 - Jun 2018");
+
+        assertEquals(4, fields.getYearsOfExperience());
+    }
+
+    @Test
+    void presentRunsToTheCurrentMonth() {
+        int years = YearMonth.now().getYear() - 2015;
+        ResumeFields fields = extract("Experience", "Engineer " + YearMonth.now().getMonth().name().substring(0, 3) + " 2015 - Present");
+
+        assertEquals(years, fields.getYearsOfExperience());
+    }
+
+    @Test
+    void futureAndBackwardsRangesAreIgnored() {
+        int next = YearMonth.now().getYear() + 1;
+        ResumeFields fields = extract(
+                "Experience",
+                "Engineer 2015 - " + next,
+                "Developer Dec 2019 - Jan 2019");
+
+        assertNull(fields.getYearsOfExperience());
+    }
+
+    @Test
+    void statedYearsAreUsedWithoutDateRanges() {
+        assertEquals(7, extract("Summary", "Engineer with 5+ years in Java and 7 yrs overall").getYearsOfExperience());
+    }
+
+    @Test
+    void titlesComeFromTheDateLineOrTheLineAbove() {
+        ResumeFields fields = extract(
+                "Experience",
+                "Senior Engineer, Acme | Jan 2019 - Dec 2020",
+                "Team Lead",
+                "Mar 2021 - Dec 2021");
+
+        assertEquals(List.of("Senior Engineer, Acme", "Team Lead"), fields.getTitles());
+    }
+
+    @Test
+    void phoneIsTakenFromTheHeaderButNotFromDateRanges() {
+        assertEquals("+1 (555) 123-4567", extract("Jane Doe", "jane@example.com | +1 (555) 123-4567").getPhone());
+        assertEquals("+44 20 7946 0958", extract("Jane Doe", "2019 - 2021 +44 20 7946 0958").getPhone());
+        assertNull(extract("Jane Doe", "01.2019-12.2021").getPhone());
+    }
+
+    @Test
+    void phoneNeedsNineToFifteenDigits() {
+        assertNull(extract("Jane Doe", "Ref 123-4567").getPhone());
+        assertNull(extract("Jane Doe", "Account 1234 5678 9012 3456 78").getPhone());
+    }
+
+    @Test
+    void phoneOutsideTheHeaderIsIgnored() {
+        assertNull(extract("Experience", "Support line 555 123 4567 890").getPhone());
+    }
+
+    @Test
+    void firstEmailWins() {
+        ResumeFields fields = extract("Jane Doe", "Email: jane.doe+cv@example.co.uk", "Old: jane@old.example.com");
+
+        assertEquals("jane.doe+cv@example.co.uk", fields.getEmail());
+    }
+}
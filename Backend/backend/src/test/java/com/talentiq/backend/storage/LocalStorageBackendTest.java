@@ -0,0 +1,72 @@
+package com.talentiq.backend.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalStorageBackendTest {
+
+    @TempDir
+    Path rootDir;
+
+    private LocalStorageBackend storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = new LocalStorageBackend();
+        ReflectionTestUtils.setField(storage, "rootDir", rootDir.toString());
+        ReflectionTestUtils.setField(storage, "publicBaseUrl", "http://localhost:8080");
+        ReflectionTestUtils.setField(storage, "signingSecret", "test-secret");
+        storage.initialize();
+
+        Files.createDirectories(rootDir.resolve("profile-pictures/user_1"));
+        Files.writeString(rootDir.resolve("profile-pictures/user_1/photo.png"), "photo");
+        Files.createDirectories(rootDir.resolve("resumes/user_2"));
+        Files.writeString(rootDir.resolve("resumes/user_2/cv.pdf"), "private");
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    void profilePicturesArePublic() {
+        assertThat(storage.isPubliclyReadable("profile-pictures/user_1/photo.png")).isTrue();
+    }
+
+    @Test
+    void otherFoldersAreNotPublic() {
+        assertThat(storage.isPubliclyReadable("resumes/user_2/cv.pdf")).isFalse();
+        assertThat(storage.isPubliclyReadable("profile-pictures")).isFalse();
+        assertThat(storage.isPubliclyReadable(null)).isFalse();
+    }
+
+    @Test
+    void traversalOutOfThePublicFolderIsNotPublic() {
+        assertThat(storage.isPubliclyReadable("profile-pictures/../resumes/user_2/cv.pdf")).isFalse();
+        assertThat(storage.isPubliclyReadable("profile-pictures/user_1/../../resumes/user_2/cv.pdf")).isFalse();
+        assertThat(storage.isPubliclyReadable("profile-pictures/..")).isFalse();
+    }
+
+    @Test
+    void keysWithParentSegmentsAreNotServed() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/profile-pictures/../resumes/user_2/cv.pdf");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        storage.serve("profile-pictures/../resumes/user_2/cv.pdf", request, response);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getContentAsString()).doesNotContain("private");
+    }
+}
@@ -0,0 +1,208 @@
+package com.talentiq.backend.storage;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Runs S3StorageService against a MinIO container (needs Docker; run with -Pintegration-tests).
+ */
+@Tag("integration")
+@Testcontainers
+class S3StorageServiceIntegrationTest {
+
+    private static final String BUCKET = "talentiq-test";
+    private static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final int PART_BUFFERS = 2;
+
+    @Container
+    static final MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-01-16T16-07-38Z");
+
+    private static S3Client admin;
+
+    private S3StorageService storage;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void createBucket() {
+        admin = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(URI.create(minio.getS3URL()))
+                .forcePathStyle(true)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(minio.getUserName(), minio.getPassword())))
+                .build();
+        admin.createBucket(builder -> builder.bucket(BUCKET));
+    }
+
+    @AfterAll
+    static void closeAdmin() {
+        admin.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        storage = new S3StorageService();
+        ReflectionTestUtils.setField(storage, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(storage, "region", "us-east-1");
+        ReflectionTestUtils.setField(storage, "accessKeyId", minio.getUserName());
+        ReflectionTestUtils.setField(storage, "secretAccessKey", minio.getPassword());
+        ReflectionTestUtils.setField(storage, "s3Enabled", true);
+        ReflectionTestUtils.setField(storage, "endpoint", minio.getS3URL());
+        ReflectionTestUtils.setField(storage, "pathStyleAccess", true);
+        ReflectionTestUtils.setField(storage, "multipartThreshold", (long) PART_SIZE);
+        ReflectionTestUtils.setField(storage, "partSize", PART_SIZE);
+        ReflectionTestUtils.setField(storage, "partBuffers", PART_BUFFERS);
+        ReflectionTestUtils.setField(storage, "uploadParallelism", 2);
+        ReflectionTestUtils.setField(storage, "asyncMaxInFlight", 8);
+        ReflectionTestUtils.setField(storage, "uploadUrlTtlSeconds", 600L);
+        ReflectionTestUtils.setField(storage, "downloadUrlTtlSeconds", 900L);
+        ReflectionTestUtils.setField(storage, "downloadUrlCacheSize", 100);
+        storage.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+    }
+
+    @Test
+    void singlePartUploadRoundTrips() throws IOException {
+        byte[] content = randomBytes(64 * 1024);
+        Path file = Files.write(tempDir.resolve("small.pdf"), content);
+
+        String url = storage.uploadFile(file, "small.pdf", "application/pdf", "resumes");
+        String key = storage.keyOf(url);
+
+        assertThat(key).startsWith("resumes/");
+        assertThat(storage.stat(key).getSize()).isEqualTo(content.length);
+        assertThat(download(key)).isEqualTo(content);
+        assertThat(listUploads()).isZero();
+    }
+
+    @Test
+    void multipartUploadRoundTrips() throws IOException {
+        // Two full parts and a short last one
+        byte[] content = randomBytes(2 * PART_SIZE + 123);
+        Path file = Files.write(tempDir.resolve("large.pdf"), content);
+
+        String url = storage.uploadFile(file, "large.pdf", "application/pdf", "resumes");
+        String key = storage.keyOf(url);
+
+        assertThat(storage.stat(key).getSize()).isEqualTo(content.length);
+        assertThat(download(key)).isEqualTo(content);
+        assertThat(listUploads()).isZero();
+        assertAllBuffersReturned();
+    }
+
+    @Test
+    void failedMultipartUploadIsAbortedAndReturnsItsBuffers() {
+        // The stream breaks inside the third part, after two parts were handed to the upload threads
+        byte[] content = randomBytes(3 * PART_SIZE);
+        MockMultipartFile file = new MockMultipartFile("file", "broken.pdf", "application/pdf", content) {
+            @Override
+            public InputStream getInputStream() {
+                return new FailingInputStream(content, 2 * PART_SIZE + 1024);
+            }
+        };
+
+        assertThatThrownBy(() -> storage.uploadFile(file, "resumes"))
+                .hasMessageContaining("Failed to upload file to S3");
+
+        assertThat(listUploads()).isZero();
+        assertAllBuffersReturned();
+
+        // The pool is intact, so later multipart uploads do not block waiting for a buffer
+        assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+            for (int i = 0; i < 3; i++) {
+                byte[] next = randomBytes(PART_SIZE + 1);
+                Path path = Files.write(tempDir.resolve("next-" + i + ".pdf"), next);
+                String key = storage.keyOf(storage.uploadFile(path, "next.pdf", "application/pdf", "resumes"));
+                assertThat(storage.stat(key).getSize()).isEqualTo(next.length);
+            }
+        });
+        assertAllBuffersReturned();
+    }
+
+    private void assertAllBuffersReturned() {
+        BlockingQueue<?> pool = (BlockingQueue<?>) ReflectionTestUtils.getField(storage, "partBufferPool");
+        AtomicInteger allocated = (AtomicInteger) ReflectionTestUtils.getField(storage, "allocatedBuffers");
+        assertThat(allocated.get()).isLessThanOrEqualTo(PART_BUFFERS);
+        assertThat(pool).hasSize(allocated.get());
+    }
+
+    private static byte[] download(String key) {
+        return admin.getObjectAsBytes(builder -> builder.bucket(BUCKET).key(key)).asByteArray();
+    }
+
+    private static int listUploads() {
+        return admin.listMultipartUploads(builder -> builder.bucket(BUCKET)).uploads().size();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Serves the first failAt bytes of content, then fails like a dropped connection
+     */
+    private static class FailingInputStream extends InputStream {
+
+        private final byte[] content;
+        private final int failAt;
+        private int position;
+
+        FailingInputStream(byte[] content, int failAt) {
+            this.content = content;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= failAt) {
+                throw new IOException("Connection reset");
+            }
+            int count = Math.min(len, failAt - position);
+            System.arraycopy(content, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -74,6 +74,9 @@ export const authAPI = {
       currentPassword,
       newPassword
     });
+    // Other sessions were signed out; keep this one with the new token
+    if (response.data?.token) localStorage.setItem('token', response.data.token);
+    if (response.data?.refreshToken) localStorage.setItem('refreshToken', response.data.refreshToken);
     return response.data;
   }
 };
\ No newline at end of file
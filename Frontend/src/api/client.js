@@ -26,10 +26,55 @@ apiClient.interceptors.request.use(
   (error) => Promise.reject(error)
 );
 
+// Requests whose 401 means bad credentials, not an expired access token
+const NO_REFRESH_URLS = ['/auth/login', '/auth/refresh', '/auth/logout'];
+
+// Access tokens are short-lived: refresh once for all requests that fail together
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    const refreshToken = localStorage.getItem('refreshToken');
+    refreshPromise = axios
+      .post(`${API_BASE_URL}/auth/refresh`, { refreshToken }, { withCredentials: true })
+      .then(({ data }) => {
+        localStorage.setItem('token', data.token);
+        localStorage.setItem('refreshToken', data.refreshToken);
+        return data.token;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // Response interceptor - handle errors
 apiClient.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retried &&
+        !NO_REFRESH_URLS.includes(original.url)) {
+      original._retried = true;
+
+      // Another tab or request may already have refreshed the token
+      const usedToken = original.headers?.Authorization?.replace('Bearer ', '');
+      const currentToken = localStorage.getItem('token');
+      if (currentToken && usedToken && currentToken !== usedToken) {
+        return apiClient(original);
+      }
+
+      if (localStorage.getItem('refreshToken')) {
+        try {
+          await refreshAccessToken();
+          return apiClient(original);
+        } catch (refreshError) {
+          // Refresh token expired or revoked: fall through to the login redirect
+        }
+      }
+    }
+
     if (error.response?.status === 401) {
       const hadToken = localStorage.getItem('token');
       const currentPath = window.location.pathname;
@@ -42,6 +87,7 @@ apiClient.interceptors.response.use(
       
       if (hadToken && !isAuthPage) {
         localStorage.removeItem('token');
+        localStorage.removeItem('refreshToken');
         localStorage.removeItem('user');
         window.location.href = '/login';
       }
@@ -1,17 +1,25 @@
+import axios from 'axios';
 import apiClient from './client';
 
-// Upload resume file
+// Upload resume file straight to S3 with a presigned URL, then let the API parse it
 export const uploadResume = async (file, onUploadProgress) => {
-  const formData = new FormData();
-  formData.append('file', file);
+  const { data: upload } = await apiClient.post('/resumes/upload-url', {
+    filename: file.name,
+    contentType: file.type,
+    size: file.size,
+  });
 
-  const response = await apiClient.post('/resumes/upload', formData, {
-    headers: {
-      'Content-Type': 'multipart/form-data',
-    },
+  // Plain axios: the presigned URL carries its own auth, so no bearer token or cookies
+  await axios.put(upload.uploadUrl, file, {
+    headers: upload.headers,
     onUploadProgress,
   });
 
+  const response = await apiClient.post('/resumes/upload-complete', {
+    key: upload.key,
+    filename: file.name,
+  });
+
   return response.data;
 };
 
@@ -1,3 +1,4 @@
+import axios from 'axios';
 import apiClient from './client';
 
 // Get current user profile
@@ -15,18 +16,25 @@ export const updateUserProfile = async (profileData) => {
 // Change password - FIXED: Now calls the correct endpoint
 export const changePassword = async (passwordData) => {
   const response = await apiClient.post('/auth/change-password', passwordData);
+  // Other sessions were signed out; keep this one with the new token
+  if (response.data?.token) localStorage.setItem('token', response.data.token);
+  if (response.data?.refreshToken) localStorage.setItem('refreshToken', response.data.refreshToken);
   return response.data;
 };
 
-// Upload profile picture
+// Upload profile picture straight to S3 with a presigned URL
 export const uploadProfilePicture = async (file) => {
-  const formData = new FormData();
-  formData.append('file', file);
+  const { data: upload } = await apiClient.post('/user/profile-picture/upload-url', {
+    filename: file.name,
+    contentType: file.type,
+    size: file.size,
+  });
+
+  await axios.put(upload.uploadUrl, file, { headers: upload.headers });
 
-  const response = await apiClient.post('/user/profile-picture', formData, {
-    headers: {
-      'Content-Type': 'multipart/form-data',
-    },
+  const response = await apiClient.post('/user/profile-picture/upload-complete', {
+    key: upload.key,
+    filename: file.name,
   });
 
   return response.data;
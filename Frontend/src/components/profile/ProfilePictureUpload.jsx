@@ -10,7 +10,7 @@ export default function ProfilePictureUpload({ user, onProfileUpdate }) {
   const fileInputRef = useRef(null);
 
   // FIXED: Use S3 URL directly - no more localhost!
-  const currentProfilePicture = user?.profilePictureUrl;
+  const currentProfilePicture = user?.profilePictureUrls?.lg || user?.profilePictureUrl;
 
   const handleFileSelect = (event) => {
     const file = event.target.files[0];
@@ -63,7 +63,7 @@ export default function ProfilePictureUpload({ user, onProfileUpdate }) {
       setPreviewUrl(null);
       setSelectedFile(null);
       if (onProfileUpdate) {
-        onProfileUpdate({ ...user, profilePictureUrl: null });
+        onProfileUpdate({ ...user, profilePictureUrl: null, profilePictureUrls: null });
       }
     } catch (error) {
       console.error('Error deleting profile picture:', error);
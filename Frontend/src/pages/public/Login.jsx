@@ -34,7 +34,7 @@ export default function Login() {
     try {
       const response = await apiClient.post('/auth/login', { email, password });
       
-      const { token, id, email: userEmail, fullName, role, authProvider } = response.data;
+      const { token, refreshToken, id, email: userEmail, fullName, role, authProvider } = response.data;
       const normalizedRole = role.toLowerCase().replace('_', '');
       
       const user = {
@@ -45,7 +45,7 @@ export default function Login() {
         authProvider: authProvider || 'LOCAL'
       };
       
-      login(user, token);
+      login(user, token, refreshToken);
       toast.success('Login successful!');
       
       setTimeout(() => {
@@ -111,7 +111,7 @@ export default function Login() {
           'GOOGLE'
         );
 
-        const { token, id, email, fullName, role, authProvider } = loginResponse;
+        const { token, refreshToken, id, email, fullName, role, authProvider } = loginResponse;
         const normalizedRole = role.toLowerCase().replace('_', '');
         const user = { 
           id, 
@@ -121,7 +121,7 @@ export default function Login() {
           authProvider: authProvider || 'GOOGLE'
         };
         
-        login(user, token);
+        login(user, token, refreshToken);
         toast.success('Login successful!');
         
         setTimeout(() => {
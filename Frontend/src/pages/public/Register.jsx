@@ -150,7 +150,7 @@ export default function Register() {
     try {
       const response = await authAPI.verifyOtp(formData.email, otp);
       
-      const { token, id, email, fullName, role } = response;
+      const { token, refreshToken, id, email, fullName, role } = response;
       const normalizedRole = role.toLowerCase().replace('_', '');
       
       const user = {
@@ -160,7 +160,7 @@ export default function Register() {
         role: normalizedRole
       };
       
-      login(user, token);
+      login(user, token, refreshToken);
       toast.success('Account verified successfully!');
       
       setTimeout(() => {
@@ -234,11 +234,11 @@ export default function Register() {
         selectedRole
       );
       
-      const { token, id, email, fullName, role } = response;
+      const { token, refreshToken, id, email, fullName, role } = response;
       const normalizedRole = role.toLowerCase().replace('_', '');
       const user = { id, email, name: fullName, role: normalizedRole };
       
-      login(user, token);
+      login(user, token, refreshToken);
       toast.success('Registration successful!');
       
       setShowRoleDialog(false);
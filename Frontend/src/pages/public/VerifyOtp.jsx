@@ -30,7 +30,7 @@ export default function VerifyOtp() {
     try {
       const response = await authAPI.verifyOtp(email, otp);
       
-      const { token, id, email: userEmail, fullName, role } = response;
+      const { token, refreshToken, id, email: userEmail, fullName, role } = response;
       const normalizedRole = role.toLowerCase().replace('_', '');
       
       const user = {
@@ -40,7 +40,7 @@ export default function VerifyOtp() {
         role: normalizedRole
       };
       
-      login(user, token);
+      login(user, token, refreshToken);
       toast.success('Account verified successfully!');
       navigate(`/${user.role}/dashboard`);
     } catch (error) {
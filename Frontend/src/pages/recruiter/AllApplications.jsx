@@ -169,7 +169,7 @@ export default function AllApplications() {
 
     return (
       <img
-        src={application.userProfilePicturePath} // Direct S3 URL
+        src={application.userProfilePictureUrls?.[size] || application.userProfilePicturePath} // Thumbnail sized for the avatar
         alt={application.userName || 'Applicant'}
         className={`${sizeClasses[size]} rounded-full object-cover border-2 border-blue-500`}
         onError={() => setImageError(true)}
@@ -113,7 +113,7 @@ export default function ShortlistedCandidates() {
 
     return (
       <img
-        src={application.userProfilePicturePath} // Direct S3 URL
+        src={application.userProfilePictureUrls?.[size] || application.userProfilePicturePath} // Thumbnail sized for the avatar
         alt={application.userName || 'Applicant'}
         className={`${sizeClasses[size]} rounded-full object-cover border-2 border-purple-500`}
         onError={() => setImageError(true)}